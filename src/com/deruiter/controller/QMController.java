@@ -22,12 +22,14 @@ package com.deruiter.controller;
 import com.deruiter.model.algorithm.QuineMcCluskey;
 import com.deruiter.model.exception.DistributivePropertyException;
 import com.deruiter.model.exception.InvalidInputException;
+import com.deruiter.model.exception.MinimizationCancelledException;
 import com.deruiter.model.group.Group;
 import com.deruiter.model.group.term.Term;
 import com.deruiter.model.gui.MintermTable;
 import com.deruiter.model.gui.MintermTableRow;
 import com.deruiter.model.input.Parser;
 import com.deruiter.model.report.PrimeImplicantChart;
+import com.deruiter.utilities.CancellationToken;
 import javafx.application.Platform;
 import javafx.beans.property.*;
 import javafx.beans.value.ChangeListener;
@@ -126,6 +128,7 @@ public class QMController
 	private List<String> finalSolutions = new ArrayList<String>();
 	private List<MintermTable> mintermTables = new ArrayList<MintermTable>();
 	private Thread thread;
+	private CancellationToken token;
 	private Boolean runFailed = false;
 
     /**
@@ -198,7 +201,23 @@ public class QMController
     			// Disable button since no run to stop
     			b_Cancel.setDisable(true);
 
-    			l_TotalSolutionCount.setText("(" + finalSolutions.size() + " Total)");
+    			// Count every solution (only the first solutions up to the solution limit are listed)
+    			long solutionCount = runFailed ? finalSolutions.size() : QuineMcCluskey.getSolutionCount();
+    			String totalText = (solutionCount > finalSolutions.size())
+    					? String.format("%s Total, first %d listed", (solutionCount == Long.MAX_VALUE)
+    							? "Over " + Long.MAX_VALUE : String.valueOf(solutionCount), finalSolutions.size())
+    					: solutionCount + " Total";
+
+    			// Check if the anytime budget ran out before the solution was proven minimal
+    			if(!runFailed && !QuineMcCluskey.isProvenMinimal())
+    			{
+    				l_TotalSolutionCount.setText(String.format("(%s, optimality gap %.2f%%)", totalText,
+    						QuineMcCluskey.getOptimalityGap() * 100));
+    			}
+    			else
+    			{
+    				l_TotalSolutionCount.setText("(" + totalText + ")");
+    			}
     			prop_FinalSolutions.set(FXCollections.observableArrayList(finalSolutions));
 
     			// Check if run succeeded
@@ -431,6 +450,10 @@ public class QMController
     		cb_Steps.getItems().clear();
     	}
 
+    	// New token for every run so cancelling an old run can not stop this one
+    	final CancellationToken runToken = new CancellationToken();
+    	token = runToken;
+
     	thread = new Thread(new Runnable()
 		{
 			@Override
@@ -444,9 +467,15 @@ public class QMController
                 	try
                 	{
                 		// Run Quine McCluskey Algorithm and store solutions
-                    	finalSolutions = QuineMcCluskey.runAlgorithm(funcToMinimize, prop_WorkDone);
+                    	finalSolutions = QuineMcCluskey.runAlgorithm(funcToMinimize, prop_WorkDone, runToken);
                     	runFailed = false;
                 	}
+                	catch(MinimizationCancelledException ex)
+                	{
+                		// Run stopped itself at its next check (everything it produced has been dropped)
+                		runFailed = true;
+                		finalSolutions = new ArrayList<String>();
+                	}
                 	catch(DistributivePropertyException ex)
                 	{
                 		runFailed = true;
@@ -545,7 +574,7 @@ public class QMController
     		if(reducedPrimeChart == null)
         	{
     			tv_PrimeImplicantChart.setPlaceholder(
-    					new Label("Prime Implicant Chart could not be simplified.\n(Reason: no essential primes.)"));
+    					new Label("Reduced Prime Implicant Chart is empty.\n(Reason: essential primes cover all terms.)"));
         		return; // Exit because no reduced chart to show
         	}
 
@@ -639,13 +668,11 @@ public class QMController
     /**
      * Handles what happens when the cancel button is clicked during a run which is in-progress.
      */
-    @SuppressWarnings("deprecation")
 	@FXML
     private void handleCancelRun()
     {
-    	// Stop thread
-        // Only 1 active thread at any given time so this is OK (no need to worry about deadlock)
-    	thread.stop();
+    	// Ask the run to stop (it checks its token between units of work and stops within milliseconds)
+    	token.cancel();
 
     	// Disable cancel run button
     	b_Cancel.setDisable(true);
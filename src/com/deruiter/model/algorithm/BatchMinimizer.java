@@ -0,0 +1,248 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for minimizing a batch of independent Boolean expressions concurrently.
+ * Every expression is minimized in its own session on a caller supplied executor. The number of expressions in flight
+ * is bounded (back-pressure), results are returned in input order, and a failing expression is reported in its result
+ * instead of aborting the batch. An expression running past the optional timeout is stopped and reported as failed,
+ * freeing its thread for the next expression. For large batches, only the solutions of each expression can be kept
+ * (rather than its groups, primes and charts).
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+import com.deruiter.utilities.CancellationToken;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.stream.Stream;
+
+public class BatchMinimizer
+{
+	// Instance variables
+	private Executor executor;
+	private int maxInFlight;
+	private long timeoutNanos = -1;
+	private boolean keepsSolutionsOnly;
+
+	/**
+	 * Constructor for a batch minimizer.
+	 *
+	 * @param executor
+	 * 			the executor to minimize the expressions on (platform or virtual threads).
+	 * @param maxInFlight
+	 * 			the maximum number of expressions submitted to the executor but not yet finished.
+	 */
+	public BatchMinimizer(Executor executor, int maxInFlight)
+	{
+		if(maxInFlight < 1)
+		{
+			throw new IllegalArgumentException("Maximum number of expressions in flight must be at least 1.");
+		}
+
+		this.executor = executor;
+		this.maxInFlight = maxInFlight;
+	}
+
+	/**
+	 * Sets the time each expression may run for before it is stopped.
+	 *
+	 * @param timeout
+	 * 			the time each expression may run for (counted from when it starts running).
+	 * @param unit
+	 * 			the unit of the timeout.
+	 */
+	public void setTimeout(long timeout, TimeUnit unit)
+	{
+		if(timeout < 0)
+		{
+			throw new IllegalArgumentException("Timeout must not be negative.");
+		}
+
+		this.timeoutNanos = unit.toNanos(timeout);
+	}
+
+	/**
+	 * Sets whether only the solutions of each expression are kept.
+	 * The full minimization result of an expression holds its groups, primes and charts, so keeping only the solutions
+	 * lets the memory of each result be reclaimed as soon as the expression is done.
+	 *
+	 * @param keepsSolutionsOnly
+	 * 			whether only the solutions are kept (full minimization results are kept by default).
+	 */
+	public void setSolutionsOnly(boolean keepsSolutionsOnly)
+	{
+		this.keepsSolutionsOnly = keepsSolutionsOnly;
+	}
+
+	/**
+	 * Minimizes a collection of Boolean expressions.
+	 *
+	 * @param expressions
+	 * 			the Boolean expressions to minimize.
+	 * @return the result of each expression (in input order).
+	 * @throws InterruptedException
+	 */
+	public List<BatchResult> minimizeAll(Collection<String> expressions) throws InterruptedException
+	{
+		return minimizeAll(expressions.iterator());
+	}
+
+	/**
+	 * Minimizes a stream of Boolean expressions.
+	 * The stream is consumed lazily, no faster than the executor finishes expressions.
+	 *
+	 * @param expressions
+	 * 			the Boolean expressions to minimize.
+	 * @return the result of each expression (in input order).
+	 * @throws InterruptedException
+	 */
+	public List<BatchResult> minimizeAll(Stream<String> expressions) throws InterruptedException
+	{
+		return minimizeAll(expressions.iterator());
+	}
+
+	/**
+	 * Minimizes Boolean expressions supplied by an iterator.
+	 *
+	 * @param expressions
+	 * 			the Boolean expressions to minimize.
+	 * @return the result of each expression (in input order).
+	 * @throws InterruptedException
+	 */
+	public List<BatchResult> minimizeAll(Iterator<String> expressions) throws InterruptedException
+	{
+		// Local variables
+		final Semaphore inFlight = new Semaphore(maxInFlight);
+		List<CompletableFuture<BatchResult>> futures = new ArrayList<CompletableFuture<BatchResult>>();
+		List<String> batchExpressions = new ArrayList<String>();
+		int index = 0;
+
+		while(expressions.hasNext())
+		{
+			final String expression = expressions.next();
+			final int curIndex = index++;
+			final CompletableFuture<BatchResult> future = new CompletableFuture<BatchResult>();
+
+			// Wait until an expression in flight finishes (back-pressure)
+			inFlight.acquire();
+
+			try
+			{
+				executor.execute(() ->
+				{
+					// Complete the future whatever is thrown (even an error) so the batch never waits on it forever
+					try
+					{
+						future.complete(minimize(curIndex, expression));
+					}
+					catch(Throwable ex)
+					{
+						future.completeExceptionally(ex);
+					}
+					finally
+					{
+						inFlight.release();
+					}
+				});
+			}
+			catch(RejectedExecutionException ex)
+			{
+				inFlight.release();
+				future.complete(new BatchResult(curIndex, expression, null, null, ex));
+			}
+			futures.add(future);
+			batchExpressions.add(expression);
+		}
+
+		// Collect results in input order
+		List<BatchResult> results = new ArrayList<BatchResult>(futures.size());
+		for(int i = 0; i < futures.size(); i++)
+		{
+			try
+			{
+				results.add(futures.get(i).get());
+			}
+			catch(ExecutionException ex)
+			{
+				results.add(new BatchResult(i, batchExpressions.get(i), null, null, ex));
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Minimizes a single Boolean expression of the batch.
+	 *
+	 * @param index
+	 * 			the position of the expression in the batch.
+	 * @param expression
+	 * 			the Boolean expression to minimize.
+	 * @return the result of the expression.
+	 */
+	private BatchResult minimize(int index, String expression)
+	{
+		try
+		{
+			MinimizerSession session = new MinimizerSession();
+			if(timeoutNanos >= 0)
+			{
+				session.setCancellationToken(new CancellationToken(timeoutNanos, TimeUnit.NANOSECONDS));
+			}
+
+			// Expression is checked while it is parsed
+			MinimizationResult result = session.minimize(new StringReader(expression));
+
+			return new BatchResult(index, expression, keepsSolutionsOnly ? null : result, result.getSolutions(), null);
+		}
+		catch(Exception ex)
+		{
+			return new BatchResult(index, expression, null, null, ex);
+		}
+	}
+
+	/**
+	 * Creates an executor suitable for batch minimization.
+	 * Virtual threads are used if requested and supported by the running JVM, otherwise a fixed pool with one
+	 * platform thread per core is used.
+	 *
+	 * @param preferVirtualThreads
+	 * 			whether to use virtual threads if the running JVM supports them.
+	 * @return an executor suitable for batch minimization.
+	 */
+	public static ExecutorService newExecutor(boolean preferVirtualThreads)
+	{
+		if(preferVirtualThreads)
+		{
+			try
+			{
+				// Looked up reflectively so the code still compiles and runs on JVMs without virtual threads
+				return (ExecutorService)Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+			}
+			catch(ReflectiveOperationException ex)
+			{
+				// Not supported so fall back to platform threads
+			}
+		}
+
+		return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+	}
+}
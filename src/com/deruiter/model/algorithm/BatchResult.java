@@ -0,0 +1,116 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for the result of a single expression in a batch minimization.
+ * A batch result holds either the minimization result (or only its solutions) or the failure for the expression.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+import java.util.List;
+
+public class BatchResult
+{
+	// Instance variables
+	private int index;
+	private String expression;
+	private MinimizationResult result;
+	private List<String> solutions;
+	private Exception failure;
+
+	/**
+	 * Constructor for a batch result.
+	 *
+	 * @param index
+	 * 			the position of the expression in the batch.
+	 * @param expression
+	 * 			the Boolean expression.
+	 * @param result
+	 * 			the minimization result (null if the minimization failed or only the solutions are kept).
+	 * @param solutions
+	 * 			the solutions of the minimization (null if the minimization failed).
+	 * @param failure
+	 * 			the reason the minimization failed (null if the minimization succeeded).
+	 */
+	BatchResult(int index, String expression, MinimizationResult result, List<String> solutions, Exception failure)
+	{
+		this.index = index;
+		this.expression = expression;
+		this.result = result;
+		this.solutions = solutions;
+		this.failure = failure;
+	}
+
+	/**
+	 * Retrieves the position of the expression in the batch.
+	 *
+	 * @return the position of the expression in the batch.
+	 */
+	public int getIndex()
+	{
+		return index;
+	}
+
+	/**
+	 * Retrieves the Boolean expression.
+	 *
+	 * @return the Boolean expression.
+	 */
+	public String getExpression()
+	{
+		return expression;
+	}
+
+	/**
+	 * Retrieves the minimization result.
+	 *
+	 * @return the minimization result (null if the minimization failed or only the solutions are kept).
+	 */
+	public MinimizationResult getResult()
+	{
+		return result;
+	}
+
+	/**
+	 * Retrieves the solutions representing maximally simplified Boolean expressions.
+	 *
+	 * @return the solutions of the minimization (null if the minimization failed).
+	 */
+	public List<String> getSolutions()
+	{
+		return solutions;
+	}
+
+	/**
+	 * Retrieves the reason the minimization failed.
+	 *
+	 * @return the reason the minimization failed (null if the minimization succeeded).
+	 */
+	public Exception getFailure()
+	{
+		return failure;
+	}
+
+	/**
+	 * Determines whether the minimization succeeded.
+	 *
+	 * @return whether the minimization succeeded.
+	 */
+	public boolean isSuccessful()
+	{
+		return failure == null;
+	}
+}
@@ -0,0 +1,591 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for finding minimum cost covers of a prime implicant chart by branch and bound.
+ * Each node of the search extracts essential rows, removes dominating columns and dominated rows, and is pruned when
+ * its cost plus an independent column lower bound cannot beat the best cover found so far.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+import com.deruiter.model.exception.MinimizationCancelledException;
+import com.deruiter.model.report.PrimeImplicantChart;
+import com.deruiter.utilities.Bits;
+import com.deruiter.utilities.CancellationToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BranchAndBoundCover
+{
+	// Instance variables
+	private PrimeImplicantChart chart;
+	private CostModel costModel;
+	private long[][] rows;
+	private long[][] columns;
+	private long[] rowCosts;
+	private boolean findAll;
+	private long bestCost;
+	private List<long[]> bestCovers;
+	private CancellationToken token = CancellationToken.NONE;
+	private CancellationToken budget = CancellationToken.NONE;
+	private long maxUsedHeap = Long.MAX_VALUE;
+	private boolean isBudgetSpent;
+	private int budgetChecks;
+	private long lowerBound;
+
+	// Number of budget checks per sample of the used heap
+	private static final int HEAP_SAMPLE_INTERVAL = 1024;
+
+	/**
+	 * Constructor for a branch-and-bound cover solver.
+	 *
+	 * @param chart
+	 * 			the (reduced) prime implicant chart to cover.
+	 * @param findAll
+	 * 			whether all minimum cost covers are found (otherwise only the first minimum cost cover is found).
+	 * @param costModel
+	 * 			the cost model covers are ranked by.
+	 */
+	public BranchAndBoundCover(PrimeImplicantChart chart, boolean findAll, CostModel costModel)
+	{
+		this.chart = chart;
+		this.findAll = findAll;
+		this.costModel = costModel;
+		rows = new long[chart.getRowCount()][];
+		columns = new long[chart.getColumnCount()][];
+		rowCosts = costModel.getRowCosts(chart);
+
+		for(int row = 0; row < rows.length; row++)
+		{
+			rows[row] = chart.getRow(row);
+		}
+		for(int col = 0; col < columns.length; col++)
+		{
+			columns[col] = chart.getColumn(col);
+		}
+	}
+
+	/**
+	 * Sets the cancellation token checked before each node of the search tree is searched.
+	 *
+	 * @param token
+	 * 			the cancellation token of the run.
+	 */
+	public void setCancellationToken(CancellationToken token)
+	{
+		this.token = token;
+	}
+
+	/**
+	 * Sets the budget of an anytime search (see {@link #findCoverWithinBudget}).
+	 *
+	 * @param budget
+	 * 			the token whose deadline (or cancellation) ends the search with the best cover found so far.
+	 * @param maxUsedHeap
+	 * 			the number of bytes of used heap at which the search ends (Long.MAX_VALUE for no limit).
+	 */
+	public void setBudget(CancellationToken budget, long maxUsedHeap)
+	{
+		this.budget = budget;
+		this.maxUsedHeap = maxUsedHeap;
+	}
+
+	/**
+	 * Finds the minimum cost covers of the chart (a cover costs the sum of the costs of its rows).
+	 *
+	 * @return the minimum cost covers as bitsets of chart rows (empty if the chart cannot be covered).
+	 * @throws MinimizationCancelledException
+	 * 			if the cancellation token is cancelled before the search is done.
+	 */
+	public List<long[]> findMinimumCovers()
+	{
+		// Local variables
+		long[] uncovered = Bits.create(columns.length);
+		long[] available = Bits.create(rows.length);
+
+		for(int col = 0; col < columns.length; col++)
+		{
+			Bits.set(uncovered, col);
+		}
+		for(int row = 0; row < rows.length; row++)
+		{
+			Bits.set(available, row);
+		}
+
+		// Find the minimum cost with the stronger (tie breaking) reductions first
+		boolean findAllCovers = findAll;
+		findAll = false;
+		bestCost = Long.MAX_VALUE;
+		bestCovers = new ArrayList<long[]>();
+		search(uncovered.clone(), available.clone(), Bits.create(rows.length), 0);
+
+		// Enumerate every cover of the minimum cost (the bound now prunes all costlier nodes)
+		if(findAllCovers && !bestCovers.isEmpty())
+		{
+			findAll = true;
+			bestCovers.clear();
+			search(uncovered, available, Bits.create(rows.length), 0);
+		}
+
+		return bestCovers;
+	}
+
+	/**
+	 * Finds a cover of the chart within the budget.
+	 * A greedy cover is found first, so a cover is always returned. The search then keeps looking for cheaper covers
+	 * until the whole search tree has been searched (the cover is then of minimum cost) or the budget is spent.
+	 *
+	 * @return the cheapest cover found (bitset of chart rows), or null if the chart cannot be covered.
+	 * @throws MinimizationCancelledException
+	 * 			if the cancellation token (not the budget) is cancelled before the search is done.
+	 */
+	public long[] findCoverWithinBudget()
+	{
+		// Local variables
+		long[] uncovered = Bits.create(columns.length);
+		long[] available = Bits.create(rows.length);
+
+		for(int col = 0; col < columns.length; col++)
+		{
+			Bits.set(uncovered, col);
+		}
+		for(int row = 0; row < rows.length; row++)
+		{
+			Bits.set(available, row);
+		}
+
+		findAll = false;
+		isBudgetSpent = false;
+		budgetChecks = 0;
+		bestCovers = new ArrayList<long[]>();
+		lowerBound = calculateLowerBound(uncovered, available);
+
+		// Start from a greedy cover so the search only records cheaper covers
+		GreedyCover greedy = new GreedyCover(chart, costModel);
+		greedy.setCancellationToken(token);
+		long[] greedyCover = greedy.findCover();
+		if(greedyCover == null)
+		{
+			return null;
+		}
+		lowerBound = Math.max(lowerBound, greedy.getLowerBound());
+		bestCost = greedy.getCost(greedyCover);
+		bestCovers.add(greedyCover);
+
+		search(uncovered, available, Bits.create(rows.length), 0);
+
+		// Check if the whole search tree was searched (the best cover is then proven to be of minimum cost)
+		if(!isBudgetSpent)
+		{
+			lowerBound = bestCost;
+		}
+
+		return bestCovers.get(bestCovers.size() - 1);
+	}
+
+	/**
+	 * Retrieves the proven lower bound on the cost of any cover (after an anytime search).
+	 *
+	 * @return the least any cover of the chart can cost.
+	 */
+	public long getLowerBound()
+	{
+		return lowerBound;
+	}
+
+	/**
+	 * Determines whether the anytime search finished within its budget.
+	 *
+	 * @return whether the cover found by the anytime search is proven to be of minimum cost.
+	 */
+	public boolean isProvenMinimal()
+	{
+		return !isBudgetSpent;
+	}
+
+	/**
+	 * Determines whether the budget of an anytime search has been spent.
+	 * The used heap is sampled on the first check and then every HEAP_SAMPLE_INTERVAL checks (reading the heap size is
+	 * too slow for every node).
+	 *
+	 * @return whether the budget has been spent.
+	 */
+	private boolean hasSpentBudget()
+	{
+		if(!isBudgetSpent)
+		{
+			Runtime runtime = Runtime.getRuntime();
+			isBudgetSpent = budget.isCancelled() || (maxUsedHeap != Long.MAX_VALUE
+					&& budgetChecks++ % HEAP_SAMPLE_INTERVAL == 0
+					&& runtime.totalMemory() - runtime.freeMemory() > maxUsedHeap);
+		}
+		return isBudgetSpent;
+	}
+
+	/**
+	 * Searches the covers reachable from a node of the search tree.
+	 *
+	 * @param uncovered
+	 * 			the columns still to be covered (modified by the search).
+	 * @param available
+	 * 			the rows which may still be chosen (modified by the search).
+	 * @param chosen
+	 * 			the rows chosen so far (modified by the search).
+	 * @param cost
+	 * 			the cost of the rows chosen so far.
+	 */
+	private void search(long[] uncovered, long[] available, long[] chosen, long cost)
+	{
+		token.throwIfCancelled();
+
+		// Check if the budget of an anytime search has run out (the best cover found so far is kept)
+		if(hasSpentBudget())
+		{
+			return;
+		}
+
+		// Reduce the node until nothing changes
+		boolean changed = true;
+		while(changed && !Bits.isEmpty(uncovered))
+		{
+			long essentialCost = extractEssentialRows(uncovered, available, chosen);
+			if(essentialCost < 0)
+			{
+				return; // A column can no longer be covered
+			}
+			cost += essentialCost;
+
+			changed = essentialCost > 0;
+			changed |= removeDominatingColumns(uncovered, available);
+			changed |= removeDominatedRows(uncovered, available);
+		}
+
+		// Check if every column is covered
+		if(Bits.isEmpty(uncovered))
+		{
+			recordCover(chosen, cost);
+			return;
+		}
+
+		// Check if this node cannot beat the best cover
+		long bound = cost + calculateLowerBound(uncovered, available);
+		if(bound > bestCost || (!findAll && bound == bestCost))
+		{
+			return;
+		}
+
+		// Branch on the rows of the column with the fewest rows (each branch excludes the rows of earlier branches)
+		long[] branchRows = columns[selectBranchColumn(uncovered, available)].clone();
+		Bits.and(branchRows, available);
+
+		long[] excluded = Bits.create(rows.length);
+		for(int row : orderByCost(branchRows))
+		{
+			long[] childUncovered = uncovered.clone();
+			long[] childAvailable = available.clone();
+			long[] childChosen = chosen.clone();
+
+			Bits.andNot(childUncovered, rows[row]);
+			Bits.andNot(childAvailable, excluded);
+			Bits.clear(childAvailable, row);
+			Bits.set(childChosen, row);
+
+			search(childUncovered, childAvailable, childChosen, cost + rowCosts[row]);
+			Bits.set(excluded, row);
+		}
+	}
+
+	/**
+	 * Chooses every row which is the only available row covering some uncovered column.
+	 *
+	 * @param uncovered
+	 * 			the columns still to be covered.
+	 * @param available
+	 * 			the rows which may still be chosen.
+	 * @param chosen
+	 * 			the rows chosen so far.
+	 * @return the cost of the rows chosen (-1 if an uncovered column has no available rows).
+	 */
+	private long extractEssentialRows(long[] uncovered, long[] available, long[] chosen)
+	{
+		// Local variable
+		long essentialCost = 0;
+
+		for(int col = Bits.nextSetBit(uncovered, 0); col != -1; col = Bits.nextSetBit(uncovered, col + 1))
+		{
+			int rowCount = 0;
+			int lastRow = -1;
+			for(int word = 0; word < available.length; word++)
+			{
+				long candidates = columns[col][word] & available[word];
+				rowCount += Long.bitCount(candidates);
+				if(candidates != 0)
+				{
+					lastRow = (word << 6) + Long.numberOfTrailingZeros(candidates);
+				}
+			}
+
+			if(rowCount == 0)
+			{
+				return -1;
+			}
+			else if(rowCount == 1)
+			{
+				Bits.set(chosen, lastRow);
+				Bits.clear(available, lastRow);
+				Bits.andNot(uncovered, rows[lastRow]);
+				essentialCost += rowCosts[lastRow];
+			}
+		}
+
+		return essentialCost;
+	}
+
+	/**
+	 * Removes every uncovered column whose available rows include all available rows of another uncovered column
+	 * (covering the other column always covers it as well).
+	 *
+	 * @param uncovered
+	 * 			the columns still to be covered.
+	 * @param available
+	 * 			the rows which may still be chosen.
+	 * @return whether any column was removed.
+	 */
+	private boolean removeDominatingColumns(long[] uncovered, long[] available)
+	{
+		// Local variables
+		boolean removed = false;
+		List<Integer> uncoveredColumns = new ArrayList<Integer>();
+		List<long[]> columnRows = new ArrayList<long[]>();
+
+		for(int col = Bits.nextSetBit(uncovered, 0); col != -1; col = Bits.nextSetBit(uncovered, col + 1))
+		{
+			long[] rowsOfColumn = columns[col].clone();
+			Bits.and(rowsOfColumn, available);
+			uncoveredColumns.add(col);
+			columnRows.add(rowsOfColumn);
+		}
+
+		for(int i = 0; i < uncoveredColumns.size(); i++)
+		{
+			for(int j = 0; j < uncoveredColumns.size(); j++)
+			{
+				// Skip identical and already removed columns
+				if(i == j || !Bits.get(uncovered, uncoveredColumns.get(j)))
+				{
+					continue;
+				}
+
+				if(Bits.isSubset(columnRows.get(j), columnRows.get(i)))
+				{
+					Bits.clear(uncovered, uncoveredColumns.get(i));
+					removed = true;
+					break;
+				}
+			}
+		}
+
+		return removed;
+	}
+
+	/**
+	 * Removes every available row which covers no uncovered column, or whose uncovered columns are all covered by
+	 * another available row at a lower cost (or at the same cost when only one minimum cover is wanted).
+	 *
+	 * @param uncovered
+	 * 			the columns still to be covered.
+	 * @param available
+	 * 			the rows which may still be chosen.
+	 * @return whether any row was removed.
+	 */
+	private boolean removeDominatedRows(long[] uncovered, long[] available)
+	{
+		// Local variables
+		boolean removed = false;
+		List<Integer> availableRows = new ArrayList<Integer>();
+		List<long[]> rowColumns = new ArrayList<long[]>();
+
+		for(int row = Bits.nextSetBit(available, 0); row != -1; row = Bits.nextSetBit(available, row + 1))
+		{
+			long[] columnsOfRow = rows[row].clone();
+			Bits.and(columnsOfRow, uncovered);
+			availableRows.add(row);
+			rowColumns.add(columnsOfRow);
+		}
+
+		for(int i = 0; i < availableRows.size(); i++)
+		{
+			int row = availableRows.get(i);
+			if(Bits.isEmpty(rowColumns.get(i)))
+			{
+				Bits.clear(available, row);
+				removed = true;
+				continue;
+			}
+
+			for(int j = 0; j < availableRows.size(); j++)
+			{
+				int otherRow = availableRows.get(j);
+
+				// Skip identical and already removed rows
+				if(i == j || !Bits.get(available, otherRow))
+				{
+					continue;
+				}
+
+				boolean isCheaper = rowCosts[otherRow] < rowCosts[row]
+						|| (!findAll && rowCosts[otherRow] == rowCosts[row]);
+				if(isCheaper && Bits.isSubset(rowColumns.get(i), rowColumns.get(j)))
+				{
+					Bits.clear(available, row);
+					removed = true;
+					break;
+				}
+			}
+		}
+
+		return removed;
+	}
+
+	/**
+	 * Calculates a lower bound on the cost of covering the uncovered columns.
+	 * Columns which share no available row need distinct rows, so the cheapest row of each such column is counted.
+	 * Columns with the fewest rows are tried first since they exclude the fewest other columns.
+	 *
+	 * @param uncovered
+	 * 			the columns still to be covered.
+	 * @param available
+	 * 			the rows which may still be chosen.
+	 * @return the lower bound.
+	 */
+	private long calculateLowerBound(long[] uncovered, long[] available)
+	{
+		// Local variables
+		long bound = 0;
+		long[] usedRows = Bits.create(rows.length);
+		List<long[]> columnRows = new ArrayList<long[]>();
+
+		for(int col = Bits.nextSetBit(uncovered, 0); col != -1; col = Bits.nextSetBit(uncovered, col + 1))
+		{
+			long[] rowsOfColumn = columns[col].clone();
+			Bits.and(rowsOfColumn, available);
+			columnRows.add(rowsOfColumn);
+		}
+		columnRows.sort((rows1, rows2) -> Integer.compare(Bits.cardinality(rows1), Bits.cardinality(rows2)));
+
+		for(long[] rowsOfColumn : columnRows)
+		{
+			// Check if column is independent of the columns counted so far
+			if(!Bits.intersects(rowsOfColumn, usedRows))
+			{
+				long cheapestCost = Long.MAX_VALUE;
+				for(int row = Bits.nextSetBit(rowsOfColumn, 0); row != -1; row = Bits.nextSetBit(rowsOfColumn, row + 1))
+				{
+					cheapestCost = Math.min(cheapestCost, rowCosts[row]);
+				}
+
+				bound += cheapestCost;
+				Bits.or(usedRows, rowsOfColumn);
+			}
+		}
+
+		return bound;
+	}
+
+	/**
+	 * Selects the uncovered column with the fewest available rows.
+	 *
+	 * @param uncovered
+	 * 			the columns still to be covered.
+	 * @param available
+	 * 			the rows which may still be chosen.
+	 * @return the column to branch on.
+	 */
+	private int selectBranchColumn(long[] uncovered, long[] available)
+	{
+		// Local variables
+		int branchColumn = -1;
+		int fewestRows = Integer.MAX_VALUE;
+
+		for(int col = Bits.nextSetBit(uncovered, 0); col != -1; col = Bits.nextSetBit(uncovered, col + 1))
+		{
+			int rowCount = 0;
+			for(int word = 0; word < available.length; word++)
+			{
+				rowCount += Long.bitCount(columns[col][word] & available[word]);
+			}
+
+			if(rowCount < fewestRows)
+			{
+				fewestRows = rowCount;
+				branchColumn = col;
+			}
+		}
+
+		return branchColumn;
+	}
+
+	/**
+	 * Orders rows by increasing cost (then by row number).
+	 *
+	 * @param rowSet
+	 * 			the bitset of rows to order.
+	 * @return the ordered row numbers.
+	 */
+	private int[] orderByCost(long[] rowSet)
+	{
+		// Local variables
+		int[] orderedRows = new int[Bits.cardinality(rowSet)];
+		int count = 0;
+
+		// Insertion sort (branch columns have few rows)
+		for(int row = Bits.nextSetBit(rowSet, 0); row != -1; row = Bits.nextSetBit(rowSet, row + 1))
+		{
+			int pos = count++;
+			while(pos > 0 && rowCosts[orderedRows[pos - 1]] > rowCosts[row])
+			{
+				orderedRows[pos] = orderedRows[pos - 1];
+				pos--;
+			}
+			orderedRows[pos] = row;
+		}
+
+		return orderedRows;
+	}
+
+	/**
+	 * Records a cover if it is at least as cheap as the best cover found so far.
+	 *
+	 * @param chosen
+	 * 			the rows of the cover.
+	 * @param cost
+	 * 			the cost of the cover.
+	 */
+	private void recordCover(long[] chosen, long cost)
+	{
+		if(cost < bestCost)
+		{
+			bestCost = cost;
+			bestCovers.clear();
+			bestCovers.add(chosen.clone());
+		}
+		else if(cost == bestCost && findAll)
+		{
+			bestCovers.add(chosen.clone());
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for the covers of a chart formed from the covers of its components.
+ * Every combination of one cover per component is a cover of the whole chart. Combinations are formed one at a time
+ * while iterating, so their (possibly very large) number is never held in memory.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+import com.deruiter.utilities.Bits;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+public class CartesianCovers implements Iterable<long[]>
+{
+	// Instance variables
+	private List<ChartComponent> components;
+	private List<List<long[]>> componentCovers;
+	private int rowCount;
+
+	/**
+	 * Constructor for the combined covers of a chart's components.
+	 *
+	 * @param components
+	 * 			the components of the chart.
+	 * @param componentCovers
+	 * 			the covers of each component (bitsets of component rows).
+	 * @param rowCount
+	 * 			the number of rows in the whole chart.
+	 */
+	public CartesianCovers(List<ChartComponent> components, List<List<long[]>> componentCovers, int rowCount)
+	{
+		this.components = components;
+		this.componentCovers = componentCovers;
+		this.rowCount = rowCount;
+	}
+
+	/**
+	 * Calculates the number of combined covers.
+	 *
+	 * @return the number of combined covers (Long.MAX_VALUE if the number does not fit in a long).
+	 */
+	public long size()
+	{
+		// Local variable
+		long size = 1;
+
+		for(List<long[]> covers : componentCovers)
+		{
+			if(covers.isEmpty())
+			{
+				return 0;
+			}
+			else if(size > Long.MAX_VALUE / covers.size())
+			{
+				return Long.MAX_VALUE;
+			}
+
+			size *= covers.size();
+		}
+
+		return size;
+	}
+
+	/**
+	 * Creates an iterator over the combined covers (bitsets of rows of the whole chart).
+	 * The cover of the last component changes fastest.
+	 *
+	 * @return the iterator.
+	 */
+	@Override
+	public Iterator<long[]> iterator()
+	{
+		return new Iterator<long[]>()
+		{
+			// Index of the cover used from each component
+			private int[] coverIndexes = new int[componentCovers.size()];
+			private boolean hasNext = size() > 0;
+
+			@Override
+			public boolean hasNext()
+			{
+				return hasNext;
+			}
+
+			@Override
+			public long[] next()
+			{
+				if(!hasNext)
+				{
+					throw new NoSuchElementException();
+				}
+
+				// Combine the current cover of every component
+				long[] cover = Bits.create(rowCount);
+				for(int i = 0; i < components.size(); i++)
+				{
+					long[] componentCover = componentCovers.get(i).get(coverIndexes[i]);
+					for(int row = Bits.nextSetBit(componentCover, 0); row != -1;
+						row = Bits.nextSetBit(componentCover, row + 1))
+					{
+						Bits.set(cover, components.get(i).getChartRow(row));
+					}
+				}
+
+				// Advance to the next combination
+				hasNext = false;
+				for(int i = coverIndexes.length - 1; i >= 0 && !hasNext; i--)
+				{
+					if(++coverIndexes[i] < componentCovers.get(i).size())
+					{
+						hasNext = true;
+					}
+					else
+					{
+						coverIndexes[i] = 0;
+					}
+				}
+
+				return cover;
+			}
+		};
+	}
+}
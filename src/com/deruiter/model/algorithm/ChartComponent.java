@@ -0,0 +1,209 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for an independent block of a prime implicant chart.
+ * Rows of different components share no columns, so each component can be covered on its own and the minimum covers
+ * of the chart are every combination of the minimum covers of its components.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.report.PrimeImplicantChart;
+import com.deruiter.utilities.Bits;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ChartComponent
+{
+	// Instance variables
+	private PrimeImplicantChart chart;
+	private int[] chartRows;
+
+	/**
+	 * Constructor for a chart component.
+	 *
+	 * @param chart
+	 * 			the sub-chart holding the rows and columns of the component.
+	 * @param chartRows
+	 * 			the row of the whole chart for each row of the sub-chart.
+	 */
+	public ChartComponent(PrimeImplicantChart chart, int[] chartRows)
+	{
+		this.chart = chart;
+		this.chartRows = chartRows;
+	}
+
+	/**
+	 * Splits a prime implicant chart into its connected components (rows are connected when they share a column).
+	 *
+	 * @param chart
+	 * 			the prime implicant chart to split.
+	 * @return the components ordered by their first row.
+	 */
+	public static List<ChartComponent> decompose(PrimeImplicantChart chart)
+	{
+		// Local variables
+		int[] parents = new int[chart.getRowCount()];
+		int[] componentColumns = new int[chart.getColumnCount()];
+		List<List<Integer>> componentRows = new ArrayList<List<Integer>>();
+		int[] componentOfRoot = new int[chart.getRowCount()];
+		List<ChartComponent> components = new ArrayList<ChartComponent>();
+
+		for(int row = 0; row < parents.length; row++)
+		{
+			parents[row] = row;
+		}
+
+		// Union every row of a column with the column's first row
+		for(int col = 0; col < chart.getColumnCount(); col++)
+		{
+			long[] column = chart.getColumn(col);
+			int firstRow = Bits.nextSetBit(column, 0);
+			for(int row = Bits.nextSetBit(column, firstRow + 1); row != -1; row = Bits.nextSetBit(column, row + 1))
+			{
+				int root1 = findRoot(parents, firstRow);
+				int root2 = findRoot(parents, row);
+				parents[Math.max(root1, root2)] = Math.min(root1, root2);
+			}
+		}
+
+		// Collect the rows of every root (roots are the smallest row of their component)
+		for(int row = 0; row < parents.length; row++)
+		{
+			int root = findRoot(parents, row);
+			if(root == row)
+			{
+				componentOfRoot[root] = componentRows.size();
+				componentRows.add(new ArrayList<Integer>());
+			}
+			componentRows.get(componentOfRoot[root]).add(row);
+		}
+
+		// Check if the whole chart is a single component (every column has a row, so no sub-chart is needed)
+		if(componentRows.size() == 1)
+		{
+			int[] chartRows = new int[chart.getRowCount()];
+			for(int row = 0; row < chartRows.length; row++)
+			{
+				chartRows[row] = row;
+			}
+			components.add(new ChartComponent(chart, chartRows));
+
+			return components;
+		}
+
+		for(List<Integer> rowList : componentRows)
+		{
+			components.add(formComponent(chart, rowList, componentColumns));
+		}
+
+		return components;
+	}
+
+	/**
+	 * Finds the root of a row (compressing the path on the way).
+	 *
+	 * @param parents
+	 * 			the parent of each row.
+	 * @param row
+	 * 			the row to find the root of.
+	 * @return the root row.
+	 */
+	private static int findRoot(int[] parents, int row)
+	{
+		while(parents[row] != row)
+		{
+			parents[row] = parents[parents[row]];
+			row = parents[row];
+		}
+
+		return row;
+	}
+
+	/**
+	 * Forms the component of a set of connected rows.
+	 *
+	 * @param chart
+	 * 			the prime implicant chart being split.
+	 * @param rowList
+	 * 			the rows of the component in increasing order.
+	 * @param componentColumns
+	 * 			scratch space mapping each column of the chart to its column in the component (columns belong to a
+	 * 			single component, so it is shared by every component).
+	 * @return the component.
+	 */
+	private static ChartComponent formComponent(PrimeImplicantChart chart, List<Integer> rowList,
+												int[] componentColumns)
+	{
+		// Local variables
+		List<Term> primes = new ArrayList<Term>(rowList.size());
+		List<Integer> ids = new ArrayList<Integer>();
+		long[] columnSet = Bits.create(chart.getColumnCount());
+
+		for(int row : rowList)
+		{
+			primes.add(chart.getPrimes().get(row));
+			Bits.or(columnSet, chart.getRow(row));
+		}
+
+		for(int col = Bits.nextSetBit(columnSet, 0); col != -1; col = Bits.nextSetBit(columnSet, col + 1))
+		{
+			componentColumns[col] = ids.size();
+			ids.add(chart.getIDs().get(col));
+		}
+
+		// Restrict each row to the component's columns
+		int[] chartRows = new int[rowList.size()];
+		long[][] rows = new long[rowList.size()][];
+		for(int newRow = 0; newRow < rows.length; newRow++)
+		{
+			long[] row = chart.getRow(rowList.get(newRow));
+
+			chartRows[newRow] = rowList.get(newRow);
+			rows[newRow] = Bits.create(ids.size());
+			for(int col = Bits.nextSetBit(row, 0); col != -1; col = Bits.nextSetBit(row, col + 1))
+			{
+				Bits.set(rows[newRow], componentColumns[col]);
+			}
+		}
+
+		return new ChartComponent(new PrimeImplicantChart(primes, chart.getEssentialPrimes(), rows, ids), chartRows);
+	}
+
+	/**
+	 * Retrieves the sub-chart of the component.
+	 *
+	 * @return the sub-chart.
+	 */
+	public PrimeImplicantChart getChart()
+	{
+		return chart;
+	}
+
+	/**
+	 * Retrieves the row of the whole chart for a row of the component.
+	 *
+	 * @param componentRow
+	 * 			the row of the component's sub-chart.
+	 * @return the row of the whole chart.
+	 */
+	public int getChartRow(int componentRow)
+	{
+		return chartRows[componentRow];
+	}
+}
@@ -0,0 +1,355 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for reducing a prime implicant chart to its cyclic core.
+ * Essential rows are extracted, dominated rows and dominating columns are removed, and essential rows are extracted
+ * again until nothing changes. Whatever is left (the cyclic core) is the only part of the chart which needs to be
+ * searched for minimum covers.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.report.PrimeImplicantChart;
+import com.deruiter.utilities.Bits;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ChartReducer
+{
+	// Instance variables
+	private PrimeImplicantChart chart;
+	private long[] essentialRows;
+	private long[] coreRows;
+	private long[] coreColumns;
+	private int[] chartRowOfCoreRow;
+	private long[] rowCosts;
+	private CoverMode coverMode = CoverMode.PETRICKS_METHOD;
+
+	/**
+	 * Constructor for a chart reducer.
+	 *
+	 * @param chart
+	 * 			the prime implicant chart to reduce.
+	 * @param costModel
+	 * 			the cost model the minimum covers are ranked by.
+	 */
+	public ChartReducer(PrimeImplicantChart chart, CostModel costModel)
+	{
+		this.chart = chart;
+		rowCosts = costModel.getRowCosts(chart);
+	}
+
+	/**
+	 * Sets the cover mode the chart is reduced for.
+	 * Finding dominated rows and dominating columns is quadratic in the size of the chart, which a greedy cover of a
+	 * huge chart cannot afford, so for the greedy mode only the essential rows and the rows covering no remaining column
+	 * are removed. For the modes finding every minimum cover, a dominated row is only removed when the row dominating
+	 * it costs strictly less; for the other modes, it is also removed when the row dominating it costs the same.
+	 *
+	 * @param coverMode
+	 * 			the cover mode the cyclic core will be covered by (Petrick's method by default).
+	 */
+	public void setCoverMode(CoverMode coverMode)
+	{
+		this.coverMode = coverMode;
+	}
+
+	/**
+	 * Reduces the chart until no more essential rows, dominated rows or dominating columns are found.
+	 *
+	 * A dominated row is only removed when the row dominating it costs strictly less, so every minimum cost solution of
+	 * the original chart is still a solution of the cyclic core plus the essential rows. If only one minimum cover is
+	 * wanted, a dominated row is also removed when the row dominating it costs the same, so at least one minimum cost
+	 * solution is kept (of rows covering the same columns at the same cost, only the lowest row is kept).
+	 *
+	 * @return the cyclic core (null if the essential rows cover the whole chart).
+	 */
+	public PrimeImplicantChart reduce()
+	{
+		essentialRows = Bits.create(chart.getRowCount());
+		coreRows = Bits.create(chart.getRowCount());
+		coreColumns = Bits.create(chart.getColumnCount());
+
+		for(int row = 0; row < chart.getRowCount(); row++)
+		{
+			Bits.set(coreRows, row);
+		}
+		for(int col = 0; col < chart.getColumnCount(); col++)
+		{
+			Bits.set(coreColumns, col);
+		}
+
+		// Reduce until nothing changes
+		boolean changed = true;
+		while(changed && !Bits.isEmpty(coreColumns))
+		{
+			changed = extractEssentialRows();
+			if(coverMode != CoverMode.GREEDY)
+			{
+				changed |= removeDominatedRows();
+				changed |= removeDominatingColumns();
+			}
+		}
+
+		// Check if rows covering no remaining column are still left
+		if(coverMode == CoverMode.GREEDY)
+		{
+			removeEmptyRows();
+		}
+
+		if(Bits.isEmpty(coreColumns))
+		{
+			return null;
+		}
+
+		return formCyclicCore();
+	}
+
+	/**
+	 * Retrieves the rows which are part of every solution (essential rows of the chart and of each reduction).
+	 *
+	 * @return a bitset of chart rows.
+	 */
+	public long[] getEssentialRows()
+	{
+		return essentialRows;
+	}
+
+	/**
+	 * Retrieves the chart row of a cyclic core row (only valid once the chart has been reduced to a cyclic core).
+	 *
+	 * @param coreRow
+	 * 			the row of the cyclic core.
+	 * @return the row of the chart.
+	 */
+	public int getChartRow(int coreRow)
+	{
+		return chartRowOfCoreRow[coreRow];
+	}
+
+	/**
+	 * Chooses every row which is the only remaining row covering some remaining column.
+	 *
+	 * @return whether any row was chosen.
+	 */
+	private boolean extractEssentialRows()
+	{
+		// Local variable
+		boolean extracted = false;
+
+		for(int col = Bits.nextSetBit(coreColumns, 0); col != -1; col = Bits.nextSetBit(coreColumns, col + 1))
+		{
+			long[] rowsOfColumn = chart.getColumn(col).clone();
+			Bits.and(rowsOfColumn, coreRows);
+
+			if(Bits.cardinality(rowsOfColumn) == 1)
+			{
+				int row = Bits.nextSetBit(rowsOfColumn, 0);
+				Bits.set(essentialRows, row);
+				Bits.clear(coreRows, row);
+				Bits.andNot(coreColumns, chart.getRow(row));
+				extracted = true;
+			}
+		}
+
+		return extracted;
+	}
+
+	/**
+	 * Removes every remaining row which covers no remaining column, or whose remaining columns are all covered by a
+	 * cheaper remaining row (or one costing the same if only one minimum cover is wanted).
+	 *
+	 * @return whether any row was removed.
+	 */
+	private boolean removeDominatedRows()
+	{
+		// Local variables
+		boolean removed = false;
+		List<Integer> rows = new ArrayList<Integer>();
+		List<long[]> rowColumns = new ArrayList<long[]>();
+
+		for(int row = Bits.nextSetBit(coreRows, 0); row != -1; row = Bits.nextSetBit(coreRows, row + 1))
+		{
+			long[] columnsOfRow = chart.getRow(row).clone();
+			Bits.and(columnsOfRow, coreColumns);
+			rows.add(row);
+			rowColumns.add(columnsOfRow);
+		}
+
+		for(int i = 0; i < rows.size(); i++)
+		{
+			int row = rows.get(i);
+			if(Bits.isEmpty(rowColumns.get(i)))
+			{
+				Bits.clear(coreRows, row);
+				removed = true;
+				continue;
+			}
+
+			for(int j = 0; j < rows.size(); j++)
+			{
+				int otherRow = rows.get(j);
+
+				// Skip identical and already removed rows
+				if(i == j || !Bits.get(coreRows, otherRow))
+				{
+					continue;
+				}
+
+				if(Bits.isSubset(rowColumns.get(i), rowColumns.get(j))
+						&& isNoCostlier(otherRow, row, Bits.isSubset(rowColumns.get(j), rowColumns.get(i))))
+				{
+					Bits.clear(coreRows, row);
+					removed = true;
+					break;
+				}
+			}
+		}
+
+		return removed;
+	}
+
+	/**
+	 * Removes every remaining row which covers no remaining column.
+	 */
+	private void removeEmptyRows()
+	{
+		for(int row = Bits.nextSetBit(coreRows, 0); row != -1; row = Bits.nextSetBit(coreRows, row + 1))
+		{
+			if(!Bits.intersects(chart.getRow(row), coreColumns))
+			{
+				Bits.clear(coreRows, row);
+			}
+		}
+	}
+
+	/**
+	 * Removes every remaining column whose remaining rows include all remaining rows of another remaining column
+	 * (covering the other column always covers it as well).
+	 *
+	 * @return whether any column was removed.
+	 */
+	private boolean removeDominatingColumns()
+	{
+		// Local variables
+		boolean removed = false;
+		List<Integer> columns = new ArrayList<Integer>();
+		List<long[]> columnRows = new ArrayList<long[]>();
+
+		for(int col = Bits.nextSetBit(coreColumns, 0); col != -1; col = Bits.nextSetBit(coreColumns, col + 1))
+		{
+			long[] rowsOfColumn = chart.getColumn(col).clone();
+			Bits.and(rowsOfColumn, coreRows);
+			columns.add(col);
+			columnRows.add(rowsOfColumn);
+		}
+
+		for(int i = 0; i < columns.size(); i++)
+		{
+			for(int j = 0; j < columns.size(); j++)
+			{
+				// Skip identical and already removed columns
+				if(i == j || !Bits.get(coreColumns, columns.get(j)))
+				{
+					continue;
+				}
+
+				if(Bits.isSubset(columnRows.get(j), columnRows.get(i)))
+				{
+					Bits.clear(coreColumns, columns.get(i));
+					removed = true;
+					break;
+				}
+			}
+		}
+
+		return removed;
+	}
+
+	/**
+	 * Determines whether a dominating row may replace the row it dominates.
+	 * A row costing the same only may if one minimum cover is wanted. Rows covering the same columns at the same cost
+	 * dominate each other, so only the lower row counts as dominating.
+	 *
+	 * @param row
+	 * 			the dominating row.
+	 * @param otherRow
+	 * 			the dominated row.
+	 * @param isSameColumns
+	 * 			whether both rows cover the same columns.
+	 * @return whether the row costs less, or costs the same and may replace the other row.
+	 */
+	private boolean isNoCostlier(int row, int otherRow, boolean isSameColumns)
+	{
+		if(rowCosts[row] != rowCosts[otherRow] || coverMode.findsAllMinimumCovers())
+		{
+			return rowCosts[row] < rowCosts[otherRow];
+		}
+		return !isSameColumns || row < otherRow;
+	}
+
+	/**
+	 * Forms the cyclic core from the remaining rows and columns.
+	 *
+	 * @return the cyclic core.
+	 */
+	private PrimeImplicantChart formCyclicCore()
+	{
+		// Local variables
+		List<Integer> ids = new ArrayList<Integer>();
+		List<Term> corePrimes = new ArrayList<Term>();
+		List<Term> essentialPrimes = new ArrayList<Term>();
+		List<long[]> rows = new ArrayList<long[]>();
+		int[] coreColumnOfColumn = new int[chart.getColumnCount()];
+		chartRowOfCoreRow = new int[Bits.cardinality(coreRows)];
+
+		for(int col = Bits.nextSetBit(coreColumns, 0); col != -1; col = Bits.nextSetBit(coreColumns, col + 1))
+		{
+			coreColumnOfColumn[col] = ids.size();
+			ids.add(chart.getIDs().get(col));
+		}
+
+		for(int row = 0; row < chart.getRowCount(); row++)
+		{
+			if(Bits.get(essentialRows, row))
+			{
+				essentialPrimes.add(chart.getPrimes().get(row));
+			}
+		}
+
+		// Store remaining rows restricted to the remaining columns
+		for(int row = Bits.nextSetBit(coreRows, 0); row != -1; row = Bits.nextSetBit(coreRows, row + 1))
+		{
+			long[] coreRow = Bits.create(ids.size());
+			long[] chartRow = chart.getRow(row);
+			for(int col = Bits.nextSetBit(chartRow, 0); col != -1; col = Bits.nextSetBit(chartRow, col + 1))
+			{
+				if(Bits.get(coreColumns, col))
+				{
+					Bits.set(coreRow, coreColumnOfColumn[col]);
+				}
+			}
+
+			chartRowOfCoreRow[corePrimes.size()] = row;
+			corePrimes.add(chart.getPrimes().get(row));
+			rows.add(coreRow);
+		}
+
+		return new PrimeImplicantChart(corePrimes, essentialPrimes, rows.toArray(new long[rows.size()][]), ids);
+	}
+}
@@ -0,0 +1,154 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for the cost by which covers (and the solutions written from them) are ranked.
+ * The cost of a solution is the sum of the costs of its terms, and the cost of a term is a weighted mix of one term,
+ * its literal count and its gate input count, all taken from the popcounts of its cube. Since the cost is additive,
+ * it bounds the cover searches directly and no solution has to be written out to be ranked.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.report.PrimeImplicantChart;
+
+import java.util.List;
+
+public final class CostModel
+{
+	/**
+	 * Fewest terms (any number of literals).
+	 */
+	public static final CostModel TERM_COUNT = new CostModel(1, 0, 0);
+
+	/**
+	 * Fewest literals (any number of terms).
+	 */
+	public static final CostModel LITERAL_COUNT = new CostModel(0, 1, 0);
+
+	/**
+	 * Fewest gate inputs of a two level AND-OR circuit (the inputs of every AND gate plus one OR gate input per term).
+	 */
+	public static final CostModel GATE_INPUTS = new CostModel(0, 0, 1);
+
+	/**
+	 * Fewest terms, then fewest literals (the default).
+	 */
+	public static final CostModel TERMS_THEN_LITERALS = new CostModel(1L << 32, 1, 0);
+
+	// Instance variables
+	private final long termWeight;
+	private final long literalWeight;
+	private final long gateInputWeight;
+
+	/**
+	 * Constructor for a cost model.
+	 *
+	 * @param termWeight
+	 * 			the cost of each term.
+	 * @param literalWeight
+	 * 			the cost of each literal.
+	 * @param gateInputWeight
+	 * 			the cost of each gate input.
+	 */
+	private CostModel(long termWeight, long literalWeight, long gateInputWeight)
+	{
+		this.termWeight = termWeight;
+		this.literalWeight = literalWeight;
+		this.gateInputWeight = gateInputWeight;
+	}
+
+	/**
+	 * Creates a cost model weighing terms, literals and gate inputs.
+	 *
+	 * @param termWeight
+	 * 			the cost of each term.
+	 * @param literalWeight
+	 * 			the cost of each literal.
+	 * @param gateInputWeight
+	 * 			the cost of each gate input.
+	 * @return the cost model.
+	 * @throws IllegalArgumentException
+	 * 			if a weight is negative.
+	 */
+	public static CostModel weighted(long termWeight, long literalWeight, long gateInputWeight)
+	{
+		if(termWeight < 0 || literalWeight < 0 || gateInputWeight < 0)
+		{
+			throw new IllegalArgumentException("Cost weights cannot be negative");
+		}
+
+		return new CostModel(termWeight, literalWeight, gateInputWeight);
+	}
+
+	/**
+	 * Calculates the cost of a term.
+	 *
+	 * @param cube
+	 * 			the cube of the term.
+	 * @return the cost of the term.
+	 */
+	public long getTermCost(Cube cube)
+	{
+		// Local variables
+		int literalCount = cube.getLiteralCount();
+		int gateInputCount = ((literalCount > 1) ? literalCount : 0) + 1; // A single literal needs no AND gate
+
+		return termWeight + literalWeight * literalCount + gateInputWeight * gateInputCount;
+	}
+
+	/**
+	 * Calculates the cost of a set of terms.
+	 *
+	 * @param terms
+	 * 			the terms.
+	 * @return the sum of the costs of the terms.
+	 */
+	public long getCost(List<Term> terms)
+	{
+		// Local variable
+		long cost = 0;
+
+		for(Term term : terms)
+		{
+			cost += getTermCost(term.getCube());
+		}
+
+		return cost;
+	}
+
+	/**
+	 * Calculates the cost of every row of a prime implicant chart.
+	 *
+	 * @param chart
+	 * 			the prime implicant chart.
+	 * @return the cost of the prime of each row.
+	 */
+	public long[] getRowCosts(PrimeImplicantChart chart)
+	{
+		// Local variables
+		List<Term> primes = chart.getPrimes();
+		long[] rowCosts = new long[primes.size()];
+
+		for(int row = 0; row < rowCosts.length; row++)
+		{
+			rowCosts[row] = getTermCost(primes.get(row).getCube());
+		}
+
+		return rowCosts;
+	}
+}
@@ -0,0 +1,60 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model enumeration of the ways the reduced prime implicant chart can be covered.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+public enum CoverMode
+{
+	/**
+	 * Expand the product of sums with Petrick's method (exponential in the size of the reduced chart).
+	 */
+	PETRICKS_METHOD,
+
+	/**
+	 * Find every minimum cost cover with the branch-and-bound solver.
+	 */
+	ALL_MINIMUM_COVERS,
+
+	/**
+	 * Find the first minimum cost cover with the branch-and-bound solver.
+	 */
+	FIRST_MINIMUM_COVER,
+
+	/**
+	 * Find a greedy cover right away and improve it with the branch-and-bound solver until the anytime budget is
+	 * spent (the cover is only minimal if the search finished). Without an anytime budget the search runs to the end.
+	 */
+	ANYTIME,
+
+	/**
+	 * Find a greedy cover only (near-linear in the size of the reduced chart, for charts too large to search).
+	 * The cover is only minimal if it meets the lower bound found along with it.
+	 */
+	GREEDY;
+
+	/**
+	 * Determines whether the cover mode finds every minimum cost cover (rather than a single cover).
+	 *
+	 * @return whether every minimum cost cover is found.
+	 */
+	public boolean findsAllMinimumCovers()
+	{
+		return this == PETRICKS_METHOD || this == ALL_MINIMUM_COVERS;
+	}
+}
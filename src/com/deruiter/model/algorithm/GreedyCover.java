@@ -0,0 +1,367 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for quickly finding a cover of a prime implicant chart which is not necessarily of minimum cost.
+ * Rows are chosen by cost-effectiveness (cost per newly covered column) from a lazily updated priority queue, then
+ * rows made redundant by later choices are dropped. A lower bound on the number of rows of any cover is found along
+ * the way, so the cover can be compared against it.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+import com.deruiter.model.exception.MinimizationCancelledException;
+import com.deruiter.model.report.PrimeImplicantChart;
+import com.deruiter.utilities.Bits;
+import com.deruiter.utilities.CancellationToken;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+public class GreedyCover
+{
+	// Instance variables
+	private int[][] rowColumns;
+	private int[][] columnRows;
+	private long[] rowCosts;
+	private long lowerBound;
+	private CancellationToken token = CancellationToken.NONE;
+
+	/**
+	 * Constructor for a greedy cover solver.
+	 *
+	 * @param chart
+	 * 			the (reduced) prime implicant chart to cover.
+	 * @param costModel
+	 * 			the cost model rows are chosen by.
+	 */
+	public GreedyCover(PrimeImplicantChart chart, CostModel costModel)
+	{
+		rowColumns = new int[chart.getRowCount()][];
+		columnRows = new int[chart.getColumnCount()][];
+		rowCosts = costModel.getRowCosts(chart);
+
+		for(int row = 0; row < rowColumns.length; row++)
+		{
+			rowColumns[row] = toIndices(chart.getRow(row));
+		}
+		for(int col = 0; col < columnRows.length; col++)
+		{
+			columnRows[col] = toIndices(chart.getColumn(col));
+		}
+	}
+
+	/**
+	 * Sets the cancellation token checked before each row is chosen.
+	 *
+	 * @param token
+	 * 			the cancellation token of the run.
+	 */
+	public void setCancellationToken(CancellationToken token)
+	{
+		this.token = token;
+	}
+
+	/**
+	 * Finds a cover of the chart.
+	 * Each step chooses the row with the lowest cost per uncovered column it covers. Since a row's count of uncovered
+	 * columns only ever drops, a queued count is an upper bound: a row is only recounted when it reaches the head of
+	 * the queue, and requeued if its count has dropped. Chosen rows whose columns are all covered by other chosen rows
+	 * are then dropped, most expensive first.
+	 *
+	 * @return the cover (bitset of chart rows), or null if the chart cannot be covered.
+	 * @throws MinimizationCancelledException
+	 * 			if the cancellation token is cancelled before the cover is found.
+	 */
+	public long[] findCover()
+	{
+		// Local variables
+		boolean[] isCovered = new boolean[columnRows.length];
+		int[] coverCounts = new int[columnRows.length];
+		long[] chosen = Bits.create(rowColumns.length);
+		int uncoveredCount = columnRows.length;
+		PriorityQueue<long[]> queue = new PriorityQueue<long[]>(Math.max(1, rowColumns.length),
+				(entry1, entry2) -> compareEffectiveness(entry1, entry2));
+
+		lowerBound = calculateLowerBound();
+
+		// Check if an uncovered column has no rows
+		for(int[] rows : columnRows)
+		{
+			if(rows.length == 0)
+			{
+				return null;
+			}
+		}
+
+		// Queue entries are {row, uncovered column count}
+		for(int row = 0; row < rowColumns.length; row++)
+		{
+			if(rowColumns[row].length > 0)
+			{
+				queue.add(new long[] {row, rowColumns[row].length});
+			}
+		}
+
+		while(uncoveredCount > 0)
+		{
+			token.throwIfCancelled();
+
+			long[] entry = queue.poll();
+			int row = (int) entry[0];
+
+			int gain = 0;
+			for(int col : rowColumns[row])
+			{
+				if(!isCovered[col])
+				{
+					gain++;
+				}
+			}
+
+			// Check if the queued count is out of date (requeue the row unless it covers nothing new)
+			if(gain < entry[1])
+			{
+				if(gain > 0)
+				{
+					entry[1] = gain;
+					queue.add(entry);
+				}
+				continue;
+			}
+
+			Bits.set(chosen, row);
+			for(int col : rowColumns[row])
+			{
+				if(!isCovered[col])
+				{
+					isCovered[col] = true;
+					uncoveredCount--;
+				}
+				coverCounts[col]++;
+			}
+		}
+
+		removeRedundantRows(chosen, coverCounts);
+
+		return chosen;
+	}
+
+	/**
+	 * Retrieves the lower bound on the cost of any cover (found along with the cover).
+	 *
+	 * @return the least any cover of the chart can cost.
+	 */
+	public long getLowerBound()
+	{
+		return lowerBound;
+	}
+
+	/**
+	 * Calculates the cost of a cover.
+	 *
+	 * @param cover
+	 * 			the cover (bitset of chart rows).
+	 * @return the sum of the costs of the cover's rows.
+	 */
+	public long getCost(long[] cover)
+	{
+		// Local variable
+		long cost = 0;
+
+		for(int row = Bits.nextSetBit(cover, 0); row != -1; row = Bits.nextSetBit(cover, row + 1))
+		{
+			cost += rowCosts[row];
+		}
+
+		return cost;
+	}
+
+	/**
+	 * Compares queue entries by cost-effectiveness (lowest cost per uncovered column first, then lowest row).
+	 *
+	 * @param entry1
+	 * 			the first {row, uncovered column count} entry.
+	 * @param entry2
+	 * 			the second {row, uncovered column count} entry.
+	 * @return a negative number if the first entry is more cost-effective, a positive number if it is less, and 0 if
+	 * 		   both entries are the same row.
+	 */
+	private int compareEffectiveness(long[] entry1, long[] entry2)
+	{
+		// Compare cost1 / gain1 with cost2 / gain2 without dividing
+		double ratio1 = (double) rowCosts[(int) entry1[0]] * entry2[1];
+		double ratio2 = (double) rowCosts[(int) entry2[0]] * entry1[1];
+		if(ratio1 != ratio2)
+		{
+			return (ratio1 < ratio2) ? -1 : 1;
+		}
+		return Long.compare(entry1[0], entry2[0]);
+	}
+
+	/**
+	 * Drops chosen rows (most expensive first) whose columns are all covered by other chosen rows.
+	 *
+	 * @param chosen
+	 * 			the chosen rows (modified by removing redundant rows).
+	 * @param coverCounts
+	 * 			the number of chosen rows covering each column (modified by removing redundant rows).
+	 */
+	private void removeRedundantRows(long[] chosen, int[] coverCounts)
+	{
+		// Local variables
+		int[] chosenRows = new int[Bits.cardinality(chosen)];
+		int count = 0;
+
+		for(int row = Bits.nextSetBit(chosen, 0); row != -1; row = Bits.nextSetBit(chosen, row + 1))
+		{
+			chosenRows[count++] = row;
+		}
+		sortByDescendingCost(chosenRows);
+
+		for(int row : chosenRows)
+		{
+			boolean isRedundant = true;
+			for(int i = 0; i < rowColumns[row].length && isRedundant; i++)
+			{
+				isRedundant = coverCounts[rowColumns[row][i]] > 1;
+			}
+
+			if(isRedundant)
+			{
+				Bits.clear(chosen, row);
+				for(int col : rowColumns[row])
+				{
+					coverCounts[col]--;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Calculates a lower bound on the cost of any cover.
+	 * Columns which share no row need distinct rows, so a set of such columns is collected (fewest rows first) and the
+	 * cheapest row of each is counted. Each row covers at most as many columns as the largest row, so a cover also
+	 * needs enough rows for that, each costing at least the cheapest row; the larger bound is returned.
+	 *
+	 * @return the lower bound.
+	 */
+	private long calculateLowerBound()
+	{
+		// Local variables
+		boolean[] isUsed = new boolean[rowColumns.length];
+		int[] columnOrder = new int[columnRows.length];
+		int[] sizeCounts = new int[rowColumns.length + 2];
+		long independentBound = 0;
+		int largestRow = 0;
+		long cheapestCost = Long.MAX_VALUE;
+
+		// Stable counting sort of the columns by number of rows
+		for(int[] rows : columnRows)
+		{
+			sizeCounts[rows.length + 1]++;
+		}
+		for(int size = 1; size < sizeCounts.length; size++)
+		{
+			sizeCounts[size] += sizeCounts[size - 1];
+		}
+		for(int col = 0; col < columnRows.length; col++)
+		{
+			columnOrder[sizeCounts[columnRows[col].length]++] = col;
+		}
+
+		for(int col : columnOrder)
+		{
+			// Check if column is independent of the columns counted so far
+			boolean isIndependent = true;
+			for(int i = 0; i < columnRows[col].length && isIndependent; i++)
+			{
+				isIndependent = !isUsed[columnRows[col][i]];
+			}
+
+			if(isIndependent && columnRows[col].length > 0)
+			{
+				long cheapestColumnCost = Long.MAX_VALUE;
+				for(int row : columnRows[col])
+				{
+					isUsed[row] = true;
+					cheapestColumnCost = Math.min(cheapestColumnCost, rowCosts[row]);
+				}
+				independentBound += cheapestColumnCost;
+			}
+		}
+
+		for(int row = 0; row < rowColumns.length; row++)
+		{
+			if(rowColumns[row].length > 0)
+			{
+				largestRow = Math.max(largestRow, rowColumns[row].length);
+				cheapestCost = Math.min(cheapestCost, rowCosts[row]);
+			}
+		}
+		if(largestRow > 0)
+		{
+			long rowCountBound = (columnRows.length + largestRow - 1) / largestRow;
+			independentBound = Math.max(independentBound, rowCountBound * cheapestCost);
+		}
+
+		return independentBound;
+	}
+
+	/**
+	 * Sorts rows by decreasing cost (then by decreasing row number).
+	 *
+	 * @param rows
+	 * 			the rows to sort (sorted in place).
+	 */
+	private void sortByDescendingCost(int[] rows)
+	{
+		// Local variable
+		Integer[] orderedRows = new Integer[rows.length];
+
+		for(int i = 0; i < rows.length; i++)
+		{
+			orderedRows[i] = rows[i];
+		}
+		Arrays.sort(orderedRows, (row1, row2) -> (rowCosts[row1] != rowCosts[row2])
+				? Long.compare(rowCosts[row2], rowCosts[row1]) : Integer.compare(row2, row1));
+
+		for(int i = 0; i < rows.length; i++)
+		{
+			rows[i] = orderedRows[i];
+		}
+	}
+
+	/**
+	 * Converts a bitset to the indices of its set bits.
+	 *
+	 * @param words
+	 * 			the bitset.
+	 * @return the indices in increasing order.
+	 */
+	private static int[] toIndices(long[] words)
+	{
+		// Local variables
+		int[] indices = new int[Bits.cardinality(words)];
+		int count = 0;
+
+		for(int index = Bits.nextSetBit(words, 0); index != -1; index = Bits.nextSetBit(words, index + 1))
+		{
+			indices[count++] = index;
+		}
+
+		return indices;
+	}
+}
@@ -0,0 +1,251 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for the result of a minimization.
+ * A minimization result holds everything produced by a single run of the Quine-McCluskey algorithm and Petrick's
+ * method (steps, groups, primes, charts and solutions).
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+import com.deruiter.model.group.Group;
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.report.PrimeImplicantChart;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
+
+public class MinimizationResult
+{
+	// Instance variables
+	private SolutionSequence solutionSequence;
+	private List<String> solutions;
+	private List<Integer> steps;
+	private List<Group> groups;
+	private List<Term> primes;
+	private PrimeImplicantChart primeChart;
+	private PrimeImplicantChart reducedPrimeChart;
+	private CostModel costModel;
+	private long lowerBound;
+	private boolean isProvenMinimal;
+
+	/**
+	 * Constructor for an empty minimization result (nothing to minimize).
+	 */
+	MinimizationResult()
+	{
+		this(SolutionSequence.empty(), new ArrayList<String>(0), new ArrayList<Integer>(0), new ArrayList<Group>(0),
+				new ArrayList<Term>(0), null, null, CostModel.TERMS_THEN_LITERALS, 0, true);
+	}
+
+	/**
+	 * Constructor for a minimization result.
+	 *
+	 * @param solutionSequence
+	 * 			every solution representing a maximally simplified Boolean expression (written when enumerated).
+	 * @param solutions
+	 * 			the solutions written out by the run (the first solutions of the sequence).
+	 * @param steps
+	 * 			the step numbers of minimization.
+	 * @param groups
+	 * 			the minterm groups formed at each step.
+	 * @param primes
+	 * 			the primes found by the Quine McCluskey algorithm.
+	 * @param primeChart
+	 * 			the prime implicant chart.
+	 * @param reducedPrimeChart
+	 * 			the reduced prime implicant chart (null if the chart could not be reduced).
+	 * @param costModel
+	 * 			the cost model the solutions are ranked by.
+	 * @param lowerBound
+	 * 			the proven lower bound on the cost of a solution.
+	 * @param isProvenMinimal
+	 * 			whether the solutions are proven to be minimal.
+	 */
+	MinimizationResult(SolutionSequence solutionSequence, List<String> solutions, List<Integer> steps,
+					   List<Group> groups, List<Term> primes, PrimeImplicantChart primeChart,
+					   PrimeImplicantChart reducedPrimeChart, CostModel costModel, long lowerBound, boolean isProvenMinimal)
+	{
+		this.solutionSequence = solutionSequence;
+		this.solutions = Collections.unmodifiableList(solutions);
+		this.steps = Collections.unmodifiableList(steps);
+		this.groups = Collections.unmodifiableList(groups);
+		this.primes = Collections.unmodifiableList(primes);
+		this.primeChart = primeChart;
+		this.reducedPrimeChart = reducedPrimeChart;
+		this.costModel = costModel;
+		this.lowerBound = lowerBound;
+		this.isProvenMinimal = isProvenMinimal;
+	}
+
+	/**
+	 * Retrieves the solutions representing maximally simplified Boolean expressions.
+	 *
+	 * @return the solutions written out by the run (only the first solutions if the session limits them).
+	 */
+	public List<String> getSolutions()
+	{
+		return solutions;
+	}
+
+	/**
+	 * Streams every solution representing a maximally simplified Boolean expression.
+	 * Solutions are written only as the stream reaches them (use limit() for the first solutions), so the stream
+	 * takes the same memory however many solutions there are.
+	 *
+	 * @return a new sequential stream over every solution.
+	 */
+	public Stream<String> streamSolutions()
+	{
+		return solutionSequence.stream();
+	}
+
+	/**
+	 * Retrieves the number of solutions (without writing any of them).
+	 *
+	 * @return the number of solutions (Long.MAX_VALUE if the number does not fit in a long).
+	 */
+	public long getSolutionCount()
+	{
+		return solutionSequence.size();
+	}
+
+	/**
+	 * Retrieves the terms of a solution (the primes it is made of, in the order they are written).
+	 * The terms are formed from the solution's cover, so any solution can be retrieved, not just those written out.
+	 *
+	 * @param solutionIndex
+	 * 			the index of the solution.
+	 * @return the terms of the solution.
+	 */
+	public List<Term> getCover(int solutionIndex)
+	{
+		return solutionSequence.getCover(solutionIndex);
+	}
+
+	/**
+	 * Retrieves the step numbers of minimization.
+	 *
+	 * @return the step numbers of minimization.
+	 */
+	public List<Integer> getSteps()
+	{
+		return steps;
+	}
+
+	/**
+	 * Retrieves the minterm groups formed at each step.
+	 *
+	 * @return the minterm groups formed at each step.
+	 */
+	public List<Group> getGroups()
+	{
+		return groups;
+	}
+
+	/**
+	 * Retrieves the primes found by the Quine McCluskey algorithm.
+	 *
+	 * @return the primes found by the Quine McCluskey algorithm.
+	 */
+	public List<Term> getPrimes()
+	{
+		return primes;
+	}
+
+	/**
+	 * Retrieves the prime implicant chart.
+	 *
+	 * @return the prime implicant chart (null if there was nothing to minimize).
+	 */
+	public PrimeImplicantChart getPrimeImplicantChart()
+	{
+		return primeChart;
+	}
+
+	/**
+	 * Retrieves the reduced prime implicant chart.
+	 *
+	 * @return the reduced prime implicant chart (null if the chart could not be reduced).
+	 */
+	public PrimeImplicantChart getReducedPrimeImplicantChart()
+	{
+		return reducedPrimeChart;
+	}
+
+	/**
+	 * Retrieves the proven lower bound on the cost of a solution.
+	 *
+	 * @return the least any solution can cost under the cost model.
+	 */
+	public long getLowerBound()
+	{
+		return lowerBound;
+	}
+
+	/**
+	 * Determines whether the solutions are proven to be minimal.
+	 * Only a greedy run, or a run whose anytime budget ran out before its search finished, can return a solution not
+	 * proven minimal.
+	 *
+	 * @return whether the solutions are proven to be minimal.
+	 */
+	public boolean isProvenMinimal()
+	{
+		return isProvenMinimal;
+	}
+
+	/**
+	 * Retrieves the number of primes of the first solution (formed from its cover rather than its written form).
+	 *
+	 * @return the number of primes of the first solution (0 if there are no solutions).
+	 */
+	public int getPrimeCount()
+	{
+		return solutionSequence.isEmpty() ? 0 : getCover(0).size();
+	}
+
+	/**
+	 * Calculates the cost of a solution under the cost model.
+	 *
+	 * @param solutionIndex
+	 * 			the index of the solution.
+	 * @return the cost of the solution.
+	 */
+	public long getCost(int solutionIndex)
+	{
+		return costModel.getCost(getCover(solutionIndex));
+	}
+
+	/**
+	 * Calculates how far the first solution may be from minimal.
+	 *
+	 * @return the fraction of the first solution's cost not accounted for by the lower bound (0 if proven minimal
+	 * 		   or if there are no solutions).
+	 */
+	public double getOptimalityGap()
+	{
+		if(isProvenMinimal || solutionSequence.isEmpty())
+		{
+			return 0.0;
+		}
+
+		long cost = getCost(0);
+		return (cost == 0) ? 0.0 : Math.max(0, cost - lowerBound) / (double)cost;
+	}
+}
@@ -0,0 +1,586 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for a minimization session.
+ * A minimization session runs the Quine-McCluskey algorithm and Petrick's method while keeping all of the state of a
+ * run to itself, so any number of sessions can run at the same time. A session is not thread-safe, so each
+ * concurrent minimization needs its own session.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+import com.deruiter.model.exception.DistributivePropertyException;
+import com.deruiter.model.exception.InvalidInputException;
+import com.deruiter.model.exception.MinimizationCancelledException;
+import com.deruiter.model.group.DensePrimeGenerator;
+import com.deruiter.model.group.Group;
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.input.MintermInput;
+import com.deruiter.model.input.Parser;
+import com.deruiter.model.input.PlaReader;
+import com.deruiter.model.input.TruthTableInput;
+import com.deruiter.model.report.PrimeImplicantChart;
+import com.deruiter.utilities.CancellationToken;
+import com.deruiter.utilities.Constants;
+import com.deruiter.utilities.Print;
+import javafx.beans.property.DoubleProperty;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+public class MinimizerSession
+{
+	// Instance variables
+	private DoubleProperty prop_WorkDone;
+	private ForkJoinPool pool;
+	private boolean inDebugMode;
+	private CoverMode coverMode = CoverMode.PETRICKS_METHOD;
+	private CostModel costModel = CostModel.TERMS_THEN_LITERALS;
+	private PrimeMode primeMode = PrimeMode.TABULATION;
+	private CancellationToken token = CancellationToken.NONE;
+	private long anytimeBudgetNanos = -1;
+	private long maxUsedHeap = Long.MAX_VALUE;
+	private int solutionLimit = Integer.MAX_VALUE;
+
+	// Instance variables (state of the current run)
+	private SolutionSequence solutionSequence = SolutionSequence.empty();
+	private List<String> solutions = new ArrayList<String>(0);
+	private List<Integer> steps = new ArrayList<Integer>(0);
+	private List<Group> groups = new ArrayList<Group>(0);
+	private List<Term> primes = new ArrayList<Term>(0);
+	private PrimeImplicantChart primeChart;
+	private PrimeImplicantChart reducedPrimeChart;
+	private long lowerBound;
+	private boolean isProvenMinimal = true;
+
+	/**
+	 * Constructor for a minimization session which does not report progress.
+	 */
+	public MinimizerSession()
+	{
+		this(null);
+	}
+
+	/**
+	 * Constructor for a minimization session.
+	 *
+	 * @param prop_WorkDone
+	 * 			the property to report the current progress of the algorithm to (may be null).
+	 */
+	public MinimizerSession(DoubleProperty prop_WorkDone)
+	{
+		this.prop_WorkDone = prop_WorkDone;
+	}
+
+	/**
+	 * Sets the fork-join pool used to generate primes and cover independent chart components in parallel.
+	 *
+	 * @param pool
+	 * 			the fork-join pool to run on (null to run sequentially).
+	 */
+	public void setParallelPool(ForkJoinPool pool)
+	{
+		this.pool = pool;
+	}
+
+	/**
+	 * Sets whether each step of the run is printed to the console.
+	 *
+	 * @param inDebugMode
+	 * 			whether each step of the run is printed to the console.
+	 */
+	public void setDebugMode(boolean inDebugMode)
+	{
+		this.inDebugMode = inDebugMode;
+	}
+
+	/**
+	 * Sets how the reduced prime implicant chart is covered.
+	 *
+	 * @param coverMode
+	 * 			the cover mode (Petrick's method by default).
+	 */
+	public void setCoverMode(CoverMode coverMode)
+	{
+		this.coverMode = coverMode;
+	}
+
+	/**
+	 * Sets the cost model the solutions are ranked by.
+	 *
+	 * @param costModel
+	 * 			the cost model (fewest terms, then fewest literals by default).
+	 */
+	public void setCostModel(CostModel costModel)
+	{
+		this.costModel = costModel;
+	}
+
+	/**
+	 * Sets how the primes are generated.
+	 *
+	 * @param primeMode
+	 * 			the prime mode (step by step tabulation by default).
+	 */
+	public void setPrimeMode(PrimeMode primeMode)
+	{
+		this.primeMode = primeMode;
+	}
+
+	/**
+	 * Sets the anytime budget for covering the reduced prime implicant chart.
+	 * The budget bounds the anytime cover mode. With any other cover mode, a chart too large for Petrick's method is
+	 * covered within the budget instead of failing with a DistributivePropertyException. The result reports whether
+	 * the solution is proven to be minimal and how far from minimal it may be.
+	 *
+	 * @param timeout
+	 * 			the time covering may take (counted from when covering starts).
+	 * @param unit
+	 * 			the unit of the timeout.
+	 * @param maxUsedHeap
+	 * 			the number of bytes of used heap at which covering settles for the best cover found so far
+	 * 			(Long.MAX_VALUE for no limit).
+	 */
+	public void setAnytimeBudget(long timeout, TimeUnit unit, long maxUsedHeap)
+	{
+		if(timeout < 0)
+		{
+			throw new IllegalArgumentException("Anytime budget must not be negative.");
+		}
+
+		this.anytimeBudgetNanos = unit.toNanos(timeout);
+		this.maxUsedHeap = maxUsedHeap;
+	}
+
+	/**
+	 * Sets the most solutions written out by a run.
+	 * Any further solutions are only written when the result's solution stream reaches them.
+	 *
+	 * @param solutionLimit
+	 * 			the most solutions written out (every solution by default).
+	 */
+	public void setSolutionLimit(int solutionLimit)
+	{
+		if(solutionLimit < 1)
+		{
+			throw new IllegalArgumentException("Solution limit must be positive.");
+		}
+
+		this.solutionLimit = solutionLimit;
+	}
+
+	/**
+	 * Sets the cancellation token checked while the session runs.
+	 * A cancelled run throws a MinimizationCancelledException and drops everything it produced, so its memory can be
+	 * freed right away.
+	 *
+	 * @param token
+	 * 			the cancellation token (no cancellation by default).
+	 */
+	public void setCancellationToken(CancellationToken token)
+	{
+		this.token = token;
+	}
+
+	/**
+	 * Runs the Quine McCluskey algorithm and Petrick's method on a specified Boolean expression.
+	 *
+	 * @param funcToMinimize
+	 * 			the Boolean expression to attempt to simplify (already checked by Parser.checkInputForErrors).
+	 * @return the result of the minimization.
+	 * @throws DistributivePropertyException
+	 * @throws IllegalArgumentException
+	 * 			if the Boolean expression is not valid.
+	 */
+	public MinimizationResult minimize(String funcToMinimize) throws DistributivePropertyException
+	{
+		resetForNewRun();
+
+		if(funcToMinimize.length() == 0)
+		{
+			if(inDebugMode) System.out.println("Boolean expression is empty.");
+			return getResult(); // Exit early and return empty result
+		}
+
+		Parser parser = new Parser(funcToMinimize);
+		Group group;
+		try
+		{
+			group = parser.createGroup();
+		}
+		catch(InvalidInputException | IOException ex)
+		{
+			// Expression should have been checked by Parser.checkInputForErrors (a String can not fail to be read)
+			throw new IllegalArgumentException(ex.getMessage(), ex);
+		}
+
+		return minimize(group, parser.getTermCount());
+	}
+
+	/**
+	 * Runs the Quine McCluskey algorithm and Petrick's method on a Boolean expression read from a stream.
+	 * The expression is checked for errors while it is read, so it does not need to be checked beforehand.
+	 *
+	 * @param reader
+	 * 			the reader to read the Boolean expression from (optionally followed by a don't-care section).
+	 * @return the result of the minimization.
+	 * @throws InvalidInputException
+	 * @throws IOException
+	 * @throws DistributivePropertyException
+	 */
+	public MinimizationResult minimize(Reader reader)
+			throws InvalidInputException, IOException, DistributivePropertyException
+	{
+		resetForNewRun();
+
+		Parser parser = new Parser(reader);
+		Group group = parser.createGroup();
+
+		return minimize(group, parser.getTermCount());
+	}
+
+	/**
+	 * Runs the Quine McCluskey algorithm and Petrick's method on one output of a PLA file.
+	 *
+	 * @param plaReader
+	 * 			the PLA reader to read the cubes of the output from.
+	 * @return the result of the minimization.
+	 * @throws InvalidInputException
+	 * @throws IOException
+	 * @throws DistributivePropertyException
+	 */
+	public MinimizationResult minimize(PlaReader plaReader)
+			throws InvalidInputException, IOException, DistributivePropertyException
+	{
+		resetForNewRun();
+
+		Group group = plaReader.createGroup();
+
+		return minimize(group, plaReader.getTermCount());
+	}
+
+	/**
+	 * Runs the Quine McCluskey algorithm and Petrick's method on a function given by a bitmap truth table.
+	 *
+	 * @param input
+	 * 			the truth table input.
+	 * @return the result of the minimization.
+	 * @throws InvalidInputException
+	 * @throws IOException
+	 * @throws DistributivePropertyException
+	 */
+	public MinimizationResult minimize(TruthTableInput input)
+			throws InvalidInputException, IOException, DistributivePropertyException
+	{
+		resetForNewRun();
+
+		Group group = input.createGroup();
+
+		return minimize(group, input.getTermCount());
+	}
+
+	/**
+	 * Runs the Quine McCluskey algorithm and Petrick's method on a function given by its minterm numbers.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers of the function (the first variable is the most significant bit).
+	 * @param dontCares
+	 * 			the minterm numbers of the don't-care terms (may be null).
+	 * @param variableCount
+	 * 			the number of variables (at most 63).
+	 * @return the result of the minimization.
+	 * @throws InvalidInputException
+	 * @throws DistributivePropertyException
+	 */
+	public MinimizationResult minimize(long[] minterms, long[] dontCares, int variableCount)
+			throws InvalidInputException, DistributivePropertyException
+	{
+		return minimize(new MintermInput(minterms, dontCares, variableCount));
+	}
+
+	/**
+	 * Runs the Quine McCluskey algorithm and Petrick's method on a function given by its minterm numbers.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers of the function (the first variable is the most significant bit).
+	 * @param dontCares
+	 * 			the minterm numbers of the don't-care terms (may be null).
+	 * @param variableCount
+	 * 			the number of variables (at most 63).
+	 * @return the result of the minimization.
+	 * @throws InvalidInputException
+	 * @throws DistributivePropertyException
+	 */
+	public MinimizationResult minimize(int[] minterms, int[] dontCares, int variableCount)
+			throws InvalidInputException, DistributivePropertyException
+	{
+		return minimize(new MintermInput(minterms, dontCares, variableCount));
+	}
+
+	/**
+	 * Runs the Quine McCluskey algorithm and Petrick's method on minterm input.
+	 *
+	 * @param input
+	 * 			the minterm input.
+	 * @return the result of the minimization.
+	 * @throws InvalidInputException
+	 * @throws DistributivePropertyException
+	 */
+	private MinimizationResult minimize(MintermInput input) throws InvalidInputException, DistributivePropertyException
+	{
+		resetForNewRun();
+
+		Group group = input.createGroup();
+
+		return minimize(group, input.getTermCount());
+	}
+
+	/**
+	 * Runs the Quine McCluskey algorithm and Petrick's method on the group of original terms.
+	 *
+	 * @param group
+	 * 			the original terms followed by the don't-care terms.
+	 * @param termCount
+	 * 			the number of original terms (ID's from this count on are don't-care terms).
+	 * @return the result of the minimization.
+	 * @throws DistributivePropertyException
+	 * @throws MinimizationCancelledException
+	 * 			if the cancellation token is cancelled before the run is done.
+	 */
+	private MinimizationResult minimize(Group group, int termCount) throws DistributivePropertyException
+	{
+		try
+		{
+			return findSolutions(group, termCount);
+		}
+		catch(MinimizationCancelledException ex)
+		{
+			// Drop everything produced by the cancelled run so it can be freed right away
+			resetForNewRun();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Finds the primes and the minimal solutions of the group of original terms.
+	 *
+	 * @param group
+	 * 			the original terms followed by the don't-care terms.
+	 * @param termCount
+	 * 			the number of original terms (ID's from this count on are don't-care terms).
+	 * @return the result of the minimization.
+	 * @throws DistributivePropertyException
+	 */
+	private MinimizationResult findSolutions(Group group, int termCount) throws DistributivePropertyException
+	{
+		// Store original terms (without don't-care terms) for creation of prime implication chart
+		List<Term> originalTerms = new ArrayList<Term>(group.getTerms().subList(0, termCount));
+
+		// Check if primes can be found without combining step by step
+		if(primeMode == PrimeMode.DENSE_BITMAP && DensePrimeGenerator.canGenerate(group))
+		{
+			// Print out group
+			if(inDebugMode) System.out.println("Step 1");
+			if(inDebugMode) Print.printGroup(group);
+
+			groups.add(group);
+			steps.add(1);
+			primes.addAll(new DensePrimeGenerator(group).generatePrimes(token));
+		}
+		else
+		{
+			// Minimize terms until no longer possible
+			int step = 1;
+			Group minimizedGroup;
+			do
+			{
+				// Print out step #
+				if(inDebugMode) System.out.println("Step " + String.valueOf(step));
+
+				// Print out group
+				if(inDebugMode) Print.printGroup(group);
+
+				groups.add(group);
+				steps.add(step);
+				step++;
+
+				// Terms not used to form a combined term are primes
+				minimizedGroup = minimize(group);
+				primes.addAll(group.getUnusedTerms());
+			} while((group = minimizedGroup).getSize() > 0);
+		}
+
+		// Print out prime terms
+		primes = Group.getReorderedPrimes(dropDontCarePrimes(primes, originalTerms.size()));
+		if(inDebugMode) Print.printPrimes(primes);
+
+		if(inDebugMode) System.out.println();
+
+		// Create Prime Implication Chart
+		primeChart = new PrimeImplicantChart(originalTerms, primes, token);
+
+		// Print Prime Implication Chart
+		if(inDebugMode) System.out.println();
+		if(inDebugMode) System.out.println("Prime Implication Chart:");
+		if(inDebugMode) System.out.println("========================");
+		if(inDebugMode) Print.printGrid(primeChart);
+
+		// Store essential primes
+		List<Term> essentialPrimes = primeChart.getEssentialPrimes();
+
+		String initialSolution = Constants.EMPTY_STRING;
+
+		// Loops through all essential primes and store them in final solution
+		for(int i = 0; i < essentialPrimes.size(); i++)
+		{
+			initialSolution += essentialPrimes.get(i).getRegularForm() + " + ";
+		}
+
+		// Check if any essential primes exist
+		// (ensures that for loop ran before attempting to remove last " + " from the String
+		if(essentialPrimes.size() > 0)
+		{
+			initialSolution = initialSolution.substring(0, initialSolution.length() - 3);
+			initialSolution = initialSolution.replace("-", Constants.EMPTY_STRING);
+		}
+
+		// Run Petrick's Method
+		PetricksMethod petricksMethod = new PetricksMethod(primeChart, prop_WorkDone);
+		petricksMethod.setCoverMode(coverMode);
+		petricksMethod.setCostModel(costModel);
+		petricksMethod.setParallelPool(pool);
+		petricksMethod.setCancellationToken(token);
+		if(anytimeBudgetNanos >= 0)
+		{
+			petricksMethod.setAnytimeBudget(anytimeBudgetNanos, TimeUnit.NANOSECONDS, maxUsedHeap);
+		}
+
+		solutionSequence = petricksMethod.findSolutions(initialSolution);
+		reducedPrimeChart = petricksMethod.getReducedPrimeImplicantChart();
+		lowerBound = petricksMethod.getLowerBound();
+		isProvenMinimal = petricksMethod.isProvenMinimal();
+
+		if(inDebugMode) System.out.println();
+		if(inDebugMode) System.out.println("Petrick's Method - Reduced Prime Implication Chart:");
+		if(inDebugMode) System.out.println("===================================================");
+
+		// Check if prime implicant chart could be simplified
+		if(reducedPrimeChart != null)
+		{
+			// Print the reduced prime implication chart
+			if(inDebugMode) Print.printGrid(reducedPrimeChart);
+		}
+		else
+		{
+			if(inDebugMode) System.out.println("Essential primes cover the whole chart.");
+		}
+
+		// Write out the first minimal solutions (the rest are written only if the solution stream reaches them)
+		List<String> finalSolutions = new ArrayList<String>();
+		Iterator<String> solutionIterator = solutionSequence.iterator();
+		while(finalSolutions.size() < solutionLimit && solutionIterator.hasNext())
+		{
+			token.throwIfCancelled();
+			finalSolutions.add(solutionIterator.next());
+		}
+
+		// Print out the minimal solutions written
+		if(inDebugMode) System.out.println();
+		for(int i = 0; i < finalSolutions.size(); i++)
+		{
+			if(inDebugMode) System.out.println("Minimal Solution: " + finalSolutions.get(i));
+		}
+
+		solutions = finalSolutions;
+
+		return getResult();
+	}
+
+	/**
+	 * Retrieves the result of the latest run.
+	 * If the run failed, the result holds everything produced up to the failure (without any solutions).
+	 *
+	 * @return the result of the latest run.
+	 */
+	public MinimizationResult getResult()
+	{
+		return new MinimizationResult(solutionSequence, solutions, steps, groups, primes, primeChart, reducedPrimeChart,
+				costModel, lowerBound, isProvenMinimal);
+	}
+
+	/**
+	 * Resets the state of the session for a new run.
+	 */
+	private void resetForNewRun()
+	{
+		solutionSequence = SolutionSequence.empty();
+		solutions = new ArrayList<String>(0);
+		steps = new ArrayList<Integer>();
+		groups = new ArrayList<Group>();
+		primes = new ArrayList<Term>();
+		primeChart = null;
+		reducedPrimeChart = null;
+		lowerBound = 0;
+		isProvenMinimal = true;
+	}
+
+	/**
+	 * Drops every prime which only covers don't-care terms (such primes are never needed in a solution).
+	 *
+	 * @param primes
+	 * 			the primes found by the Quine McCluskey algorithm.
+	 * @param termCount
+	 * 			the number of original terms (ID's from this count on are don't-care terms).
+	 * @return the primes covering at least one original term.
+	 */
+	private static List<Term> dropDontCarePrimes(List<Term> primes, int termCount)
+	{
+		List<Term> neededPrimes = new ArrayList<Term>(primes.size());
+		for(Term prime : primes)
+		{
+			for(int id : prime.getCoveredIds())
+			{
+				if(id < termCount)
+				{
+					neededPrimes.add(prime);
+					break;
+				}
+			}
+		}
+		return neededPrimes;
+	}
+
+	/**
+	 * Minimizes a group, in parallel if a fork-join pool has been set.
+	 *
+	 * @param group
+	 * 			the group to minimize.
+	 * @return the minimized group.
+	 */
+	private Group minimize(Group group)
+	{
+		if(pool != null)
+		{
+			return Group.minimize(group, pool, token);
+		}
+		return Group.minimize(group, token);
+	}
+}
@@ -21,47 +21,148 @@
 package com.deruiter.model.algorithm;
 
 import com.deruiter.model.exception.DistributivePropertyException;
+import com.deruiter.model.exception.MinimizationCancelledException;
 import com.deruiter.model.group.term.Term;
 import com.deruiter.model.report.PrimeImplicantChart;
+import com.deruiter.utilities.Bits;
+import com.deruiter.utilities.CancellationToken;
 import com.deruiter.utilities.Constants;
 import javafx.beans.property.DoubleProperty;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class PetricksMethod
 {
     // Instance variables
-	private char[][] primeGrid;
-	private List<Term> primes;
-	private List<Term> essentialPrimes;
-	private List<Term> optionalPrimes;
+	private PrimeImplicantChart primeChart;
+	private ChartReducer chartReducer;
+	private long[] secondaryEssentialRows;
 	private PrimeImplicantChart reducedPrimeImplicantChart;
 	private DoubleProperty prop_WorkDone;
+	private CoverMode coverMode = CoverMode.PETRICKS_METHOD;
+	private CostModel costModel = CostModel.TERMS_THEN_LITERALS;
+	private ForkJoinPool pool;
+	private CancellationToken token = CancellationToken.NONE;
+	private long budgetNanos = -1;
+	private long maxUsedHeap = Long.MAX_VALUE;
+	private CancellationToken budget;
+	private AtomicLong coreLowerBound = new AtomicLong();
+	private volatile boolean isProvenMinimal = true;
+	private int sumTermCount;
+	private AtomicInteger sumTermsDone = new AtomicInteger();
+	private AtomicInteger progressChecks = new AtomicInteger();
+
+	// Maximum number of products kept while applying the distributive property
+	private static final int MAX_PRODUCT_COUNT = 1 << 20;
+
+	// Number of progress checks per sample of the used heap (reading the heap size is too slow for every check)
+	private static final int HEAP_SAMPLE_INTERVAL = 1024;
 
 	/**
 	 * Constructor for Petrick's method.
 	 *
-	 * @param primeGrid
-     *          the prime grid to use for running Petrick's method.
-	 * @param primes
-	 * 			the primes found by the Quine McCluskey algorithm.
-	 * @param essentialPrimes
-	 * 			the essential primes found by the Quine McCluskey algorithm.
+	 * @param primeChart
+     *          the prime implicant chart (primes and essential primes found by the Quine McCluskey algorithm) to use
+     *          for running Petrick's method.
 	 * @param prop_WorkDone
-     *          the total work done for the algorithm.
+     *          the total work done for the algorithm (may be null).
 	 */
-	public PetricksMethod(char[][] primeGrid, List<Term> primes, List<Term> essentialPrimes,
-                          DoubleProperty prop_WorkDone)
+	public PetricksMethod(PrimeImplicantChart primeChart, DoubleProperty prop_WorkDone)
 	{
-		this.primeGrid = primeGrid;
-		this.primes = primes;
-		this.essentialPrimes = essentialPrimes;
+		this.primeChart = primeChart;
 		this.prop_WorkDone = prop_WorkDone;
+	}
+
+	/**
+	 * Sets how the reduced prime implicant chart is covered.
+	 *
+	 * @param coverMode
+	 * 			the cover mode (Petrick's method by default).
+	 */
+	public void setCoverMode(CoverMode coverMode)
+	{
+		this.coverMode = coverMode;
+	}
+
+	/**
+	 * Sets the cost model the minimum covers are ranked by.
+	 *
+	 * @param costModel
+	 * 			the cost model (fewest terms, then fewest literals by default).
+	 */
+	public void setCostModel(CostModel costModel)
+	{
+		this.costModel = costModel;
+	}
+
+	/**
+	 * Sets the fork-join pool used to cover independent components of the reduced chart in parallel.
+	 *
+	 * @param pool
+	 * 			the fork-join pool to cover components on (null to cover components sequentially).
+	 */
+	public void setParallelPool(ForkJoinPool pool)
+	{
+		this.pool = pool;
+	}
+
+	/**
+	 * Sets the cancellation token checked for every sum term and product of the distributive property and every
+	 * branch of the branch-and-bound search.
+	 *
+	 * @param token
+	 * 			the cancellation token of the run.
+	 */
+	public void setCancellationToken(CancellationToken token)
+	{
+		this.token = token;
+	}
+
+	/**
+	 * Sets the anytime budget.
+	 * The budget bounds the anytime cover mode. With any other cover mode, a component too large for Petrick's
+	 * method is covered within the budget instead of failing with a DistributivePropertyException.
+	 *
+	 * @param timeout
+	 * 			the time covering may take (counted from when covering starts).
+	 * @param unit
+	 * 			the unit of the timeout.
+	 * @param maxUsedHeap
+	 * 			the number of bytes of used heap at which covering settles for the best covers found so far
+	 * 			(Long.MAX_VALUE for no limit).
+	 */
+	public void setAnytimeBudget(long timeout, TimeUnit unit, long maxUsedHeap)
+	{
+		this.budgetNanos = unit.toNanos(timeout);
+		this.maxUsedHeap = maxUsedHeap;
+	}
+
+	/**
+	 * Retrieves the proven lower bound on the cost of a solution (once the method has been run).
+	 *
+	 * @return the least any solution can cost under the cost model.
+	 */
+	public long getLowerBound()
+	{
+		return costModel.getCost(primeChart.getEssentialPrimes())
+				+ getCost(secondaryEssentialRows, costModel.getRowCosts(primeChart)) + coreLowerBound.get();
+	}
 
-		optionalPrimes = new ArrayList<Term>(0);
-		optionalPrimes.addAll(primes);
-		optionalPrimes.removeAll(essentialPrimes);
+	/**
+	 * Determines whether the solutions are proven to be minimal (once the method has been run).
+	 *
+	 * @return whether the solutions are proven to be minimal (false if the anytime budget ran out first).
+	 */
+	public boolean isProvenMinimal()
+	{
+		return isProvenMinimal;
 	}
 
 	/**
@@ -71,650 +172,666 @@ public class PetricksMethod
 	 * 		    the initial solution (contains essential primes if any exist).
 	 * @return a list containing the final minimized Boolean expression(s).
 	 * @throws DistributivePropertyException
+	 * @throws MinimizationCancelledException
+	 * 			if the cancellation token is cancelled before the solutions are found.
 	 */
 	public List<String> runMethod(String initialSolution) throws DistributivePropertyException
 	{
-        // Local variables
-		List<String> finalSolutions;
-		List<Integer> essentialPrimeColumns = determineEssentialPrimeColumns();
-		List<Integer> optionalPrimeRows = determineOptionalPrimeRows();
+        // Local variable
+		List<String> finalSolutions = new ArrayList<String>();
 
-		// Check if optional prime rows exist and if so run the rest of Petrick's method
-		if(optionalPrimeRows.size() > 0)
+		for(String solution : findSolutions(initialSolution))
 		{
-			char[][] reducedPrimeGrid = formReducedPrimeGrid(essentialPrimeColumns, optionalPrimeRows);
-			if(reducedPrimeGrid != null)
-			{
-				String logicFunction = formLogicFunction(reducedPrimeGrid);
-				String distributedFun = applyDistributiveProperty(logicFunction);
-				distributedFun = distributedFun.substring(1, distributedFun.length() - 1);
-				String[] simplifiedProducts = distributedFun.split("\\+");
-
-				finalSolutions = findFinalSolutions(initialSolution, simplifiedProducts);
-
-				return finalSolutions;
-			}
+			token.throwIfCancelled();
+			finalSolutions.add(solution);
 		}
 
-		// No point in running Petrick's method because either all primes are essential or
-        // essential primes cover all columns
-		finalSolutions = new ArrayList<String>();
-
-        // Only need essential primes in final solution
-		finalSolutions.add(initialSolution);
-
 		return finalSolutions;
 	}
 
 	/**
-	 * Determines the columns (minterms) covered by essential prime implicants.
+	 * Runs Petrick's method without writing out any solutions.
+	 * Only the minimum covers of each component of the cyclic core are kept. The solutions combining them are written
+	 * one at a time as the returned sequence is enumerated.
 	 *
-	 * @return a list of essential prime column numbers.
+	 * @param initialSolution
+	 * 		    the initial solution (contains essential primes if any exist).
+	 * @return the final minimized Boolean expression(s).
+	 * @throws DistributivePropertyException
+	 * @throws MinimizationCancelledException
+	 * 			if the cancellation token is cancelled before the minimum covers are found.
 	 */
-	private List<Integer> determineEssentialPrimeColumns()
+	public SolutionSequence findSolutions(String initialSolution) throws DistributivePropertyException
 	{
-        // Local variable
-		List<Integer> essentialPrimeColumns = new ArrayList<Integer>(0);
-
-		// Find essential prime columns
-		for(int i = 0; i < essentialPrimes.size(); i++)
+		// Start the anytime budget when covering starts
+		budget = (budgetNanos < 0) ? null : new CancellationToken(budgetNanos, TimeUnit.NANOSECONDS);
+		coreLowerBound.set(0);
+		progressChecks.set(0);
+		isProvenMinimal = true;
+
+		// Reduce the chart to its cyclic core
+		chartReducer = new ChartReducer(primeChart, costModel);
+		chartReducer.setCoverMode(coverMode);
+		reducedPrimeImplicantChart = chartReducer.reduce();
+		secondaryEssentialRows = determineSecondaryEssentialRows();
+
+		// Check if a cyclic core is left and if so run the rest of Petrick's method
+		if(reducedPrimeImplicantChart != null)
 		{
-			String[] ids = essentialPrimes.get(i).getId().split(",");
-
-            // Loop through all ID's in current essential prime
-			for(int idIndex = 0; idIndex < ids.length; idIndex++)
+			// Label rows (labels are only used when displaying the reduced chart)
+			for(int row = 0; row < reducedPrimeImplicantChart.getRowCount(); row++)
 			{
-				// Verify essential id not already stored
-				if(!essentialPrimeColumns.contains(Integer.valueOf(ids[idIndex])))
-				{
-					essentialPrimeColumns.add(Integer.valueOf(ids[idIndex]));
-				}
+				reducedPrimeImplicantChart.getPrimes().get(row).setLabel("R" + row);
 			}
+
+			// Cover each independent component of the cyclic core on its own
+			List<ChartComponent> components = ChartComponent.decompose(reducedPrimeImplicantChart);
+			List<List<long[]>> componentCovers = coverComponents(components);
+			updateWorkDone(1.0);
+
+			// Every combination of the components' minimum covers is a minimum cover of the cyclic core
+			CartesianCovers coreProducts = new CartesianCovers(components, componentCovers,
+					reducedPrimeImplicantChart.getRowCount());
+			return new SolutionSequence(coreProducts, coreProducts.size(), coreProduct -> formCover(coreProduct),
+					coreProduct -> formSolution(initialSolution, coreProduct));
 		}
 
-		return essentialPrimeColumns;
+		// No point in running Petrick's method because the reductions left nothing to cover
+		// (only need essential primes and the primes made essential by the reductions in final solution)
+		return new SolutionSequence(Collections.singletonList(Bits.create(0)), 1, coreProduct -> formCover(coreProduct),
+				coreProduct -> formSolution(initialSolution, coreProduct));
 	}
 
 	/**
-	 * Determines the row numbers for optional primes.
+	 * Determines the rows which became essential while reducing the chart (not essential in the original chart).
 	 *
-	 * @return a list of optional prime row numbers.
+	 * @return a bitset of chart rows.
 	 */
-	private List<Integer> determineOptionalPrimeRows()
+	private long[] determineSecondaryEssentialRows()
 	{
         // Local variable
-		List<Integer> optionalPrimeRows = new ArrayList<Integer>(0);
+		long[] essentialRows = chartReducer.getEssentialRows().clone();
 
-		// Iterate through all rows (primes)
-		for(int rowIndex = 0; rowIndex < primes.size(); rowIndex++)
+		// Remove rows of the original chart's essential primes (the only row covering some column)
+		for(int col = 0; col < primeChart.getColumnCount(); col++)
 		{
-			// Check if essential prime row
-			if(essentialPrimes.contains(primes.get(rowIndex)))
+			long[] columnRows = primeChart.getColumn(col);
+			if(Bits.cardinality(columnRows) == 1)
 			{
-                // Skip row
-				continue;
-			}
-			else
-			{
-				// Optional prime row so add row number
-				optionalPrimeRows.add(rowIndex);
+				Bits.clear(essentialRows, Bits.nextSetBit(columnRows, 0));
 			}
 		}
 
-		return optionalPrimeRows;
+		return essentialRows;
 	}
 
 	/**
-	 * Prints the prime implication chart without columns covered by essential primes.
+	 * Finds the minimum covers of every component.
 	 *
-	 * @param essentialPrimeColumns
-	 * 		    the essential prime column numbers.
-	 * @param optionalPrimeRows
-	 * 		    the optional prime row numbers.
-	 * @return the reduced prime implicant grid.
+	 * @param components
+	 * 			the independent components of the cyclic core.
+	 * @return the minimum covers of each component (bitsets of component rows).
+	 * @throws DistributivePropertyException
 	 */
-	private char[][] formReducedPrimeGrid(List<Integer> essentialPrimeColumns, List<Integer> optionalPrimeRows)
+	private List<List<long[]>> coverComponents(List<ChartComponent> components) throws DistributivePropertyException
 	{
         // Local variables
-		List<Integer> ids = new ArrayList<>(0);
-        List<Term> optionalPrimes = new ArrayList<>(0);
-		char reducedPrimeGrid[][] =
-				new char[optionalPrimeRows.size()][primeGrid[0].length - essentialPrimeColumns.size()];
-		int newGridCurCol = 0;
-		int newGridCurRow = 0;
-
-		// Iterate through columns (skipping columns covered by essential primes)
-		for(int col = 0; col < primeGrid[0].length; col++)
-		{
-			// Check if column is covered by an essential prime
-			if(essentialPrimeColumns.contains(col))
-			{
-                // Skip column
-				continue;
-			}
-
-			// Iterate through rows
-			for(int row = 0; row < primeGrid.length; row++)
-			{
-				// Check if current row is an optional prime row
-				if(optionalPrimeRows.contains(row))
-				{
-					reducedPrimeGrid[newGridCurRow][newGridCurCol] = primeGrid[row][col];
-					newGridCurRow++;
-				}
-			}
-            // Add column not covered by an essential prime
-			ids.add(col);
+		List<List<long[]>> componentCovers = new ArrayList<List<long[]>>(components.size());
+		List<ForkJoinTask<List<long[]>>> tasks = new ArrayList<ForkJoinTask<List<long[]>>>(components.size());
 
-            // Reset
-			newGridCurRow = 0;
+		sumTermCount = reducedPrimeImplicantChart.getColumnCount();
+		sumTermsDone.set(0);
 
-            // Increment
-			newGridCurCol++;
-		}
-
-        // Store optional primes
-		for(int i = 0; i < primes.size(); i++)
+		// Check if components should be covered sequentially
+		if(pool == null || components.size() == 1)
 		{
-			if(optionalPrimeRows.contains(i))
+			for(ChartComponent component : components)
 			{
-				optionalPrimes.add(primes.get(i));
+				componentCovers.add(coverComponent(component.getChart()));
 			}
+
+			return componentCovers;
 		}
 
-		// Check if essential primes cover all columns
-		if(reducedPrimeGrid[0].length == 0)
+		// Cover all components in parallel and collect their covers in order
+		for(ChartComponent component : components)
 		{
-            // This represents that only essential primes are needed
-			return null;
+			tasks.add(pool.submit(() -> coverComponent(component.getChart())));
 		}
-		else
+		for(ForkJoinTask<List<long[]>> task : tasks)
 		{
-			// Create the reduced prime implication chart
-			reducedPrimeImplicantChart =
-					new PrimeImplicantChart(optionalPrimes, essentialPrimes, reducedPrimeGrid, ids);
-
-			return reducedPrimeGrid;
+			try
+			{
+				componentCovers.add(task.join());
+			}
+			catch(RuntimeException ex)
+			{
+				// Rethrow a distributive property exception wrapped by the pool
+				for(Throwable cause = ex; cause != null; cause = cause.getCause())
+				{
+					if(cause instanceof DistributivePropertyException)
+					{
+						throw (DistributivePropertyException) cause;
+					}
+				}
+				throw ex;
+			}
 		}
+
+		return componentCovers;
 	}
 
 	/**
-	 * Forms the logic function.
-	 *
-	 * The rows of the reduced chart are labeled R1, R2, R3, etc. and form a logic function P that is true when all
-     * columns are covered. P consists of a product of sum terms - one for each column with at least one "x".
+	 * Finds the minimum covers of a component.
 	 *
-	 * @param reducedPrimeGrid
-	 * 			the reduced prime grid.
-	 * @return the logic function.
+	 * @param chart
+	 * 			the sub-chart of the component.
+	 * @return the minimum covers (bitsets of component rows).
+	 * @throws DistributivePropertyException
 	 */
-	private String formLogicFunction(char[][] reducedPrimeGrid)
+	private List<long[]> coverComponent(PrimeImplicantChart chart) throws DistributivePropertyException
 	{
-		String logicFunction = Constants.EMPTY_STRING;
+		// Local variable
+		List<long[]> covers;
 
-		// Iterate through columns (skipping columns covered by essential primes)
-		for(int col = 0; col < reducedPrimeGrid[0].length; col++)
+		// Check if the minimum covers can be found without expanding the logic function
+		if(coverMode == CoverMode.ANYTIME)
+		{
+			return coverWithinBudget(chart);
+		}
+		else if(coverMode == CoverMode.GREEDY)
+		{
+			return coverGreedily(chart);
+		}
+		else if(coverMode != CoverMode.PETRICKS_METHOD)
+		{
+			BranchAndBoundCover cover = new BranchAndBoundCover(chart, coverMode.findsAllMinimumCovers(),
+					costModel);
+			cover.setCancellationToken(token);
+			covers = cover.findMinimumCovers();
+		}
+		else
 		{
-			// Add opening parenthesis
-			logicFunction += "(";
+			try
+			{
+				List<long[]> logicFunction = formLogicFunction(chart);
+				long[] rowCosts = costModel.getRowCosts(chart);
+				List<long[]> distributedFun = applyDistributiveProperty(logicFunction, rowCosts,
+						findCostBound(chart));
 
-			// Iterate through rows
-			for(int row = 0; row < reducedPrimeGrid.length; row++)
+				covers = extractCheapestProducts(distributedFun, rowCosts);
+			}
+			catch(DistributivePropertyException ex)
 			{
-				// Check if optional prime covers column
-				if(reducedPrimeGrid[row][col] == PrimeImplicantChart.gridPosFilledSymbol)
+				// Check if the component can be covered within the anytime budget instead
+				if(budget == null)
 				{
-                    // Label row
-					String label = "R" + row;
-					optionalPrimes.get(row).setLabel(label);
-
-                    // Add label and plus sign
-					logicFunction += label + "+";
+					throw ex;
 				}
+				return coverWithinBudget(chart);
 			}
-
-			// Remove trailing plus sign and add closing parenthesis
-			logicFunction = logicFunction.substring(0, logicFunction.length() - 1) + ")";
 		}
 
-		return logicFunction;
+		// Every minimum cover has the same cost
+		if(!covers.isEmpty())
+		{
+			coreLowerBound.addAndGet(getCost(covers.get(0), costModel.getRowCosts(chart)));
+		}
+		return covers;
 	}
 
 	/**
-	 * Applies the distributive property to the equation.
+	 * Finds a single cover of a component within the anytime budget.
 	 *
-	 * @param p
-     *          the logic function.
-	 * @return the distributed equation.
-     * @throws DistributivePropertyException
+	 * @param chart
+	 * 			the sub-chart of the component.
+	 * @return the best cover found (bitset of component rows) or no cover if the component cannot be covered.
 	 */
-	private String applyDistributiveProperty(String p) throws DistributivePropertyException
+	private List<long[]> coverWithinBudget(PrimeImplicantChart chart)
 	{
-		// Leave commented code if needed for performance optimization later
-//		long start = System.currentTimeMillis();
+		// Local variables
+		BranchAndBoundCover cover = new BranchAndBoundCover(chart, false, costModel);
+		List<long[]> covers = new ArrayList<long[]>(1);
 
-        // Local variables
-		float curSubExpressionNum = 1;
-		float totalSubExpressionCount = p.length() - p.replace(")", Constants.EMPTY_STRING).length();
-		float totalTerms = calculateTotalTerms(p);
+		cover.setCancellationToken(token);
+		cover.setBudget((budget == null) ? CancellationToken.NONE : budget, maxUsedHeap);
 
-		// Check if too many terms
-		if(totalTerms < 0)
+		long[] bestCover = cover.findCoverWithinBudget();
+		if(bestCover != null)
 		{
-			throw new DistributivePropertyException();
+			covers.add(bestCover);
+			coreLowerBound.addAndGet(cover.getLowerBound());
+			if(!cover.isProvenMinimal())
+			{
+				isProvenMinimal = false;
+			}
 		}
+		updateWorkDone(Math.min(1.0, (double) sumTermsDone.addAndGet(chart.getColumnCount()) / sumTermCount));
 
-		// Apply the distributive property to the logic function
-		while(p.substring(p.indexOf(")") + 1).indexOf(")") != -1)
-		{
-			String sum1 = p.substring(p.indexOf("(") + 1, p.indexOf(")"));
-			p = p.substring(p.indexOf(")") + 1); // Delete first sum from expression
-
-			String sum2 = p.substring(p.indexOf("(") + 1, p.indexOf(")"));
-			p = p.substring(p.indexOf(")") + 1); // Delete second sum from expression
+		return covers;
+	}
 
-			String[] sum1Addends = sum1.split("\\+");
-			String[] sum2Addends = sum2.split("\\+");
+	/**
+	 * Finds a single greedy cover of a component.
+	 *
+	 * @param chart
+	 * 			the sub-chart of the component.
+	 * @return the greedy cover (bitset of component rows) or no cover if the component cannot be covered.
+	 */
+	private List<long[]> coverGreedily(PrimeImplicantChart chart)
+	{
+		// Local variables
+		GreedyCover cover = new GreedyCover(chart, costModel);
+		List<long[]> covers = new ArrayList<long[]>(1);
 
-			float curWorkFracCompleted = curSubExpressionNum / totalSubExpressionCount;
-			float workFracToComplete =
-					((curSubExpressionNum + 1.0f) / totalSubExpressionCount) - curWorkFracCompleted;
+		cover.setCancellationToken(token);
 
-			p = multiplyTogether(sum1Addends, sum2Addends, curWorkFracCompleted, workFracToComplete) + p;
-			prop_WorkDone.setValue(curSubExpressionNum++ / totalSubExpressionCount);
+		long[] greedyCover = cover.findCover();
+		if(greedyCover != null)
+		{
+			covers.add(greedyCover);
+			coreLowerBound.addAndGet(cover.getLowerBound());
+			if(cover.getCost(greedyCover) > cover.getLowerBound())
+			{
+				isProvenMinimal = false;
+			}
 		}
+		updateWorkDone(Math.min(1.0, (double) sumTermsDone.addAndGet(chart.getColumnCount()) / sumTermCount));
 
-		// Leave commented code if needed for performance optimization later
-//		long end = System.currentTimeMillis();
-//		System.out.println("Distribute Duration: " + (end - start) + " ms");
-
-		return p;
+		return covers;
 	}
 
 	/**
-	 * Calculates the total number of terms in a distributed function.
+	 * Forms the logic function.
+	 *
+	 * The rows of the chart form a logic function P that is true when all columns are covered. P consists of a
+	 * product of sum terms - one for each column with at least one "x". Each sum term is stored as a bitset of the
+	 * chart rows it contains.
 	 *
-	 * @param expression
-	 * 			the expression to determine how many terms will result from applying the distributive property to this
-     * 			expression.
-	 * @return the total number of terms after distributing the terms in the expression.
+	 * @param chart
+	 * 			the (component of the) cyclic core of the prime implicant chart.
+	 * @return the sum terms of the logic function.
 	 */
-    private float calculateTotalTerms(String expression)
+	private List<long[]> formLogicFunction(PrimeImplicantChart chart)
 	{
-        // Local variables
-    	float maxTermsAllowed = Float.MAX_VALUE;
-		int curTermCount = 0;
-		long totalTermCount = 1;
+        // Local variable
+		List<long[]> logicFunction = new ArrayList<long[]>(chart.getColumnCount());
 
-		// Loop through all characters in expression
-		for(int i = 0; i < expression.length(); i++)
+		// Each column becomes a sum of the rows covering it
+		for(int col = 0; col < chart.getColumnCount(); col++)
 		{
-			char curChar = expression.charAt(i);
-
-			// Check if multiplying two positives resulted in a neg. value which means max. value exceeded
-			// or
-			// Check if total term count exceeds the max. allowed
-			if(totalTermCount < 0 || totalTermCount > maxTermsAllowed)
-			{
-				return -1; // Flag problem as too complex to solve
-			}
-			// Check if beginning of sub-expression found
-			else if(curChar == '(')
-			{
-				curTermCount = 0;
-			}
-			// Check if end of sub-expression found
-			else if(curChar == ')')
-			{
-				curTermCount++; // Add one to make up for last term which does not have "+" following it
-				totalTermCount *= curTermCount;
-			}
-			// Check if plus addition operator found because this means term found right before
-			else if(curChar == '+')
-			{
-				curTermCount++;
-			}
-			else // Space character
-			{
-				continue;
-			}
+			logicFunction.add(chart.getColumn(col));
 		}
 
-		return totalTermCount;
+		return logicFunction;
 	}
 
 	/**
-	 * Uses the distributive property to multiply two summation expressions.
-	 *
-	 * @param sum1Addends
-	 *			the addens contained within the first set of parenthesis in the expression.
-	 * @param sum2Addends
-	 * 			the addens contained within the second set of parenthesis in the expression.
-	 * @param curWorkFracCompleted
-	 * 			the current overall fraction of work completed.
-	 * @param workFractToComplete
-	 * 			the fraction of work to be completed by this multiplication.
-	 * @return the result of using the distributive property on two expressions
+	 * Applies the distributive property to the logic function.
+	 *
+	 * Every product is a bitset of chart rows, so multiplying a product by a row is a bitwise OR and rule XX = X holds
+	 * implicitly. After each sum term is multiplied in, absorbed products (X + XY = X) are removed.
+	 *
+	 * Multiplying only ever adds rows to a product, so a product costing more than the cost bound can never grow into
+	 * a minimum cost cover and is dropped as soon as it is formed.
+	 *
+	 * @param p
+     *          the sum terms of the logic function.
+	 * @param rowCosts
+	 * 			the cost of each row of the chart.
+	 * @param costBound
+	 * 			the cost of some cover of the chart (no minimum cost cover costs more).
+	 * @return the products of the distributed logic function.
+     * @throws DistributivePropertyException
 	 */
-	private String multiplyTogether(String[] sum1Addends, String[] sum2Addends, float curWorkFracCompleted,
-                                    float workFractToComplete)
+	private List<long[]> applyDistributiveProperty(List<long[]> p, long[] rowCosts, long costBound)
+			throws DistributivePropertyException
 	{
         // Local variables
-		String result = Constants.EMPTY_STRING;
-		float newPercentage = curWorkFracCompleted;
-		float progressIncrementVal = workFractToComplete / (sum1Addends.length * sum2Addends.length);
+		List<long[]> products = new ArrayList<long[]>();
+		products.add(Bits.create(rowCosts.length));
 
-		// Loop through all labels in first summation expression
-		for(int i = 0; i < sum1Addends.length; i++)
+		// Multiply in one sum term at a time
+		for(int i = 0; i < p.size(); i++)
 		{
-			// Loop through all labels in second summation expression
-			for(int j = 0; j < sum2Addends.length; j++)
-			{
-				result += sum1Addends[i] + sum2Addends[j] + "+";
-				newPercentage += progressIncrementVal;
-				prop_WorkDone.setValue(newPercentage);
-			}
+			checkProgress();
+			products = simplifyDistributedExpression(multiplyTogether(products, p.get(i), rowCosts, costBound),
+					rowCosts.length);
+			updateWorkDone((double) sumTermsDone.incrementAndGet() / sumTermCount);
 		}
 
-		String distributedExpression = result.substring(0, result.length() - 1);
-		distributedExpression = simplifyDistributedExpression(distributedExpression);
-		result = "(" + distributedExpression + ")";
-
-		return result;
+		return products;
 	}
 
 	/**
-	 * Simplifies a distributed expression using 4 rules.
+	 * Uses the distributive property to multiply the current products by a sum term.
+	 *
+	 * A product that already contains one of the sum's rows absorbs every other row of the sum (X(X + Y) = X), so it
+	 * is carried over unchanged.
 	 *
-	 * @param expression
-	 * 			- the expression (after the distributive property has been applied to it)
-	 * 			  to simplify.
-	 * @return the simplified expression.
+	 * @param products
+	 *			the products distributed so far.
+	 * @param sum
+	 * 			the bitset of rows in the sum term.
+	 * @param rowCosts
+	 * 			the cost of each row of the chart.
+	 * @param costBound
+	 * 			the cost above which new products are dropped.
+	 * @return the result of using the distributive property on the products and sum term (not yet simplified).
+     * @throws DistributivePropertyException
 	 */
-	private String simplifyDistributedExpression(String expression)
+	private List<long[]> multiplyTogether(List<long[]> products, long[] sum, long[] rowCosts, long costBound)
+			throws DistributivePropertyException
 	{
-		String[] addends = expression.split("\\+");
+        // Local variable
+		List<long[]> result = new ArrayList<long[]>(products.size());
 
-		// Loop through all unsimplified addends
-		for(int i = 0; i < addends.length; i++)
+		// Loop through all products distributed so far
+		for(long[] product : products)
 		{
-			// Use rule #1: XX = X Rule
-			addends[i] = removeDuplicates(addends[i]);
-		}
+			checkProgress();
 
-		// Loop through all addends and apply simplification rules #2, #3, and #4
-		for(int i = 0; i < addends.length; i++)
-		{
-			// Loop through all addends except for addends already simplified
-			for(int j = i + 1; j < addends.length; j++)
+			// Check if product already satisfies the sum term
+			if(Bits.intersects(product, sum))
 			{
-				// Check if already marked for deletion
-				if(addends[i].equals("DELETE"))
-				{
-					continue; // Skip to boost performance
-				}
-				// Check for rule #2: X + X = X
-				else if(addends[i].equals(addends[j]))
-				{
-					addends[j] = "DELETE";
-				}
-				// Check for rule #3: XY + X = X
-				else if(addends[i].contains(addends[j]))
-				{
-					addends[i] = "DELETE";
-				}
-				// Check for rule #4: X + XY = X
-				else if(addends[j].contains(addends[i]))
-				{
-					addends[j] = "DELETE";
-				}
+				result.add(product);
 			}
-		}
+			else
+			{
+				long productCost = getCost(product, rowCosts);
 
-		String simplifiedExpression = Constants.EMPTY_STRING;
+				// Loop through all rows in the sum term (skipping those which make the product too costly)
+				for(int row = Bits.nextSetBit(sum, 0); row != -1; row = Bits.nextSetBit(sum, row + 1))
+				{
+					if(productCost + rowCosts[row] > costBound)
+					{
+						continue;
+					}
 
-		// Loop through addends and delete those marked for deletion
-		for(int i = 0; i < addends.length; i++)
-		{
-			// Check if addend marked for elimination
-			if(addends[i].equals("DELETE"))
-			{
-				continue;
+					long[] newProduct = product.clone();
+					Bits.set(newProduct, row);
+					result.add(newProduct);
+				}
 			}
-			else // Keep addend
+
+			// Check if too many terms
+			if(result.size() > MAX_PRODUCT_COUNT)
 			{
-				simplifiedExpression += addends[i] + "+";
+				throw new DistributivePropertyException();
 			}
 		}
 
-		// Remove trailing addition (i.e. "+") operator
-		simplifiedExpression = simplifiedExpression.substring(0, simplifiedExpression.length() - 1);
-
-		return simplifiedExpression;
+		return result;
 	}
 
 	/**
-	 * Removes duplicate labels within an addend.
-	 * (Uses rule #1: XX = X)
+	 * Simplifies a distributed expression by removing duplicate (X + X = X) and absorbed (X + XY = X) products.
 	 *
-	 * @param product
-	 * 			- the addend from which to remove duplicate labels.
-	 * @return the product without duplicate labels.
+	 * Products are visited in order of increasing size, so a product only needs to be tested against the smaller
+	 * products already kept. The surviving products keep their original order.
+	 *
+	 * @param products
+	 * 			the products (after the distributive property has been applied) to simplify.
+	 * @param rowCount
+	 * 			the number of rows in the chart.
+	 * @return the simplified products.
+	 * @throws DistributivePropertyException
 	 */
-	private String removeDuplicates(String product)
+	private List<long[]> simplifyDistributedExpression(List<long[]> products, int rowCount)
+			throws DistributivePropertyException
 	{
-		String[] labelNums = product.split("R");
+        // Local variables
+		int[] sizes = new int[products.size()];
+		int[] sizeCounts = new int[rowCount + 2];
+		int[] orderBySize = new int[products.size()];
+		boolean[] isKept = new boolean[products.size()];
+		List<long[]> keptProducts = new ArrayList<long[]>();
+
+		// Stable counting sort of the products by size
+		for(int i = 0; i < products.size(); i++)
+		{
+			sizes[i] = Bits.cardinality(products.get(i));
+			sizeCounts[sizes[i] + 1]++;
+		}
+		for(int size = 1; size < sizeCounts.length; size++)
+		{
+			sizeCounts[size] += sizeCounts[size - 1];
+		}
+		for(int i = 0; i < products.size(); i++)
+		{
+			orderBySize[sizeCounts[sizes[i]]++] = i;
+		}
 
-		// Loop through labels and skip first because it is empty string
-		for(int i = 1; i < labelNums.length; i++)
+		// Keep products which do not contain a kept product (an earlier duplicate counts as contained)
+		for(int index : orderBySize)
 		{
-			// Loop through labels minus the first (which is really the 2nd because of empty string)
-			for(int j = i + 1; j < labelNums.length; j++)
+			checkProgress();
+
+			long[] product = products.get(index);
+			boolean isAbsorbed = false;
+			for(long[] keptProduct : keptProducts)
 			{
-				// Check if labels are equal
-				if(labelNums[i].equals(labelNums[j]))
+				if(Bits.isSubset(keptProduct, product))
 				{
-					labelNums[j] = "DUPLICATE"; // Mark duplicate
+					isAbsorbed = true;
+					break;
 				}
 			}
-		}
 
-		String newProduct = Constants.EMPTY_STRING;
-
-		// Loop through all label numbers and each unique label number to solution
-		for(int i = 1; i < labelNums.length; i++)
-		{
-			// Check if duplicate number
-			if(labelNums[i].equals("DUPLICATE"))
+			if(!isAbsorbed)
 			{
-				continue; // Skip to next
+				keptProducts.add(product);
+				isKept[index] = true;
 			}
-			else
+		}
+
+		// Restore original order
+		List<long[]> simplifiedProducts = new ArrayList<long[]>(keptProducts.size());
+		for(int i = 0; i < products.size(); i++)
+		{
+			if(isKept[i])
 			{
-				newProduct += "R" + labelNums[i]; // Add unique number
+				simplifiedProducts.add(products.get(i));
 			}
 		}
 
-		return newProduct;
+		return simplifiedProducts;
 	}
 
 	/**
-	 * Finds all solutions with minimum number of terms and literals.
+	 * Substitutes rows back for actual Boolean terms to compose a solution.
+	 * Primes made essential by the chart reductions are added to every solution, and the terms of each solution
+	 * follow the row order of the original chart.
 	 *
 	 * @param initialSolution
 	 * 			- the initial solution (containing any essential primes).
-	 * @param simplifiedProducts
-	 * 			- the simplified products (addends) from the distributed logic function.
-	 * @return all solutions with minimum number of terms and literals.
+	 * @param coreProduct
+	 * 			- the product (bitset of cyclic core rows) to compose the solution from.
+	 * @return the solution.
 	 */
-	private List<String> findFinalSolutions(String initialSolution, String[] simplifiedProducts)
+	private String formSolution(String initialSolution, long[] coreProduct)
 	{
-		List<String> shortestOptionalProducts = extractShortestProducts(simplifiedProducts);
+		StringBuilder solution = new StringBuilder(initialSolution);
+		long[] chartRows = getChartRows(coreProduct);
 
-		// Substitute labels back for actual boolean terms to compose final solution(s)
-		List<String> possibleSolutions = new ArrayList<String>();
-		for(int i = 0; i < shortestOptionalProducts.size(); i++)
+		// Loop through all chart rows in the solution (separating them from any essential primes)
+		for(int row = Bits.nextSetBit(chartRows, 0); row != -1; row = Bits.nextSetBit(chartRows, row + 1))
 		{
-			String possibleSolution = Constants.EMPTY_STRING;
-
-			// Check if final solution contains any essential primes
-			if(!initialSolution.isEmpty())
+			if(solution.length() > 0)
 			{
-				// Add essential primes to final solution
-				possibleSolution += initialSolution + " + ";
+				solution.append(" + ");
 			}
+			solution.append(primeChart.getPrimes().get(row).getRegularForm());
+		}
+
+		return solution.toString().replace("-", Constants.EMPTY_STRING);
+	}
 
-			String optionalSolution = shortestOptionalProducts.get(i);
-			int totalLabelCount = countOccurrences(optionalSolution, 'R');
+	/**
+	 * Substitutes rows back for the primes of a solution (without writing the solution).
+	 *
+	 * @param coreProduct
+	 * 			- the product (bitset of cyclic core rows) to compose the solution from.
+	 * @return the essential primes followed by the primes of the solution's chart rows (the order they are written in).
+	 */
+	private List<Term> formCover(long[] coreProduct)
+	{
+		// Local variables
+		List<Term> cover = new ArrayList<Term>(primeChart.getEssentialPrimes());
+		long[] chartRows = getChartRows(coreProduct);
 
-			// Loop through all labels in each solution/product
-			for(int curLabelIndex = 0; curLabelIndex < totalLabelCount; curLabelIndex++)
-			{
-				String label = Constants.EMPTY_STRING;
-				int nextLabelStartIndex = optionalSolution.indexOf('R', 1);
+		for(int row = Bits.nextSetBit(chartRows, 0); row != -1; row = Bits.nextSetBit(chartRows, row + 1))
+		{
+			cover.add(primeChart.getPrimes().get(row));
+		}
 
-				// Check if multiple labels in current solution
-				if(nextLabelStartIndex != -1)
-				{
-					label = optionalSolution.substring(0, nextLabelStartIndex); // Skip 1st 'R' so 2nd 'R' can be used to find the end of label
-					optionalSolution = optionalSolution.substring(nextLabelStartIndex); // Delete label from solution
-				}
-				else
-				{
-					label = optionalSolution; // Only 1 label in solution so entire solution is label
-				}
+		return cover;
+	}
 
-				// Loop through all optional primes to find which corresponds to current label
-				for(int curOpPrimeIndex = 0; curOpPrimeIndex < optionalPrimes.size(); curOpPrimeIndex++)
-				{
-					Term optionalPrime = optionalPrimes.get(curOpPrimeIndex);
-					if(label.equals(optionalPrime.getLabel()))
-					{
-						possibleSolution += optionalPrime.getRegularForm() + " + ";
-					}
-				}
-			}
+	/**
+	 * Maps the rows of a product back to chart rows (adding the rows made essential by the chart reductions).
+	 *
+	 * @param coreProduct
+	 * 			- the product (bitset of cyclic core rows).
+	 * @return a bitset of chart rows.
+	 */
+	private long[] getChartRows(long[] coreProduct)
+	{
+		// Local variable
+		long[] chartRows = secondaryEssentialRows.clone();
 
-			possibleSolution = possibleSolution.substring(0, possibleSolution.length() - 3);
-			possibleSolution = possibleSolution.replace("-", Constants.EMPTY_STRING);
-			possibleSolutions.add(possibleSolution);
+		for(int row = Bits.nextSetBit(coreProduct, 0); row != -1; row = Bits.nextSetBit(coreProduct, row + 1))
+		{
+			Bits.set(chartRows, chartReducer.getChartRow(row));
 		}
 
-		List<String> finalSolutions = getSolutionsWithFewestLiterals(possibleSolutions);
-
-		return finalSolutions;
+		return chartRows;
 	}
 
 	/**
-	 * Extracts the shortest products (addends) from the logic function.
+	 * Extracts the cheapest products from the logic function.
 	 *
 	 * @param simplifiedProducts
-	 * 			- the simplified products (addends) from the distributed logic function.
-	 * @return the products with the least number of labels.
+	 * 			- the simplified products from the distributed logic function.
+	 * @param rowCosts
+	 * 			- the cost of each row of the chart.
+	 * @return the products of least cost.
 	 */
-	private List<String> extractShortestProducts(String[] simplifiedProducts)
+	private List<long[]> extractCheapestProducts(List<long[]> simplifiedProducts, long[] rowCosts)
 	{
-		int minLength = Integer.MAX_VALUE;
+        // Local variables
+		List<long[]> cheapestProducts = new ArrayList<long[]>();
+		long[] costs = new long[simplifiedProducts.size()];
+		long minCost = Long.MAX_VALUE;
 
-		// Loop through products and determine length of shortest product
-		// (i.e. one with least number of labels)
-		for(int i = 0; i < simplifiedProducts.length; i++)
+		// Loop through products and determine the cost of the cheapest product
+		for(int i = 0; i < simplifiedProducts.size(); i++)
 		{
-			// Check if new minimum product length found
-			if(simplifiedProducts[i].length() < minLength)
-			{
-				 // Store new minimum length
-				minLength = simplifiedProducts[i].length();
-			}
+			costs[i] = getCost(simplifiedProducts.get(i), rowCosts);
+			minCost = Math.min(minCost, costs[i]);
 		}
 
 		// Create list with reduced solution set
-		// (only contains solutions which have the least # of labels).
-		List<String> shortestProducts = new ArrayList<String>();
-		for(int i = 0; i < simplifiedProducts.length; i++)
+		// (only contains solutions of least cost).
+		for(int i = 0; i < simplifiedProducts.size(); i++)
 		{
-			if(simplifiedProducts[i].length() > minLength)
+			if(costs[i] == minCost)
 			{
-				continue;
-			}
-			else
-			{
-				shortestProducts.add(simplifiedProducts[i]);
+				cheapestProducts.add(simplifiedProducts.get(i));
 			}
 		}
-//		System.out.println("Min. Label Sols: " + shortestProducts);
 
-		return shortestProducts;
+		return cheapestProducts;
 	}
 
 	/**
-	 * Retrieves the solutions with the fewest number of total literals.
+	 * Finds the cost of a greedy cover of a chart, which bounds the cost of its minimum cost covers.
 	 *
-	 * @param possibleSolutions
-	 * 			- the possible solutions.
-	 * @return the solutions with the fewest number of total literals.
+	 * @param chart
+	 * 			- the chart to cover.
+	 * @return the cost of the greedy cover (Long.MAX_VALUE if the chart cannot be covered).
 	 */
-	private List<String> getSolutionsWithFewestLiterals(List<String> possibleSolutions)
+	private long findCostBound(PrimeImplicantChart chart)
 	{
-        // Local variables
-		List<String> finalSolutions = new ArrayList<String>();
-		int minLength = Integer.MAX_VALUE;
+		// Local variables
+		GreedyCover cover = new GreedyCover(chart, costModel);
+
+		cover.setCancellationToken(token);
+		long[] greedyCover = cover.findCover();
+
+		return (greedyCover == null) ? Long.MAX_VALUE : cover.getCost(greedyCover);
+	}
+
+	/**
+	 * Calculates the cost of a product.
+	 *
+	 * @param product
+	 * 			- the product (bitset of chart rows).
+	 * @param rowCosts
+	 * 			- the cost of each row of the chart.
+	 * @return the sum of the costs of the product's rows.
+	 */
+	private static long getCost(long[] product, long[] rowCosts)
+	{
+		// Local variable
+		long cost = 0;
 
-		// Loop through all possible solutions and find the one with fewest total literals
-		for(int i = 0; i < possibleSolutions.size(); i++)
+		for(int row = Bits.nextSetBit(product, 0); row != -1; row = Bits.nextSetBit(product, row + 1))
 		{
-			if(possibleSolutions.get(i).length() < minLength)
-			{
-				 // Store new minimum length
-				minLength = possibleSolutions.get(i).length();
-			}
+			cost += rowCosts[row];
 		}
 
-		// Loop through all possible solutions and add those with fewest total literal count
-		// to final solution list
-		for(int i = 0; i < possibleSolutions.size(); i++)
+		return cost;
+	}
+
+	/**
+	 * Checks whether the expansion of the logic function should stop.
+	 * The used heap is sampled on the first check and then every HEAP_SAMPLE_INTERVAL checks.
+	 *
+	 * @throws DistributivePropertyException
+	 * 			if the anytime budget has been spent (the component is then covered within the budget instead).
+	 */
+	private void checkProgress() throws DistributivePropertyException
+	{
+		token.throwIfCancelled();
+		if(budget != null && (budget.isCancelled() || (maxUsedHeap != Long.MAX_VALUE
+				&& progressChecks.getAndIncrement() % HEAP_SAMPLE_INTERVAL == 0 && isHeapLimitReached())))
 		{
-			if(possibleSolutions.get(i).length() == minLength)
-			{
-				// Store final solution
-				finalSolutions.add(possibleSolutions.get(i));
-			}
+			throw new DistributivePropertyException();
 		}
-
-		return finalSolutions;
 	}
 
 	/**
-	 * Counts all occurrences of the target character in the specified string.
+	 * Determines whether the used heap has grown past the anytime budget's limit.
 	 *
-	 * @param searchStr
-	 * 			the string to search
-	 * @param targetChar
-	 * 			the target character for which to count all occurrences.
-	 * @return the number of occurrences of the target character in the string or zero if no matches are found.
+	 * @return whether more than the maximum used heap is in use.
 	 */
-	private int countOccurrences(String searchStr, char targetChar)
+	private boolean isHeapLimitReached()
 	{
-        // Local variable
-		int occurences = 0;
+		// Local variable
+		Runtime runtime = Runtime.getRuntime();
+
+		return runtime.totalMemory() - runtime.freeMemory() > maxUsedHeap;
+	}
 
-        // Loop through all characters in string
-		for(int i = 0; i < searchStr.length(); i++ )
+	/**
+	 * Updates the total work done for the algorithm (if it is being reported).
+	 *
+	 * @param workDone
+	 * 			the fraction of work done.
+	 */
+	private void updateWorkDone(double workDone)
+	{
+		if(prop_WorkDone != null)
 		{
-            // Check if target character found
-		    if(searchStr.charAt(i) == targetChar)
-		    {
-		        occurences++;
-		    }
+			prop_WorkDone.setValue(workDone);
 		}
-
-		return occurences;
 	}
 
 	/**
-	 * Retrieves the reduced prime implicant chart.
+	 * Retrieves the reduced prime implicant chart (the cyclic core left after the chart reductions).
 	 *
-	 * @return the reduced prime implicant chart.
+	 * @return the reduced prime implicant chart (null if the reductions cover the whole chart).
 	 */
 	public PrimeImplicantChart getReducedPrimeImplicantChart()
 	{
@@ -0,0 +1,34 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model enumeration of the ways the primes can be generated.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+public enum PrimeMode
+{
+	/**
+	 * Combine the terms step by step, keeping the group of every step.
+	 */
+	TABULATION,
+
+	/**
+	 * Find the primes of minterm input with the bitmaps of a dense prime generator (only the first step is kept).
+	 * Input with eliminated positions or more than 20 variables is combined step by step.
+	 */
+	DENSE_BITMAP
+}
@@ -20,27 +20,35 @@
 package com.deruiter.model.algorithm;
 
 import com.deruiter.model.exception.DistributivePropertyException;
+import com.deruiter.model.exception.MinimizationCancelledException;
 import com.deruiter.model.group.Group;
-import com.deruiter.model.group.term.Term;
-import com.deruiter.model.input.Parser;
 import com.deruiter.model.report.PrimeImplicantChart;
-import com.deruiter.utilities.Print;
+import com.deruiter.utilities.CancellationToken;
 import com.deruiter.utilities.Constants;
 import javafx.beans.property.DoubleProperty;
 
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 
 public class QuineMcCluskey
 {
 	// Class variables
-	public static List<Integer> steps = new ArrayList<>();
-	public static List<Group> groups = new ArrayList<>();
-	public static PrimeImplicantChart primeChart;
-	public static PrimeImplicantChart reducedPrimeChart;
+	private static MinimizationResult lastResult = new MinimizationResult();
 	public static boolean inDebugMode = false;
+	public static boolean inParallelMode = false;
+	public static CoverMode coverMode = CoverMode.PETRICKS_METHOD;
+	public static PrimeMode primeMode = PrimeMode.TABULATION;
+	public static CostModel costModel = CostModel.TERMS_THEN_LITERALS;
+	public static long anytimeBudgetMillis = -1; // Negative for no anytime budget (the anytime cover mode uses its default)
+	public static int solutionLimit = 1000; // Most solutions written out (and listed by the GUI)
+
+	// Anytime budget of the anytime cover mode when no budget is set
+	private static final long DEFAULT_ANYTIME_BUDGET_MILLIS = 5000;
 
 	/**
 	 * Runs the Quine McCluskey algorithm and Petrick's method on a specified Boolean expression.
+	 * (Thin wrapper around a {@link MinimizerSession} which keeps the latest result for the GUI.)
 	 *
 	 * @param funcToMinimize
 	 * 			the Boolean expression to attempt to simplify.
@@ -52,109 +60,65 @@ public class QuineMcCluskey
 	public static List<String> runAlgorithm(String funcToMinimize, DoubleProperty prop_WorkDone)
 			throws DistributivePropertyException
 	{
-		resetForNewRun();
-
-		if(funcToMinimize.length() == 0)
-		{
-			if(inDebugMode) System.out.println("Boolean expression is empty.");
-			return new ArrayList<>(0); // Exit early and return empty list
-		}
-
-		Parser parser = new Parser(funcToMinimize);
-		Group group = parser.createGroup();
-
-		// Store original terms for creation of prime implication chart
-		List<Term> originalTerms = group.getTerms();
-
-		// Minimize terms until no longer possible
-		int step = 1;
-		do
-		{
-			// Print out step #
-			if(inDebugMode) System.out.println("Step " + String.valueOf(step));
-
-			// Print out group
-			if(inDebugMode) Print.printGroup(group);
-
-			groups.add(group);
-			steps.add(step);
-			step++;
-		} while((group = Group.minimize(group)).getSize() > 0);
-
-		// Print out prime terms
-		List<Term> primes = Group.getReorderedPrimes();
-		if(inDebugMode) Print.printPrimes(primes);
-
-		if(inDebugMode) System.out.println();
-
-		// Create Prime Implication Chart
-		primeChart = new PrimeImplicantChart(originalTerms, primes);
-
-		// Print Prime Implication Chart
-		if(inDebugMode) System.out.println();
-		if(inDebugMode) System.out.println("Prime Implication Chart:");
-		if(inDebugMode) System.out.println("========================");
-		if(inDebugMode) Print.printGrid(primeChart);
-
-		// Store essential primes
-		char[][] primeGrid = primeChart.getPrimeGrid();
-		List<Term> essentialPrimes = primeChart.getEssentialPrimes();
-
-		String initialSolution = Constants.EMPTY_STRING;
+		return runAlgorithm(funcToMinimize, prop_WorkDone, CancellationToken.NONE);
+	}
 
-		// Loops through all essential primes and store them in final solution
-		for(int i = 0; i < essentialPrimes.size(); i++)
+	/**
+	 * Runs the Quine McCluskey algorithm and Petrick's method on a specified Boolean expression until it is done or
+	 * the cancellation token is cancelled.
+	 *
+	 * @param funcToMinimize
+	 * 			the Boolean expression to attempt to simplify.
+	 * @param prop_WorkDone
+	 * 			the current progress of the algorithm.
+	 * @param token
+	 * 			the cancellation token (cancelled by another thread or by its deadline).
+	 * @return the solutions representing maximally simplified Boolean expressions.
+	 * @throws DistributivePropertyException
+	 * @throws MinimizationCancelledException
+	 * 			if the token is cancelled before the run is done (the latest result is then empty).
+	 */
+	public static List<String> runAlgorithm(String funcToMinimize, DoubleProperty prop_WorkDone,
+											CancellationToken token) throws DistributivePropertyException
+	{
+		MinimizerSession session = new MinimizerSession(prop_WorkDone);
+		session.setDebugMode(inDebugMode);
+		session.setParallelPool(inParallelMode ? ForkJoinPool.commonPool() : null);
+		session.setCoverMode(coverMode);
+		session.setPrimeMode(primeMode);
+		session.setCostModel(costModel);
+		session.setSolutionLimit(solutionLimit);
+		session.setCancellationToken(token);
+		if(anytimeBudgetMillis >= 0)
 		{
-			initialSolution += essentialPrimes.get(i).getRegularForm() + " + ";
+			session.setAnytimeBudget(anytimeBudgetMillis, TimeUnit.MILLISECONDS, Long.MAX_VALUE);
 		}
-
-		// Check if any essential primes exist
-		// (ensures that for loop ran before attempting to remove last " + " from the String
-		if(essentialPrimes.size() > 0)
+		else if(coverMode == CoverMode.ANYTIME)
 		{
-			initialSolution = initialSolution.substring(0, initialSolution.length() - 3);
-			initialSolution.replace("-", Constants.EMPTY_STRING);
+			session.setAnytimeBudget(DEFAULT_ANYTIME_BUDGET_MILLIS, TimeUnit.MILLISECONDS, Long.MAX_VALUE);
 		}
 
-		// Run Petrick's Method
-		PetricksMethod petricksMethod = new PetricksMethod(primeGrid, primes, essentialPrimes, prop_WorkDone);
-
-		List<String> finalSolutions = petricksMethod.runMethod(initialSolution);
-		reducedPrimeChart = petricksMethod.getReducedPrimeImplicantChart();
-
-		if(inDebugMode) System.out.println();
-		if(inDebugMode) System.out.println("Petrick's Method - Reduced Prime Implication Chart:");
-		if(inDebugMode) System.out.println("===================================================");
-
-		// Check if prime implicant chart could be simplified
-		if(reducedPrimeChart != null)
+		try
 		{
-			// Print the reduced prime implication chart
-			if(inDebugMode) Print.printGrid(reducedPrimeChart);
+			session.minimize(funcToMinimize);
 		}
-		else
-		{
-			if(inDebugMode) System.out.println("Chart could not be reduced.");
-		}
-
-		// Print out all minimal solutions
-		if(inDebugMode) System.out.println();
-		for(int i = 0; i < finalSolutions.size(); i++)
+		finally
 		{
-			if(inDebugMode) System.out.println("Minimal Solution: " + finalSolutions.get(i));
+			// Keep whatever was produced (even by a failed run) for the GUI
+			lastResult = session.getResult();
 		}
 
-		return finalSolutions;
+		return lastResult.getSolutions();
 	}
 
 	/**
-	 * Resets static variables for a new run.
+	 * Retrieves the number of solutions (including any beyond the solution limit).
+	 *
+	 * @return the number of solutions (Long.MAX_VALUE if the number does not fit in a long).
 	 */
-	private static void resetForNewRun()
+	public static long getSolutionCount()
 	{
-		steps.clear();
-		groups.clear();
-		Group.getPrimes().clear();
+		return lastResult.getSolutionCount();
 	}
 
 	/**
@@ -164,7 +128,7 @@ public class QuineMcCluskey
 	 */
 	public static List<Integer> getSteps()
 	{
-		return steps;
+		return lastResult.getSteps();
 	}
 
 	/**
@@ -174,7 +138,7 @@ public class QuineMcCluskey
 	 */
 	public static List<Group> getGroups()
 	{
-		return groups;
+		return lastResult.getGroups();
 	}
 
 	/**
@@ -184,7 +148,7 @@ public class QuineMcCluskey
 	 */
 	public static PrimeImplicantChart getPrimeImplicantChart()
 	{
-		return primeChart;
+		return lastResult.getPrimeImplicantChart();
 	}
 
 	/**
@@ -194,94 +158,103 @@ public class QuineMcCluskey
 	 */
 	public static PrimeImplicantChart getReducedPrimeImplicantChart()
 	{
-		return reducedPrimeChart;
+		return lastResult.getReducedPrimeImplicantChart();
+	}
+
+	/**
+	 * Determines whether the solutions are proven to be minimal.
+	 *
+	 * @return whether the solutions are proven to be minimal (false if the anytime budget ran out first).
+	 */
+	public static boolean isProvenMinimal()
+	{
+		return lastResult.isProvenMinimal();
+	}
+
+	/**
+	 * Retrieves how far the first solution may be from minimal.
+	 *
+	 * @return the fraction of the first solution's cost not accounted for by the proven lower bound.
+	 */
+	public static double getOptimalityGap()
+	{
+		return lastResult.getOptimalityGap();
 	}
 
 	/**
 	 * Generates a random Boolean expression.
+	 * Up to 26 literals are written as letters (i.e. ab'c), more literals as identifiers (i.e. x1*x2'*x3).
 	 *
 	 * @param numOfLiterals
 	 * 			the number of literals for each term in the random Boolean expression.
 	 * @param numOfTerms
-	 * 			the number of terms that make up the random Boolean expression.
+	 * 			the number of terms that make up the random Boolean expression (at most 2^numOfLiterals).
 	 * @return a random Boolean expression.
 	 */
 	public static String getRandomExpression(int numOfLiterals, int numOfTerms)
 	{
 		// Local variables
-		char[] letters = {'a', 'b', 'c', 'd', 'e', 'f', 'g', 'h', 'i', 'j',
-						  'k', 'l', 'm', 'n', 'o', 'p', 'q', 'r', 's', 't',
-						  'u', 'v', 'w', 'x', 'y', 'z'};
-		String randomExpression = Constants.EMPTY_STRING;
+		StringBuilder randomExpression = new StringBuilder();
+		boolean usesLetters = numOfLiterals <= 26;
 
-		// Check if maximum # of literals exceeded
-		if(numOfLiterals > 26 || numOfLiterals == 0)
+		// Check if there are no literals
+		if(numOfLiterals <= 0)
 		{
 			return Constants.EMPTY_STRING;
 		}
 
-		int maxTermCount = (int)Math.pow(2, numOfLiterals);
-		if(inDebugMode) System.out.println("Possible Num. of Term Combinations: " + maxTermCount);
-		String[] possibleTerms = new String[maxTermCount];
-
-		// Generate all possible terms
-		for(int termNum = 0; termNum < maxTermCount; termNum++)
+		// Limit to the number of possible terms
+		if(numOfLiterals < Integer.SIZE - 1)
 		{
-			String binaryRepresentation = Integer.toBinaryString(termNum);
-
-			// Loop through binary number and add missing 0's
-			while(binaryRepresentation.length() < numOfLiterals)
-			{
-				binaryRepresentation = "0" + binaryRepresentation;
-			}
-
-			String literalRepresentation = Constants.EMPTY_STRING;
-
-			// Loop through binary representation change bits to literals
-			for(int i = 0; i < binaryRepresentation.length(); i++)
-			{
-				literalRepresentation += letters[i];
-
-				// Check if literal should be complement
-				if(binaryRepresentation.charAt(i) == '0')
-				{
-					literalRepresentation += "'";
-				}
-			}
-
-			possibleTerms[termNum] = literalRepresentation;
+			numOfTerms = Math.min(numOfTerms, 1 << numOfLiterals);
 		}
-
-		// Generate random # of terms (Leave code - might need in future for Debugging)
-//		int numOfTerms = ThreadLocalRandom.current().nextInt(0, maxTermCount + 1);
-//		int numOfTerms = ThreadLocalRandom.current().nextInt(0, 21); // Range: 0 to 20
 		if(inDebugMode) System.out.println("Num. of Terms: " + numOfTerms);
 
-		// Generate set of random numbers identifying which terms to use
+		// Generate random distinct terms (bit i set = literal i is NOT the complement)
 		Random rng = new Random(); // Ideally just create one instance globally
-		Set<Integer> generated = new LinkedHashSet<Integer>(); // Use LinkedHashSet to maintain insertion order
-		while (generated.size() < numOfTerms)
+		Set<BitSet> generated = new LinkedHashSet<BitSet>(); // Use LinkedHashSet to maintain insertion order
+		while(generated.size() < numOfTerms)
 		{
-		    Integer next = rng.nextInt(maxTermCount);
+			BitSet next = new BitSet(numOfLiterals);
+			for(int i = 0; i < numOfLiterals; i++)
+			{
+				if(rng.nextBoolean())
+				{
+					next.set(i);
+				}
+			}
 
-		    // As we're adding to a set, this will automatically do a containment check
-		    generated.add(next);
+			// As we're adding to a set, this will automatically do a containment check
+			generated.add(next);
 		}
 
-		Iterator<Integer> itr = generated.iterator();
-
-		// Loop through all terms in random boolean expression
-		for(int termNum = 0; termNum < numOfTerms; termNum++)
+		// Loop through all terms in random boolean expression and change bits to literals
+		for(BitSet term : generated)
 		{
-			randomExpression += possibleTerms[itr.next()];
+			if(randomExpression.length() > 0)
+			{
+				randomExpression.append(" + ");
+			}
 
-			// Verify NOT on last term
-			if(termNum != (numOfTerms - 1))
+			for(int i = 0; i < numOfLiterals; i++)
 			{
-				randomExpression += " + ";
+				if(usesLetters)
+				{
+					randomExpression.append((char)('a' + i));
+				}
+				else
+				{
+					randomExpression.append((i == 0) ? "x" : "*x").append(i + 1);
+				}
+
+				// Check if literal should be complement
+				if(!term.get(i))
+				{
+					randomExpression.append('\'');
+				}
 			}
 		}
 
-		return randomExpression;
+		return randomExpression.toString();
 	}
 }
@@ -0,0 +1,167 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for the minimal solutions of a run, written out one at a time as they are enumerated.
+ * Only the covers found for each component of the chart are kept; every combination of them is formed and written
+ * when it is reached, so enumerating the solutions takes the same memory however many of them there are. The terms of
+ * any solution can be formed from its cover without writing or parsing the solution.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.algorithm;
+
+import com.deruiter.model.group.term.Term;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public class SolutionSequence implements Iterable<String>
+{
+	// Instance variables
+	private Iterable<long[]> covers;
+	private long size;
+	private Function<long[], List<Term>> coverWriter;
+	private Function<long[], String> solutionWriter;
+
+	/**
+	 * Constructor for a sequence of solutions.
+	 *
+	 * @param covers
+	 * 			the covers the solutions are written from (enumerated again for every iterator).
+	 * @param size
+	 * 			the number of covers (Long.MAX_VALUE if the number does not fit in a long).
+	 * @param coverWriter
+	 * 			forms the terms of the solution of a cover (in the order they are written).
+	 * @param solutionWriter
+	 * 			writes the solution of a cover.
+	 */
+	public SolutionSequence(Iterable<long[]> covers, long size, Function<long[], List<Term>> coverWriter,
+							Function<long[], String> solutionWriter)
+	{
+		this.covers = covers;
+		this.size = size;
+		this.coverWriter = coverWriter;
+		this.solutionWriter = solutionWriter;
+	}
+
+	/**
+	 * Creates a sequence without any solutions.
+	 *
+	 * @return the empty sequence.
+	 */
+	public static SolutionSequence empty()
+	{
+		return new SolutionSequence(Collections.<long[]>emptyList(), 0, cover -> null, cover -> null);
+	}
+
+	/**
+	 * Retrieves the number of solutions (without writing any of them).
+	 *
+	 * @return the number of solutions (Long.MAX_VALUE if the number does not fit in a long).
+	 */
+	public long size()
+	{
+		return size;
+	}
+
+	/**
+	 * Determines whether there are no solutions.
+	 *
+	 * @return whether there are no solutions.
+	 */
+	public boolean isEmpty()
+	{
+		return size == 0;
+	}
+
+	/**
+	 * Forms the terms of a solution from its cover (the covers before it are skipped without being formed).
+	 *
+	 * @param solutionIndex
+	 * 			the index of the solution.
+	 * @return the terms of the solution (the primes it is made of, in the order they are written).
+	 * @throws IndexOutOfBoundsException
+	 * 			if there is no solution at the index.
+	 */
+	public List<Term> getCover(long solutionIndex)
+	{
+		// Local variable
+		Iterator<long[]> coverIterator = covers.iterator();
+
+		for(long i = 0; i < solutionIndex && coverIterator.hasNext(); i++)
+		{
+			coverIterator.next();
+		}
+
+		// Check if the index is past the last solution
+		if(solutionIndex < 0 || !coverIterator.hasNext())
+		{
+			throw new IndexOutOfBoundsException("No solution at index " + solutionIndex);
+		}
+
+		return coverWriter.apply(coverIterator.next());
+	}
+
+	/**
+	 * Creates an iterator which writes each solution when it is reached.
+	 *
+	 * @return the iterator.
+	 */
+	@Override
+	public Iterator<String> iterator()
+	{
+		// Local variable
+		Iterator<long[]> coverIterator = covers.iterator();
+
+		return new Iterator<String>()
+		{
+			@Override
+			public boolean hasNext()
+			{
+				return coverIterator.hasNext();
+			}
+
+			@Override
+			public String next()
+			{
+				return solutionWriter.apply(coverIterator.next());
+			}
+		};
+	}
+
+	/**
+	 * Creates a sequential stream which writes each solution when it is reached (use limit() for the first solutions).
+	 *
+	 * @return the stream.
+	 */
+	public Stream<String> stream()
+	{
+		// Local variable
+		int characteristics = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+		// Check if the number of solutions is known exactly
+		Spliterator<String> spliterator = (size == Long.MAX_VALUE)
+				? Spliterators.spliteratorUnknownSize(iterator(), characteristics)
+				: Spliterators.spliterator(iterator(), size, characteristics);
+
+		return StreamSupport.stream(spliterator, false);
+	}
+}
@@ -24,8 +24,9 @@ public class InvalidInputException extends Exception
     // Class variable
 	private static final long serialVersionUID = 1L;
 
-    // Instance variable
+    // Instance variables
 	private String errMessage;
+	private int position;
 
 	/**
 	 * Constructor for an invalid input exception.
@@ -34,18 +35,46 @@ public class InvalidInputException extends Exception
 	 * 			the error message to display for the exception detailing what is wrong with the Boolean expression.
 	 */
 	public InvalidInputException(String errMessage)
+	{
+		this(errMessage, -1);
+	}
+
+	/**
+	 * Constructor for an invalid input exception at a known position of the Boolean expression.
+	 *
+	 * @param errMessage
+	 * 			the error message to display for the exception detailing what is wrong with the Boolean expression.
+	 * @param position
+	 * 			the index (0 = first character) of the character the error was found at (-1 if unknown).
+	 */
+	public InvalidInputException(String errMessage, int position)
 	{
 		this.errMessage = errMessage;
+		this.position = position;
+	}
+
+	/**
+	 * Retrieves the position the error was found at.
+	 *
+	 * @return the index (0 = first character) of the character the error was found at (-1 if unknown).
+	 */
+	public int getPosition()
+	{
+		return position;
 	}
 
 	/**
-	 * Retrieves the detailed error message.
+	 * Retrieves the detailed error message (followed by the position of the error if it is known).
 	 *
 	 * @return the detailed error message.
 	 */
 	@Override
 	public String getMessage()
 	{
-		return errMessage;
+		if(position < 0)
+		{
+			return errMessage;
+		}
+		return errMessage + " (at character " + (position + 1) + ")";
 	}
 }
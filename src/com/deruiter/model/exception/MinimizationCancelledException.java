@@ -0,0 +1,65 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model exception class for minimization runs that were cancelled or ran past their deadline.
+ * The exception is unchecked so it can leave fork-join tasks and deeply nested loops without changing their
+ * signatures.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.exception;
+
+import java.util.concurrent.CancellationException;
+
+public class MinimizationCancelledException extends CancellationException
+{
+	// Class variable
+	private static final long serialVersionUID = 1L;
+
+	// Instance variable
+	private boolean wasTimedOut;
+
+	/**
+	 * Constructor for a minimization cancelled exception.
+	 *
+	 * @param wasTimedOut
+	 * 			whether the run was stopped by its deadline (instead of being cancelled).
+	 */
+	public MinimizationCancelledException(boolean wasTimedOut)
+	{
+		this.wasTimedOut = wasTimedOut;
+	}
+
+	/**
+	 * Determines whether the run was stopped by its deadline.
+	 *
+	 * @return whether the run was stopped by its deadline (instead of being cancelled).
+	 */
+	public boolean wasTimedOut()
+	{
+		return wasTimedOut;
+	}
+
+	/**
+	 * Retrieves the error message for the exception.
+	 *
+	 * @return the error message.
+	 */
+	@Override
+	public String getMessage()
+	{
+		return wasTimedOut ? "Minimization deadline exceeded." : "Minimization cancelled.";
+	}
+}
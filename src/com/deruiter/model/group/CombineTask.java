@@ -0,0 +1,153 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for a fork-join combine task.
+ * A combine task combines the terms of one or more buckets (terms with the same care mask and one count) with their
+ * partners in the neighboring buckets. Combined terms are merged into a shared concurrent map which keeps, for every
+ * distinct combined term, the first pair of terms (in group order) that formed it.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.group;
+
+import com.deruiter.model.group.term.Term;
+import com.deruiter.utilities.CancellationToken;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RecursiveAction;
+
+class CombineTask extends RecursiveAction
+{
+	// Class variables
+	private static final long serialVersionUID = 1L;
+	private static final int MAX_SLICE_SIZE = 128;
+
+	// Instance variables
+	private final List<Term> terms;
+	private final CubeIndex index;
+	private final List<int[]> slices;
+	private final int from;
+	private final int to;
+	private final ConcurrentMap<Term, Long> firstPairOfTerm;
+	private final CancellationToken token;
+
+	/**
+	 * Constructor for a combine task.
+	 *
+	 * @param terms
+	 * 			the terms of the group being minimized.
+	 * @param index
+	 * 			the cube index of the terms.
+	 * @param slices
+	 * 			the bucket slices (term positions) to combine.
+	 * @param from
+	 * 			the first slice (inclusive) handled by this task.
+	 * @param to
+	 * 			the last slice (exclusive) handled by this task.
+	 * @param firstPairOfTerm
+	 * 			the map to merge combined terms into (value = the first pair of term positions that formed it).
+	 * @param token
+	 * 			the cancellation token of the run (checked before each slice is combined).
+	 */
+	CombineTask(List<Term> terms, CubeIndex index, List<int[]> slices, int from, int to,
+				ConcurrentMap<Term, Long> firstPairOfTerm, CancellationToken token)
+	{
+		this.terms = terms;
+		this.index = index;
+		this.slices = slices;
+		this.from = from;
+		this.to = to;
+		this.firstPairOfTerm = firstPairOfTerm;
+		this.token = token;
+	}
+
+	/**
+	 * Combines the terms in this task's slices, or splits the slices between two sub-tasks.
+	 */
+	@Override
+	protected void compute()
+	{
+		// Check if task should be split
+		if(to - from > 1)
+		{
+			int mid = (from + to) >>> 1;
+			invokeAll(new CombineTask(terms, index, slices, from, mid, firstPairOfTerm, token),
+					  new CombineTask(terms, index, slices, mid, to, firstPairOfTerm, token));
+			return;
+		}
+
+		for(int slice = from; slice < to; slice++)
+		{
+			token.throwIfCancelled();
+
+			for(int i : slices.get(slice))
+			{
+				Term curTerm = terms.get(i);
+
+				for(int j : index.findPartners(i))
+				{
+					Term nextTerm = terms.get(j);
+					Term combinedTerm = Term.combine(curTerm, nextTerm);
+
+					// Keep the pair that comes first in group order (same term as sequential minimization keeps)
+					firstPairOfTerm.merge(combinedTerm, encodePair(i, j), Math::min);
+
+					// Mark terms as used in minimization so they won't be added as primes later
+					curTerm.markAsUsed();
+					nextTerm.markAsUsed();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Splits buckets into slices small enough to balance work between tasks.
+	 *
+	 * @param buckets
+	 * 			the term positions in each bucket.
+	 * @return the bucket slices.
+	 */
+	static List<int[]> slice(List<int[]> buckets)
+	{
+		List<int[]> slices = new ArrayList<int[]>();
+
+		for(int[] bucket : buckets)
+		{
+			for(int start = 0; start < bucket.length; start += MAX_SLICE_SIZE)
+			{
+				slices.add(Arrays.copyOfRange(bucket, start, Math.min(bucket.length, start + MAX_SLICE_SIZE)));
+			}
+		}
+
+		return slices;
+	}
+
+	/**
+	 * Encodes a pair of term positions so that pairs sort in the order an all-pairs comparison would visit them.
+	 *
+	 * @param i
+	 * 			the position of the first term.
+	 * @param j
+	 * 			the position of the second term.
+	 * @return the encoded pair.
+	 */
+	private static long encodePair(int i, int j)
+	{
+		return ((long)i << 32) | j;
+	}
+}
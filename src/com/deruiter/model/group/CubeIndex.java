@@ -0,0 +1,277 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for a cube index.
+ * A cube index hashes the terms of a group by their cubes so that the terms a term can combine with are found by
+ * lookup instead of by comparing every pair of terms. It also buckets the terms by care mask and one count.
+ * Cubes of at most 64 variables are packed into primitive arrays and hashed in an open addressing table, so their
+ * partners are looked up a word at a time without creating a cube for every probe.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.group;
+
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.group.term.cube.Cube;
+
+import java.util.*;
+
+class CubeIndex
+{
+	// Class variables
+	private static final int[] NO_PARTNERS = new int[0];
+	private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
+	// Instance variables
+	private List<Term> terms;
+	private Map<Cube, Integer> firstIndexOfCube;
+	private int[] nextIndexOfCube;
+	private long[] packedValues;
+	private long[] packedMasks;
+	private int[] firstIndexOfSlot;
+
+	/**
+	 * Constructor for a cube index.
+	 * Terms sharing the same cube are chained together in ascending order.
+	 *
+	 * @param terms
+	 * 			the terms to index.
+	 */
+	CubeIndex(List<Term> terms)
+	{
+		this.terms = terms;
+		nextIndexOfCube = new int[terms.size()];
+
+		int[] lastIndexOfChain = new int[terms.size()];
+
+		// Check if every cube fits in a single word
+		if(!terms.isEmpty() && terms.get(0).getCube().getWidth() > 0 && terms.get(0).getCube().getWordCount() == 1)
+		{
+			packTerms(lastIndexOfChain);
+			return;
+		}
+
+		firstIndexOfCube = new HashMap<Cube, Integer>(terms.size() * 2);
+
+		for(int i = 0; i < terms.size(); i++)
+		{
+			nextIndexOfCube[i] = -1;
+
+			Integer first = firstIndexOfCube.putIfAbsent(terms.get(i).getCube(), i);
+			if(first == null)
+			{
+				lastIndexOfChain[i] = i;
+			}
+			else
+			{
+				nextIndexOfCube[lastIndexOfChain[first]] = i;
+				lastIndexOfChain[first] = i;
+			}
+		}
+	}
+
+	/**
+	 * Packs the single word cubes of the terms into primitive arrays and chains them in an open addressing table.
+	 * (The table is at least twice the number of terms so that a probe ends at an empty slot quickly.)
+	 *
+	 * @param lastIndexOfChain
+	 * 			the last position of the chain started at each position.
+	 */
+	private void packTerms(int[] lastIndexOfChain)
+	{
+		packedValues = new long[terms.size()];
+		packedMasks = new long[terms.size()];
+		firstIndexOfSlot = new int[Integer.highestOneBit(Math.max(1, terms.size())) << 2];
+		Arrays.fill(firstIndexOfSlot, -1);
+
+		for(int i = 0; i < terms.size(); i++)
+		{
+			Cube cube = terms.get(i).getCube();
+			packedValues[i] = cube.getValueWord(0);
+			packedMasks[i] = cube.getMaskWord(0);
+			nextIndexOfCube[i] = -1;
+
+			int slot = findSlot(packedValues[i], packedMasks[i]);
+			int first = firstIndexOfSlot[slot];
+			if(first == -1)
+			{
+				firstIndexOfSlot[slot] = i;
+				lastIndexOfChain[i] = i;
+			}
+			else
+			{
+				nextIndexOfCube[lastIndexOfChain[first]] = i;
+				lastIndexOfChain[first] = i;
+			}
+		}
+	}
+
+	/**
+	 * Finds the slot of the table that holds (or would hold) the chain of a packed cube.
+	 *
+	 * @param value
+	 * 			the value word of the cube.
+	 * @param mask
+	 * 			the care mask word of the cube.
+	 * @return the slot of the cube's chain, or the empty slot where it would start.
+	 */
+	private int findSlot(long value, long mask)
+	{
+		long h = (value * HASH_MULTIPLIER ^ mask) * HASH_MULTIPLIER;
+		int slotMask = firstIndexOfSlot.length - 1;
+
+		for(int slot = (int)(h >>> 32) & slotMask; ; slot = (slot + 1) & slotMask)
+		{
+			int first = firstIndexOfSlot[slot];
+			if(first == -1 || (packedValues[first] == value && packedMasks[first] == mask))
+			{
+				return slot;
+			}
+		}
+	}
+
+	/**
+	 * Finds the positions of all terms that the specified term can combine with.
+	 * A term can only combine with a cube that has one more 1 and differs at a single position, so all of its
+	 * partners are found by raising each of its 0 (or eliminated) positions to a 1 and looking the result up.
+	 * Each pair is only found from the term with fewer 1's, so partners before the term (such as minterms before the
+	 * don't-care terms they combine with) are found as well without any pair being found twice.
+	 *
+	 * @param termIndex
+	 * 			the position of the term in the group.
+	 * @return the positions (in ascending order) of the terms the term can combine with.
+	 */
+	int[] findPartners(int termIndex)
+	{
+		if(packedValues != null)
+		{
+			return findPackedPartners(termIndex);
+		}
+
+		Cube cube = terms.get(termIndex).getCube();
+		int[] partners = NO_PARTNERS;
+		int partnerCount = 0;
+
+		for(int position = 0; position < cube.getWidth(); position++)
+		{
+			// Check if bit is already a 1 (raising it would not produce a neighbor)
+			if(cube.isSet(position))
+			{
+				continue;
+			}
+
+			Integer index = firstIndexOfCube.get(cube.raise(position));
+
+			for(int j = (index == null) ? -1 : index; j != -1; j = nextIndexOfCube[j])
+			{
+				if(partnerCount == partners.length)
+				{
+					partners = Arrays.copyOf(partners, Math.max(4, partners.length * 2));
+				}
+				partners[partnerCount++] = j;
+			}
+		}
+
+		partners = Arrays.copyOf(partners, partnerCount);
+		Arrays.sort(partners);
+
+		return partners;
+	}
+
+	/**
+	 * Finds the positions of all terms that the specified packed term can combine with.
+	 * The positions the term can be raised at are taken a word at a time from its value.
+	 *
+	 * @param termIndex
+	 * 			the position of the term in the group.
+	 * @return the positions (in ascending order) of the terms the term can combine with.
+	 */
+	private int[] findPackedPartners(int termIndex)
+	{
+		long value = packedValues[termIndex];
+		long mask = packedMasks[termIndex];
+		int width = terms.get(termIndex).getCube().getWidth();
+		int[] partners = NO_PARTNERS;
+		int partnerCount = 0;
+
+		// Raise each 0 (or eliminated) position, which are all the bits within the width that are not set
+		for(long zeros = ~value & (-1L >>> (Long.SIZE - width)); zeros != 0; zeros &= zeros - 1)
+		{
+			long bit = Long.lowestOneBit(zeros);
+
+			for(int j = firstIndexOfSlot[findSlot(value | bit, mask | bit)]; j != -1; j = nextIndexOfCube[j])
+			{
+				if(partnerCount == partners.length)
+				{
+					partners = Arrays.copyOf(partners, Math.max(4, partners.length * 2));
+				}
+				partners[partnerCount++] = j;
+			}
+		}
+
+		partners = Arrays.copyOf(partners, partnerCount);
+		Arrays.sort(partners);
+
+		return partners;
+	}
+
+	/**
+	 * Buckets the positions of the terms by care mask and one count.
+	 * All partners of the terms in a bucket are in the buckets with one more 1, so each bucket together with its
+	 * neighbors is an independent unit of work.
+	 *
+	 * @return the positions of the terms in each bucket (ascending within each bucket).
+	 */
+	List<int[]> getBuckets()
+	{
+		Map<Cube, Map<Integer, List<Integer>>> bucketsByMask = new LinkedHashMap<Cube, Map<Integer, List<Integer>>>();
+
+		for(int i = 0; i < terms.size(); i++)
+		{
+			Cube cube = terms.get(i).getCube();
+
+			Map<Integer, List<Integer>> bucketsByOneCount = bucketsByMask.get(cube.getCareMask());
+			if(bucketsByOneCount == null)
+			{
+				bucketsByOneCount = new LinkedHashMap<Integer, List<Integer>>();
+				bucketsByMask.put(cube.getCareMask(), bucketsByOneCount);
+			}
+
+			List<Integer> bucket = bucketsByOneCount.get(cube.getOneCount());
+			if(bucket == null)
+			{
+				bucket = new ArrayList<Integer>();
+				bucketsByOneCount.put(cube.getOneCount(), bucket);
+			}
+			bucket.add(i);
+		}
+
+		List<int[]> buckets = new ArrayList<int[]>();
+		for(Map<Integer, List<Integer>> bucketsByOneCount : bucketsByMask.values())
+		{
+			for(List<Integer> bucket : bucketsByOneCount.values())
+			{
+				int[] positions = new int[bucket.size()];
+				for(int i = 0; i < positions.length; i++)
+				{
+					positions[i] = bucket.get(i);
+				}
+				buckets.add(positions);
+			}
+		}
+
+		return buckets;
+	}
+}
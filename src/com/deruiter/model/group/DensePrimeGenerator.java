@@ -0,0 +1,321 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for a dense prime generator.
+ * A dense prime generator finds the primes of a group of minterms without forming a term for every implicant.
+ * Every set of eliminated positions has a bitmap over all 2^n minterm numbers in which bit v is set if the cube with
+ * value v (and those positions eliminated) only covers minterms and don't-care terms. Each bitmap is formed from the
+ * bitmap with one less eliminated position by a word-wide AND with a shifted copy of itself, and the cubes no other
+ * cube of the same bitmap combines with are the primes. The bitmaps are formed depth first (so only one bitmap per
+ * eliminated position is held at a time) and a bitmap with no bits set ends its branch.
+ *
+ * The primes found are the same as those found by minimizing the group step by step (see {@link Group#minimize}).
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.group;
+
+import com.deruiter.model.exception.MinimizationCancelledException;
+import com.deruiter.model.group.term.CombinedTerm;
+import com.deruiter.model.group.term.IdSet;
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.literal.SymbolTable;
+import com.deruiter.utilities.CancellationToken;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class DensePrimeGenerator
+{
+	// Class variables
+	public static final int MAX_VARIABLE_COUNT = 20;
+	private static final long[] LOWER_HALVES = {0x5555555555555555L, 0x3333333333333333L, 0x0F0F0F0F0F0F0F0FL,
+			0x00FF00FF00FF00FFL, 0x0000FFFF0000FFFFL, 0x00000000FFFFFFFFL}; // Bits whose minterm number has bit b clear
+
+	// Instance variables
+	private List<Term> terms;
+	private SymbolTable symbolTable;
+	private int variableCount;
+	private int wordCount;
+	private long[][] bitmaps;
+	private List<List<Term>> primesByLevel;
+	private CancellationToken token;
+
+	/**
+	 * Constructor for a dense prime generator.
+	 *
+	 * @param group
+	 * 			the group of minterms and don't-care terms (checked by {@link #canGenerate}).
+	 */
+	public DensePrimeGenerator(Group group)
+	{
+		this.terms = group.getTerms();
+		this.symbolTable = terms.get(0).getSymbolTable();
+		this.variableCount = terms.get(0).getCube().getWidth();
+		this.wordCount = Math.max(1, (1 << variableCount) >>> 6);
+	}
+
+	/**
+	 * Determines whether the primes of a group can be found by a dense prime generator.
+	 * Only a group of distinct minterms (no eliminated positions) of at most 20 variables can be.
+	 *
+	 * @param group
+	 * 			the group to check.
+	 * @return whether the primes of the group can be found by a dense prime generator.
+	 */
+	public static boolean canGenerate(Group group)
+	{
+		List<Term> terms = group.getTerms();
+
+		// Check if group is empty or too wide
+		if(terms.isEmpty() || terms.get(0).getCube().getWidth() > MAX_VARIABLE_COUNT)
+		{
+			return false;
+		}
+
+		int width = terms.get(0).getCube().getWidth();
+		long fullMask = (1L << width) - 1;
+		long[] seen = new long[Math.max(1, (1 << width) >>> 6)];
+
+		// Check if every term is a distinct minterm
+		for(Term term : terms)
+		{
+			Cube cube = term.getCube();
+			if(cube.getWidth() != width || cube.getMaskWord(0) != fullMask)
+			{
+				return false;
+			}
+
+			int minterm = (int)cube.getValueWord(0);
+			if((seen[minterm >>> 6] & (1L << minterm)) != 0)
+			{
+				return false;
+			}
+			seen[minterm >>> 6] |= 1L << minterm;
+		}
+		return true;
+	}
+
+	/**
+	 * Finds all primes of the group.
+	 * The primes are ordered by the number of eliminated positions (fewest first) like the primes found step by
+	 * step, but the primes with the same number of eliminated positions may be in a different order.
+	 *
+	 * @return all primes of the group.
+	 */
+	public List<Term> generatePrimes()
+	{
+		return generatePrimes(CancellationToken.NONE);
+	}
+
+	/**
+	 * Finds all primes of the group, checking for cancellation before each bitmap is searched.
+	 *
+	 * @param token
+	 * 			the cancellation token of the run.
+	 * @return all primes of the group.
+	 * @throws MinimizationCancelledException
+	 * 			if the token is cancelled before all primes are found.
+	 */
+	public List<Term> generatePrimes(CancellationToken token)
+	{
+		// Local variables
+		int[] idOfMinterm = new int[1 << variableCount];
+		List<Term> primes = new ArrayList<Term>();
+
+		this.token = token;
+		bitmaps = new long[variableCount + 1][wordCount];
+		primesByLevel = new ArrayList<List<Term>>(variableCount + 1);
+		for(int level = 0; level <= variableCount; level++)
+		{
+			primesByLevel.add(new ArrayList<Term>());
+		}
+
+		// Set the bit of every minterm and don't-care term
+		for(int i = 0; i < terms.size(); i++)
+		{
+			int minterm = (int)terms.get(i).getCube().getValueWord(0);
+			bitmaps[0][minterm >>> 6] |= 1L << minterm;
+			idOfMinterm[minterm] = i;
+		}
+
+		findPrimes(0, 0, 0, idOfMinterm);
+
+		for(List<Term> levelPrimes : primesByLevel)
+		{
+			primes.addAll(levelPrimes);
+		}
+		return primes;
+	}
+
+	/**
+	 * Finds the primes of a bitmap and of every bitmap formed from it by eliminating further positions.
+	 *
+	 * @param eliminated
+	 * 			the bits of the eliminated positions of the bitmap.
+	 * @param level
+	 * 			the number of eliminated positions (the bitmap is bitmaps[level]).
+	 * @param firstBit
+	 * 			the lowest bit which may be eliminated next (so each set of eliminated positions is formed once).
+	 * @param idOfMinterm
+	 * 			the ID of the term of every minterm number.
+	 */
+	private void findPrimes(int eliminated, int level, int firstBit, int[] idOfMinterm)
+	{
+		// Local variables
+		long[] bitmap = bitmaps[level];
+		long[] absorbed = new long[wordCount];
+
+		token.throwIfCancelled();
+
+		// Mark every cube which combines with another cube of the bitmap
+		for(int bit = 0; bit < variableCount; bit++)
+		{
+			if((eliminated & (1 << bit)) == 0)
+			{
+				markAbsorbed(bitmap, bit, absorbed);
+			}
+		}
+
+		// Cubes which were not absorbed are primes
+		for(int i = 0; i < wordCount; i++)
+		{
+			for(long remaining = bitmap[i] & ~absorbed[i]; remaining != 0; remaining &= remaining - 1)
+			{
+				int minterm = (i << 6) + Long.numberOfTrailingZeros(remaining);
+				primesByLevel.get(level).add(createPrime(minterm, eliminated, idOfMinterm));
+			}
+		}
+
+		// Eliminate each further position (the branch ends if no cube is left)
+		for(int bit = firstBit; bit < variableCount; bit++)
+		{
+			if(combine(bitmap, bit, bitmaps[level + 1]))
+			{
+				findPrimes(eliminated | (1 << bit), level + 1, bit + 1, idOfMinterm);
+			}
+		}
+	}
+
+	/**
+	 * Marks every cube of a bitmap which combines with the cube differing from it at the specified bit.
+	 *
+	 * @param bitmap
+	 * 			the bitmap of the cubes.
+	 * @param bit
+	 * 			the bit at which the cubes are combined.
+	 * @param absorbed
+	 * 			the bitmap to mark the cubes in.
+	 */
+	private void markAbsorbed(long[] bitmap, int bit, long[] absorbed)
+	{
+		if(bit < 6)
+		{
+			int shift = 1 << bit;
+			long lowerHalf = LOWER_HALVES[bit];
+			for(int i = 0; i < wordCount; i++)
+			{
+				long word = bitmap[i];
+				long partners = ((word >>> shift) & lowerHalf) | ((word << shift) & ~lowerHalf);
+				absorbed[i] |= word & partners;
+			}
+		}
+		else
+		{
+			int distance = 1 << (bit - 6);
+			for(int i = 0; i < wordCount; i++)
+			{
+				absorbed[i] |= bitmap[i] & bitmap[i ^ distance];
+			}
+		}
+	}
+
+	/**
+	 * Forms the bitmap of the cubes with a further position eliminated.
+	 * Bit v of the new bitmap (with bit b of v clear) is set if both v and v with bit b set are set.
+	 *
+	 * @param bitmap
+	 * 			the bitmap of the cubes.
+	 * @param bit
+	 * 			the bit of the position to eliminate.
+	 * @param combined
+	 * 			the bitmap to store the combined cubes in.
+	 * @return whether any cube was combined.
+	 */
+	private boolean combine(long[] bitmap, int bit, long[] combined)
+	{
+		// Local variable
+		long any = 0;
+
+		if(bit < 6)
+		{
+			int shift = 1 << bit;
+			long lowerHalf = LOWER_HALVES[bit];
+			for(int i = 0; i < wordCount; i++)
+			{
+				long word = bitmap[i];
+				combined[i] = word & (word >>> shift) & lowerHalf;
+				any |= combined[i];
+			}
+		}
+		else
+		{
+			int distance = 1 << (bit - 6);
+			for(int i = 0; i < wordCount; i++)
+			{
+				combined[i] = ((i & distance) == 0) ? bitmap[i] & bitmap[i | distance] : 0;
+				any |= combined[i];
+			}
+		}
+		return any != 0;
+	}
+
+	/**
+	 * Creates the term of a prime, which holds the ID's of all the minterms it covers.
+	 *
+	 * @param value
+	 * 			the value of the prime (the bits of eliminated positions are clear).
+	 * @param eliminated
+	 * 			the bits of the eliminated positions of the prime.
+	 * @param idOfMinterm
+	 * 			the ID of the term of every minterm number.
+	 * @return the term of the prime.
+	 */
+	private Term createPrime(int value, int eliminated, int[] idOfMinterm)
+	{
+		// Check if prime is a minterm
+		if(eliminated == 0)
+		{
+			return terms.get(idOfMinterm[value]);
+		}
+
+		long mask = ((1L << variableCount) - 1) & ~eliminated;
+		Term prime = new CombinedTerm(new Cube(value, mask, variableCount), symbolTable);
+		int[] ids = new int[1 << Integer.bitCount(eliminated)];
+		int count = 0;
+
+		// Loop through every minterm covered by the prime (every subset of the eliminated bits)
+		int subset = 0;
+		do
+		{
+			ids[count++] = idOfMinterm[value | subset];
+			subset = (subset - eliminated) & eliminated;
+		} while(subset != 0);
+
+		prime.setIds(IdSet.of(ids));
+		return prime;
+	}
+}
@@ -20,21 +20,26 @@
 
 package com.deruiter.model.group;
 
+import com.deruiter.model.exception.MinimizationCancelledException;
+import com.deruiter.model.group.term.IdSet;
 import com.deruiter.model.group.term.Term;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.utilities.CancellationToken;
 import com.deruiter.utilities.Constants;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
 
 public class Group
 {
+	// Class variable
+	private static final int CANCELLATION_CHECK_MASK = 0xFF; // Cancellation is checked once every 256 terms
+
     // Instance variable
 	private List<Term> terms;
 
-    // Class variable
-	private static List<Term> primes = new ArrayList<Term>(0);
-
 	/**
 	 * Constructor for a group.
 	 */
@@ -129,26 +134,13 @@ public class Group
 	}
 
 	/**
-	 * Sorts the terms in a group according to the number of 1's in corresponding bit strings.
-	 * Top (Largest # of 1's) to Bottom (Smallest # of 1's)
-	 * (Sorting Algorithm: Selection Sort)
+	 * Sorts the terms in a group according to the binary numbers formed by their bit strings.
+	 * Top (Smallest number) to Bottom (Largest number)
+	 * (Sorting Algorithm: Merge Sort, which is stable so terms with the same number keep their order)
 	 */
 	public void sort()
 	{
-		 int i, j, first;
-		 Term temp;
-	     for ( i = terms.size() - 1; i > 0; i-- )
-	     {
-	          first = 0; // Initialize to subscript of first element
-	          for(j = 1; j <= i; j ++) // Locate smallest element between positions 1 and i
-	          {
-	               if( terms.get(j).getBinaryNumber() > terms.get(first).getBinaryNumber() )
-	                 first = j;
-	          }
-	          temp = terms.get(first); // Swap smallest found with element in position i
-	          terms.set(first, terms.get(i));
-	          terms.set(i, temp);
-	      }
+		terms.sort((term1, term2) -> term1.compareBinaryNumber(term2));
 	}
 
 	/**
@@ -158,7 +150,7 @@ public class Group
 	{
 		for(int i = 0; i < terms.size(); i++)
 		{
-			terms.get(i).setId(String.valueOf(i));
+			terms.get(i).setIds(IdSet.of(i));
 		}
 	}
 
@@ -208,72 +200,145 @@ public class Group
 
 	/**
 	 * Retrieves all the primes in the group (those terms not used to form simplified terms).
+	 * (Only meaningful once the group has been minimized.)
 	 *
 	 * @return  all the primes in the group.
 	 */
-	public static List<Term> getPrimes()
+	public List<Term> getUnusedTerms()
 	{
-		return primes;
+		List<Term> unusedTerms = new ArrayList<Term>();
+		for(int i = 0; i < terms.size(); i++)
+		{
+			if(!terms.get(i).wasUsed())
+			{
+				unusedTerms.add(terms.get(i));
+			}
+		}
+		return unusedTerms;
 	}
 
 	/**
 	 * Minimizes a group.
 	 *
+	 * Instead of comparing every pair of terms, every term is indexed by its cube (see {@link CubeIndex}) and the
+	 * terms it can combine with are looked up.
+	 *
 	 * @param originalGroup
 	 * 			the original group to minimize.
 	 * @return the minimized group.
 	 */
 	public static Group minimize(Group originalGroup)
 	{
+		return minimize(originalGroup, CancellationToken.NONE);
+	}
+
+	/**
+	 * Minimizes a group, checking for cancellation every few hundred terms.
+	 *
+	 * @param originalGroup
+	 * 			the original group to minimize.
+	 * @param token
+	 * 			the cancellation token of the run.
+	 * @return the minimized group.
+	 * @throws MinimizationCancelledException
+	 * 			if the token is cancelled before the group is minimized.
+	 */
+	public static Group minimize(Group originalGroup, CancellationToken token)
+	{
+		// Local variables
 		Group minimizedGroup = new Group();
+		List<Term> terms = originalGroup.getTerms();
+		Set<Term> combinedTerms = new HashSet<Term>();
+		CubeIndex index = new CubeIndex(terms);
 
-		// Iterate through all terms in original group except for last
-		// (last term has already been compared to all previous terms by the time it is reached)
-		for(int i = 0; i < originalGroup.getSize() - 1; i++)
+		// Iterate through all terms in original group
+		for(int i = 0; i < terms.size(); i++)
 		{
-			Term curTerm = originalGroup.getTerm(i);
+			Term curTerm = terms.get(i);
+
+			// Check if run was cancelled
+			if((i & CANCELLATION_CHECK_MASK) == 0)
+			{
+				token.throwIfCancelled();
+			}
 
-			// Iterate through remaining terms in group after current term
-			for(int j = i + 1; j < originalGroup.getSize(); j++)
+			// Combine in group order so that the minimized group is ordered the same as an all-pairs comparison
+			for(int j : index.findPartners(i))
 			{
-				Term nextTerm = originalGroup.getTerm(j);
-				if(curTerm.isCombinable(nextTerm))
+				Term nextTerm = terms.get(j);
+				Term combinedTerm = Term.combine(curTerm, nextTerm);
+
+				// Check if group already contains term
+				if(combinedTerms.add(combinedTerm))
 				{
-					Term combinedTerm = Term.combine(curTerm, nextTerm);
-
-					// Check if group already contains term
-					if(!minimizedGroup.contains(combinedTerm))
-					{
-						// Term not in group already so add to group
-						minimizedGroup.addTerm(combinedTerm);
-						primes.add(combinedTerm);
-					}
-
-					// Mark terms as used in minimization so they won't be added as primes later
-					curTerm.markAsUsed();
-					nextTerm.markAsUsed();
-
-					// Remove terms that were used to form a new prime
-					primes.remove(curTerm);
-					primes.remove(nextTerm);
+					// Term not in group already so add to group
+					minimizedGroup.addTerm(combinedTerm);
 				}
+
+				// Mark terms as used in minimization so they won't be added as primes later
+				curTerm.markAsUsed();
+				nextTerm.markAsUsed();
 			}
 		}
 
-		// Iterate through all terms in original group (looking for additional primes)
-		for(int i = 0; i < originalGroup.getSize(); i++)
-		{
-			Term curTerm = originalGroup.getTerm(i);
+		return minimizedGroup;
+	}
 
-			// Check if term was not used in minimization
-			if(!curTerm.wasUsed())
+	/**
+	 * Minimizes a group in parallel.
+	 * The terms are bucketed by care mask and one count and each bucket is combined with its neighboring buckets in
+	 * its own fork-join task. The minimized group (and therefore the primes) is identical to the one produced by
+	 * {@link #minimize(Group)}.
+	 *
+	 * @param originalGroup
+	 * 			the original group to minimize.
+	 * @param pool
+	 * 			the fork-join pool to run the combine tasks on.
+	 * @return the minimized group.
+	 */
+	public static Group minimize(Group originalGroup, ForkJoinPool pool)
+	{
+		return minimize(originalGroup, pool, CancellationToken.NONE);
+	}
+
+	/**
+	 * Minimizes a group in parallel, checking for cancellation before each bucket slice is combined.
+	 *
+	 * @param originalGroup
+	 * 			the original group to minimize.
+	 * @param pool
+	 * 			the fork-join pool to run the combine tasks on.
+	 * @param token
+	 * 			the cancellation token of the run.
+	 * @return the minimized group.
+	 * @throws MinimizationCancelledException
+	 * 			if the token is cancelled before the group is minimized.
+	 */
+	public static Group minimize(Group originalGroup, ForkJoinPool pool, CancellationToken token)
+	{
+		// Local variables
+		Group minimizedGroup = new Group();
+		List<Term> terms = originalGroup.getTerms();
+		CubeIndex index = new CubeIndex(terms);
+		List<int[]> slices = CombineTask.slice(index.getBuckets());
+		ConcurrentMap<Term, Long> firstPairOfTerm = new ConcurrentHashMap<Term, Long>();
+
+		pool.invoke(new CombineTask(terms, index, slices, 0, slices.size(), firstPairOfTerm, token));
+
+		// Order the combined terms by the first pair that formed them (same order as sequential minimization)
+		List<Map.Entry<Term, Long>> combinedTerms = new ArrayList<Map.Entry<Term, Long>>(firstPairOfTerm.entrySet());
+		Collections.sort(combinedTerms, new Comparator<Map.Entry<Term, Long>>()
+		{
+			@Override
+			public int compare(Map.Entry<Term, Long> e1, Map.Entry<Term, Long> e2)
 			{
-				// Check that prime list does not already contain current term
-				if(!primes.contains(curTerm))
-				{
-					primes.add(curTerm);
-				}
+				return Long.compare(e1.getValue(), e2.getValue());
 			}
+		});
+
+		for(Map.Entry<Term, Long> combinedTerm : combinedTerms)
+		{
+			minimizedGroup.addTerm(combinedTerm.getKey());
 		}
 
 		return minimizedGroup;
@@ -281,39 +346,32 @@ public class Group
 
 	/**
 	 * Retrieves a list of reordered primes.
-	 * Ordering is based on when they were added to the group.
+	 * Ordering is based on the number of ID's (largest first) and then on when they were added to the group.
 	 * (Re-ordering done for testing purposes, not needed but also does not really harm anything!)
 	 *
+	 * @param primes
+	 * 			the primes in the order they were found.
 	 * @return a list of reordered primes.
 	 */
-	public static List<Term> getReorderedPrimes()
+	public static List<Term> getReorderedPrimes(List<Term> primes)
 	{
-		List<Term> reorderedPrimes = new ArrayList<Term>();
-
-		// Loop through all primes and find add new prime at correctly ordered position
-		for(int i = 0; i < primes.size(); i++)
+		final Map<Term, Integer> idCounts = new IdentityHashMap<Term, Integer>(primes.size());
+		for(Term prime : primes)
 		{
-			boolean added = false;
-
-			// Loop through all already reordered primes
-			for(int j = 0; j < reorderedPrimes.size(); j++)
-			{
-				// Check if new prime ID length longer than current prime ID length
-				if(primes.get(i).getId().split(",").length > reorderedPrimes.get(j).getId().split(",").length)
-				{
-					reorderedPrimes.add(j, primes.get(i)); // Found position
-					added = true;
-					break;
-				}
-			}
+			idCounts.put(prime, prime.getIds().size());
+		}
 
-			// Check if current prime already added in its sorted position
-			if(!added)
+		// Stable sort so that primes with the same number of ID's stay in the order they were found
+		List<Term> reorderedPrimes = new ArrayList<Term>(primes);
+		Collections.sort(reorderedPrimes, new Comparator<Term>()
+		{
+			@Override
+			public int compare(Term t1, Term t2)
 			{
-				reorderedPrimes.add(primes.get(i)); // Add to end of list
+				return Integer.compare(idCounts.get(t2), idCounts.get(t1));
 			}
-		}
+		});
 
 		return reorderedPrimes;
 	}
-}
\ No newline at end of file
+}
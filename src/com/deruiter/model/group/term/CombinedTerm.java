@@ -20,79 +20,22 @@
 
 package com.deruiter.model.group.term;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Iterator;
-import java.util.List;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.literal.SymbolTable;
 
 public class CombinedTerm extends Term
 {
-	private List<String> associatedIds;
-
 	/**
 	 * Constructor for a combined term.
-	 */
-	CombinedTerm()
-	{
-		super();
-		associatedIds = new ArrayList<String>(0);
-	}
-
-	/**
-	 * Sets the ID by adding to the current ID.
-	 *
-	 * @param id
-	 * 			- the row number(s) for the term in the original minterm table to add.
-	 */
-	@Override
-	public void setId(String id)
-	{
-		String associatedId;
-		int startIndex = 0;
-
-		// Iterate through comma delimited id string and add individual id's to list
-		for(int i = 0; i < id.length(); i++)
-		{
-			char curChar = id.charAt(i);
-
-			// Parse and add next id to list if comma reached
-			if(curChar == ',')
-			{
-				associatedId = id.substring(startIndex, i);
-				startIndex = i + 1; // Move index to one space after last comma found
-				associatedIds.add(associatedId);
-			}
-		}
-
-		// Flush out remaining id
-		associatedId = id.substring(startIndex);
-		associatedIds.add(associatedId);
-
-		// Sort the associated id's
-		Collections.sort(associatedIds);
-	}
-
-	/**
-	 * Retrieves the ID.
 	 *
-	 * @return the ID for the term which is comprised of all rows numbers (which represent
-	 * 		   original minterms) that this minterm covers.
+	 * @param cube
+	 * 			the cube formed by combining two terms.
+	 * @param symbolTable
+	 * 			all the variables (sorted) of the Boolean expression the term belongs to.
 	 */
-	@Override
-	public String getId()
+	public CombinedTerm(Cube cube, SymbolTable symbolTable)
 	{
-		String commaDelimitedIds = "";
-		Iterator<String> itr = associatedIds.iterator();
-
-		while(itr.hasNext())
-		{
-			commaDelimitedIds += itr.next();
-			if(itr.hasNext())
-			{
-				commaDelimitedIds += ",";
-			}
-		}
-
-		return commaDelimitedIds;
+		super(symbolTable);
+		setCube(cube);
 	}
 }
@@ -0,0 +1,519 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for an ID set.
+ * An ID set holds the row numbers (ID's) of the original terms a term covers. Sets whose ID's are all below 4096 are
+ * stored as a fixed bitset. Larger sets are split (like a Roaring bitmap) into containers of 65536 ID's, each holding
+ * its ID's as a sorted array of their low 16 bits or, once it holds more than 4096 ID's, as a bitmap. The form of a
+ * set only depends on its ID's, so equal sets always have the same form. ID sets are immutable.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.group.term;
+
+import java.util.Arrays;
+
+public final class IdSet
+{
+	// Class variables
+	private static final int DENSE_LIMIT = 1 << 12; // ID's below this are held in a fixed bitset
+	private static final int ARRAY_LIMIT = 1 << 12; // Containers holding more ID's than this are bitmaps
+	private static final int CONTAINER_WORD_COUNT = (1 << 16) / Long.SIZE;
+
+	// Instance variables
+	private final long[] words; // Fixed bitset (null if the set is held in containers)
+	private final char[] keys; // High 16 bits of the ID's of each container (ascending)
+	private final Object[] containers; // Sorted char array or bitmap of the low 16 bits of each container's ID's
+	private final int size;
+
+	/**
+	 * Constructor for an ID set held in a fixed bitset.
+	 *
+	 * @param words
+	 * 			the bitset (whose last word is not 0).
+	 * @param size
+	 * 			the number of ID's in the set.
+	 */
+	private IdSet(long[] words, int size)
+	{
+		this.words = words;
+		this.keys = null;
+		this.containers = null;
+		this.size = size;
+	}
+
+	/**
+	 * Constructor for an ID set held in containers.
+	 *
+	 * @param keys
+	 * 			the high 16 bits of the ID's of each container.
+	 * @param containers
+	 * 			the low 16 bits of the ID's of each container.
+	 * @param size
+	 * 			the number of ID's in the set.
+	 */
+	private IdSet(char[] keys, Object[] containers, int size)
+	{
+		this.words = null;
+		this.keys = keys;
+		this.containers = containers;
+		this.size = size;
+	}
+
+	/**
+	 * Creates an ID set holding a single ID.
+	 *
+	 * @param id
+	 * 			the ID (must not be negative).
+	 * @return the ID set.
+	 */
+	public static IdSet of(int id)
+	{
+		return of(new int[] {id});
+	}
+
+	/**
+	 * Creates an ID set holding the specified ID's.
+	 *
+	 * @param ids
+	 * 			the ID's (must not be negative, may be unordered and hold duplicates).
+	 * @return the ID set.
+	 */
+	public static IdSet of(int[] ids)
+	{
+		int[] sortedIds = ids.clone();
+		Arrays.sort(sortedIds);
+
+		if(sortedIds.length > 0 && sortedIds[0] < 0)
+		{
+			throw new IllegalArgumentException("ID's must not be negative.");
+		}
+
+		// Check if ID's fit in a fixed bitset
+		if(sortedIds.length == 0 || sortedIds[sortedIds.length - 1] < DENSE_LIMIT)
+		{
+			long[] words = new long[sortedIds.length == 0 ? 0 : (sortedIds[sortedIds.length - 1] >>> 6) + 1];
+			int size = 0;
+			for(int id : sortedIds)
+			{
+				if((words[id >>> 6] & (1L << id)) == 0)
+				{
+					words[id >>> 6] |= 1L << id;
+					size++;
+				}
+			}
+			return new IdSet(words, size);
+		}
+
+		char[] keys = new char[sortedIds.length];
+		Object[] containers = new Object[sortedIds.length];
+		int containerCount = 0;
+		int size = 0;
+
+		// Split the sorted ID's into runs sharing their high 16 bits
+		for(int start = 0, end; start < sortedIds.length; start = end)
+		{
+			char key = (char)(sortedIds[start] >>> 16);
+			char[] lows = new char[sortedIds.length - start];
+			int lowCount = 0;
+
+			for(end = start; end < sortedIds.length && (sortedIds[end] >>> 16) == key; end++)
+			{
+				if(lowCount == 0 || lows[lowCount - 1] != (char)sortedIds[end])
+				{
+					lows[lowCount++] = (char)sortedIds[end];
+				}
+			}
+
+			keys[containerCount] = key;
+			containers[containerCount++] = toContainer(Arrays.copyOf(lows, lowCount));
+			size += lowCount;
+		}
+
+		return new IdSet(Arrays.copyOf(keys, containerCount), Arrays.copyOf(containers, containerCount), size);
+	}
+
+	/**
+	 * Retrieves the number of ID's in the set.
+	 *
+	 * @return the number of ID's in the set.
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Determines whether the set holds an ID.
+	 *
+	 * @param id
+	 * 			the ID to look for.
+	 * @return whether the set holds the ID.
+	 */
+	public boolean contains(int id)
+	{
+		if(id < 0)
+		{
+			return false;
+		}
+
+		if(words != null)
+		{
+			return (id >>> 6) < words.length && (words[id >>> 6] & (1L << id)) != 0;
+		}
+
+		int index = Arrays.binarySearch(keys, (char)(id >>> 16));
+		if(index < 0)
+		{
+			return false;
+		}
+
+		Object container = containers[index];
+		if(container instanceof char[])
+		{
+			return Arrays.binarySearch((char[])container, (char)id) >= 0;
+		}
+		return (((long[])container)[(id & 0xFFFF) >>> 6] & (1L << id)) != 0;
+	}
+
+	/**
+	 * Retrieves the union of this set and another set.
+	 *
+	 * @param set
+	 * 			the set to unite with this set.
+	 * @return a set holding the ID's of both sets.
+	 */
+	public IdSet union(IdSet set)
+	{
+		// Check if both sets are fixed bitsets
+		if(words != null && set.words != null)
+		{
+			long[] longer = (words.length >= set.words.length) ? words : set.words;
+			long[] shorter = (longer == words) ? set.words : words;
+			long[] unitedWords = longer.clone();
+			int unitedSize = 0;
+
+			for(int i = 0; i < unitedWords.length; i++)
+			{
+				if(i < shorter.length)
+				{
+					unitedWords[i] |= shorter[i];
+				}
+				unitedSize += Long.bitCount(unitedWords[i]);
+			}
+			return new IdSet(unitedWords, unitedSize);
+		}
+
+		char[] keys1 = getKeys();
+		char[] keys2 = set.getKeys();
+		Object[] containers1 = getContainers();
+		Object[] containers2 = set.getContainers();
+		char[] unitedKeys = new char[keys1.length + keys2.length];
+		Object[] unitedContainers = new Object[unitedKeys.length];
+		int count = 0;
+		int unitedSize = 0;
+		int i = 0;
+		int j = 0;
+
+		// Merge the containers in order of their keys
+		while(i < keys1.length || j < keys2.length)
+		{
+			Object container;
+			if(j == keys2.length || (i < keys1.length && keys1[i] < keys2[j]))
+			{
+				unitedKeys[count] = keys1[i];
+				container = containers1[i++];
+			}
+			else if(i == keys1.length || keys2[j] < keys1[i])
+			{
+				unitedKeys[count] = keys2[j];
+				container = containers2[j++];
+			}
+			else
+			{
+				unitedKeys[count] = keys1[i];
+				container = uniteContainers(containers1[i++], containers2[j++]);
+			}
+
+			unitedContainers[count++] = container;
+			unitedSize += getCardinality(container);
+		}
+
+		return new IdSet(Arrays.copyOf(unitedKeys, count), Arrays.copyOf(unitedContainers, count), unitedSize);
+	}
+
+	/**
+	 * Retrieves the ID's of the set.
+	 *
+	 * @return the ID's of the set (in ascending order).
+	 */
+	public int[] toArray()
+	{
+		int[] ids = new int[size];
+		int count = 0;
+
+		if(words != null)
+		{
+			for(int i = 0; i < words.length; i++)
+			{
+				for(long word = words[i]; word != 0; word &= word - 1)
+				{
+					ids[count++] = (i << 6) + Long.numberOfTrailingZeros(word);
+				}
+			}
+			return ids;
+		}
+
+		for(int i = 0; i < keys.length; i++)
+		{
+			int high = keys[i] << 16;
+			if(containers[i] instanceof char[])
+			{
+				for(char low : (char[])containers[i])
+				{
+					ids[count++] = high | low;
+				}
+			}
+			else
+			{
+				long[] bitmap = (long[])containers[i];
+				for(int k = 0; k < bitmap.length; k++)
+				{
+					for(long word = bitmap[k]; word != 0; word &= word - 1)
+					{
+						ids[count++] = high | (k << 6) + Long.numberOfTrailingZeros(word);
+					}
+				}
+			}
+		}
+		return ids;
+	}
+
+	/**
+	 * Determines whether two ID sets hold the same ID's.
+	 *
+	 * @param obj
+	 * 			the ID set to see if this set is equal to.
+	 * @return whether two ID sets are equal.
+	 */
+	@Override
+	public boolean equals(Object obj)
+	{
+		if(this == obj)
+		{
+			return true;
+		}
+
+		if(!(obj instanceof IdSet))
+		{
+			return false;
+		}
+
+		IdSet s = (IdSet)obj;
+		if(size != s.size)
+		{
+			return false;
+		}
+
+		// Equal sets always have the same form
+		if(words != null || s.words != null)
+		{
+			return Arrays.equals(words, s.words);
+		}
+
+		if(!Arrays.equals(keys, s.keys))
+		{
+			return false;
+		}
+
+		for(int i = 0; i < containers.length; i++)
+		{
+			boolean isEqual = (containers[i] instanceof char[])
+					? (s.containers[i] instanceof char[]) && Arrays.equals((char[])containers[i], (char[])s.containers[i])
+					: (s.containers[i] instanceof long[]) && Arrays.equals((long[])containers[i], (long[])s.containers[i]);
+			if(!isEqual)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Retrieves the hash code for this ID set.
+	 *
+	 * @return the hash code for this ID set.
+	 */
+	@Override
+	public int hashCode()
+	{
+		return Arrays.hashCode(toArray());
+	}
+
+	/**
+	 * Retrieves the ID's separated by commas (for display only).
+	 *
+	 * @return the ID's (in ascending order) separated by commas.
+	 */
+	@Override
+	public String toString()
+	{
+		StringBuilder ids = new StringBuilder();
+		for(int id : toArray())
+		{
+			if(ids.length() > 0)
+			{
+				ids.append(',');
+			}
+			ids.append(id);
+		}
+		return ids.toString();
+	}
+
+	/**
+	 * Retrieves the high 16 bits of the ID's of each container (a fixed bitset is a single container).
+	 *
+	 * @return the keys of the containers.
+	 */
+	private char[] getKeys()
+	{
+		return (words == null) ? keys : (size == 0) ? new char[0] : new char[] {0};
+	}
+
+	/**
+	 * Retrieves the containers (a fixed bitset is a single container).
+	 *
+	 * @return the containers.
+	 */
+	private Object[] getContainers()
+	{
+		if(words != null)
+		{
+			char[] lows = new char[size];
+			int[] ids = toArray();
+			for(int i = 0; i < ids.length; i++)
+			{
+				lows[i] = (char)ids[i];
+			}
+			return (size == 0) ? new Object[0] : new Object[] {toContainer(lows)};
+		}
+		return containers;
+	}
+
+	/**
+	 * Unites two containers with the same key.
+	 *
+	 * @param container1
+	 * 			the first container.
+	 * @param container2
+	 * 			the second container.
+	 * @return a container holding the low bits of both containers.
+	 */
+	private static Object uniteContainers(Object container1, Object container2)
+	{
+		// Check if both containers are sorted arrays
+		if(container1 instanceof char[] && container2 instanceof char[])
+		{
+			char[] lows1 = (char[])container1;
+			char[] lows2 = (char[])container2;
+			char[] lows = new char[lows1.length + lows2.length];
+			int count = 0;
+			int i = 0;
+			int j = 0;
+
+			while(i < lows1.length || j < lows2.length)
+			{
+				if(j == lows2.length || (i < lows1.length && lows1[i] < lows2[j]))
+				{
+					lows[count++] = lows1[i++];
+				}
+				else if(i == lows1.length || lows2[j] < lows1[i])
+				{
+					lows[count++] = lows2[j++];
+				}
+				else
+				{
+					lows[count++] = lows1[i++];
+					j++;
+				}
+			}
+			return toContainer(Arrays.copyOf(lows, count));
+		}
+
+		long[] bitmap = toBitmap(container1);
+		long[] other = toBitmap(container2);
+		for(int i = 0; i < bitmap.length; i++)
+		{
+			bitmap[i] |= other[i];
+		}
+		return bitmap;
+	}
+
+	/**
+	 * Creates a container from the sorted low bits of its ID's (a bitmap if there are more than 4096 of them).
+	 *
+	 * @param lows
+	 * 			the sorted low 16 bits of the ID's.
+	 * @return the container.
+	 */
+	private static Object toContainer(char[] lows)
+	{
+		return (lows.length > ARRAY_LIMIT) ? toBitmap(lows) : lows;
+	}
+
+	/**
+	 * Retrieves a copy of a container as a bitmap.
+	 *
+	 * @param container
+	 * 			the container.
+	 * @return the container as a bitmap.
+	 */
+	private static long[] toBitmap(Object container)
+	{
+		if(container instanceof long[])
+		{
+			return ((long[])container).clone();
+		}
+
+		long[] bitmap = new long[CONTAINER_WORD_COUNT];
+		for(char low : (char[])container)
+		{
+			bitmap[low >>> 6] |= 1L << low;
+		}
+		return bitmap;
+	}
+
+	/**
+	 * Counts the ID's of a container.
+	 *
+	 * @param container
+	 * 			the container.
+	 * @return the number of ID's in the container.
+	 */
+	private static int getCardinality(Object container)
+	{
+		if(container instanceof char[])
+		{
+			return ((char[])container).length;
+		}
+
+		int count = 0;
+		for(long word : (long[])container)
+		{
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+}
@@ -21,113 +21,109 @@
 
 package com.deruiter.model.group.term;
 
-import com.deruiter.model.group.term.literal.Literal;
-
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.literal.SymbolTable;
 
 public class OriginalTerm extends Term
 {
 	// Instance variables
-	private String id;
 	private String rawTerm;
-	private List<Literal> allLiterals;
 
     /**
      * Constructor for an Original Term
      *
      * @param rawTerm
      *          the raw term.
-     * @param allLiterals
-     *          the literals that comprise the term.
+     * @param symbolTable
+     *          all the variables (sorted) of the Boolean expression the term belongs to.
      */
-	public OriginalTerm(String rawTerm, List<Literal> allLiterals)
+	public OriginalTerm(String rawTerm, SymbolTable symbolTable)
 	{
-		super();
+		super(symbolTable);
 		this.rawTerm = rawTerm;
-		this.allLiterals = allLiterals;
 		createTerm();
 	}
 
-	/**
-	 * Sets the initial ID.
-	 *
-	 * @param id
-	 * 			the row number (ID) for the term in the original minterm table.
-	 */
-	@Override
-	public void setId(String id)
-	{
-		this.id = id;
-	}
-
-	/**
-	 * Gets the intial ID.
-	 *
-	 * @return the row number (ID) for the term in the original minterm table.
-	 */
-	@Override
-	public String getId()
+    /**
+     * Constructor for an Original Term whose bits are already known (i.e. a minterm number).
+     *
+     * @param cube
+     *          the cube representing the bits of the term.
+     * @param symbolTable
+     *          all the variables (sorted) of the Boolean expression the term belongs to.
+     */
+	public OriginalTerm(Cube cube, SymbolTable symbolTable)
 	{
-		return id;
+		super(symbolTable);
+		setCube(cube);
 	}
 
 	/**
 	 * Creates an original term.
+	 * Literals missing from the raw term are left out of the care mask (represented by a dash "-").
 	 */
 	private void createTerm()
 	{
 		int termLength = rawTerm.length();
-		char curChar = '\u0000';
+		int width = getSymbolTable().size();
+		long[] value = new long[Cube.getWordCount(width)];
+		long[] mask = new long[value.length];
+		int i = 0;
 
-		for(int i = 0; i < termLength; i++)
+		while(i < termLength)
 		{
-			curChar = rawTerm.charAt(i);
+			char curChar = rawTerm.charAt(i);
+
+			// Skip separators between identifiers
+			if(Character.isWhitespace(curChar) || SymbolTable.AND_OPERATOR.indexOf(curChar) >= 0)
+			{
+				i++;
+				continue;
+			}
+
+			// Read the next variable name (a single letter or a whole identifier)
+			int nameEnd = i + 1;
+			if(!getSymbolTable().usesSingleLetters())
+			{
+				while(nameEnd < termLength && SymbolTable.isIdentifierPart(rawTerm.charAt(nameEnd)))
+				{
+					nameEnd++;
+				}
+			}
+
+			int bitIndex = width - 1 - indexOfName(rawTerm.substring(i, nameEnd));
+			long bit = 1L << bitIndex;
+			mask[bitIndex >>> 6] |= bit;
+			i = nameEnd;
 
 			// Check if next char is an apostrophe
-			if( ((i + 1) != termLength) && rawTerm.charAt(i + 1) == '\'')
+			if(i != termLength && rawTerm.charAt(i) == '\'')
 			{
-				addLiteral(new Literal(Character.toString(curChar), "0"));
 				i++; // Skip next apostrophe character
 			}
 			else
 			{
-				addLiteral(new Literal(Character.toString(curChar), "1"));
+				value[bitIndex >>> 6] |= bit;
 			}
 		}
 
-		// Add all missing literals to term
-		addMissingLiterals();
+		setCube(new Cube(value, mask, width));
 	}
 
 	/**
-	 * Adds all missing literals to the term.
-	 * (Missing literals are represented by a dash "-".)
+	 * Determines the position of a variable within all the (sorted) variables.
+	 *
+	 * @param name
+	 * 			the name of the variable to look for.
+	 * @return the position of the variable within all the variables.
 	 */
-	private void addMissingLiterals()
+	private int indexOfName(String name)
 	{
-		List<Literal> literalsAdded = new ArrayList<Literal>();
-
-		// Add missing literals
-		for(int i = 0; i < allLiterals.size(); i++)
-		{
-			Literal literal = allLiterals.get(i);
-			if(Term.containsLiteral(literal, getLiterals()) == false)
-			{
-				Literal missingLiteral = new Literal(literal.getLetter());
-				addLiteral(missingLiteral); // Add missing literal to term
-				literalsAdded.add(missingLiteral); // Add missing literal to term
-			}
-		}
-
-		// Sort all literals in term
-		Collections.sort(getLiterals());
-
-		// Replace new literals with dashes
-		for(int i = 0; i < literalsAdded.size(); i++)
+		int position = getSymbolTable().indexOf(name);
+		if(position == -1)
 		{
-			literalsAdded.get(i).eliminate();
+			throw new IllegalArgumentException("Unknown literal: " + name);
 		}
+		return position;
 	}
 }
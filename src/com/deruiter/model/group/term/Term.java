@@ -20,60 +20,102 @@
 
 package com.deruiter.model.group.term;
 
-import com.deruiter.model.group.term.literal.Literal;
-import com.deruiter.utilities.Constants;
-
-import java.util.ArrayList;
-import java.util.List;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.literal.SymbolTable;
+import java.util.Objects;
 
 public abstract class Term
 {
     // Instance variables
-	private List<Literal> literals;
+	private Cube cube;
+	private SymbolTable symbolTable;
 	private boolean wasUsed;
 	private String label;
+	private IdSet ids;
 
 	/**
-	 * Default constructor for a term.
+	 * Constructor for a term.
+	 *
+	 * @param symbolTable
+	 * 			all the variables (sorted) of the Boolean expression the term belongs to.
 	 */
-	Term()
+	Term(SymbolTable symbolTable)
 	{
-		literals = new ArrayList<Literal>();
+		this.symbolTable = symbolTable;
 		wasUsed = false;
 	}
 
 	/**
-	 * Sets the ID.
+	 * Sets the row numbers (ID's) of all original terms this term covers.
+	 *
+	 * @param ids
+	 * 			the ID's (correspond to row number(s) in minterm table).
+	 */
+	public void setIds(IdSet ids)
+	{
+		this.ids = ids;
+	}
+
+	/**
+	 * Retrieves the row numbers (ID's) of all original terms this term covers.
 	 *
-	 * @param id
-	 * 			the ID (corresponds to row number(s) in minterm table).
+	 * @return the ID's (correspond to row number(s) in minterm table).
 	 */
-	public abstract void setId(String id);
+	public IdSet getIds()
+	{
+		return ids;
+	}
 
 	/**
-	 * Retrieves the ID.
+	 * Retrieves the ID for display.
 	 *
-	 * @return the ID (corresponds to row number(s) in minterm table).
+	 * @return the ID's (in ascending order) separated by commas (i.e. 0,2,10), or null if none were set.
 	 */
-	public abstract String getId();
+	public String getId()
+	{
+		return (ids == null) ? null : ids.toString();
+	}
 
 	/**
 	 * Retrieves the term in regular form.
 	 *
-	 * @return regular form of the term. (i.e. a'bc)
+	 * @return regular form of the term. (i.e. a'bc, or x1'*x2*x3 when the variables are identifiers)
 	 */
 	public String getRegularForm()
 	{
-		String regularForm = Constants.EMPTY_STRING;
-		for(int i = 0; i < literals.size(); i++)
+		StringBuilder regularForm = new StringBuilder();
+		for(int i = 0; i < cube.getWidth(); i++)
 		{
-			regularForm += literals.get(i).getLetter();
-			if(literals.get(i).isComplement())
+			// Check if literal was eliminated
+			if(cube.isEliminated(i))
 			{
-				regularForm += "'";
+				if(symbolTable.usesSingleLetters())
+				{
+					regularForm.append('-');
+				}
+				continue;
+			}
+
+			// Separate identifiers with the AND operator
+			if(!symbolTable.usesSingleLetters() && regularForm.length() > 0)
+			{
+				regularForm.append(SymbolTable.AND_OPERATOR);
+			}
+
+			regularForm.append(symbolTable.getName(i));
+			if(!cube.isSet(i))
+			{
+				regularForm.append('\'');
 			}
 		}
-		return regularForm;
+
+		// Term with every identifier eliminated is always true
+		if(regularForm.length() == 0 && !symbolTable.usesSingleLetters())
+		{
+			regularForm.append('1');
+		}
+
+		return regularForm.toString();
 	}
 
 	/**
@@ -83,45 +125,38 @@ public abstract class Term
 	 */
 	public String getBitForm()
 	{
-		String bitForm = Constants.EMPTY_STRING;
-		for(int i = 0; i < literals.size(); i++)
-		{
-			bitForm += literals.get(i).getBit();
-		}
-		return bitForm;
+		return cube.toBitString();
 	}
 
 	/**
-	 * Adds a literal.
+	 * Sets the bit-packed cube for this term.
 	 *
-	 * @param literal
-	 * 			the literal to add to this term.
+	 * @param cube
+	 * 			the cube representing the bits of this term.
 	 */
-	public void addLiteral(Literal literal)
+	protected void setCube(Cube cube)
 	{
-		literals.add(literal);
+		this.cube = cube;
 	}
 
 	/**
-	 * Retrieves a literal.
+	 * Retrieves the bit-packed cube for this term.
 	 *
-	 * @param index
-	 * 			the index of the literal in the term to retrieve.
-	 * @return the literal at the specified index position in this term.
+	 * @return the cube representing the bits of this term.
 	 */
-	private Literal getLiteral(int index)
+	public Cube getCube()
 	{
-		return literals.get(index);
+		return cube;
 	}
 
 	/**
-	 * Retrieves all literals that comprise this term.
+	 * Retrieves the symbol table holding all the variables (sorted) of the Boolean expression this term belongs to.
 	 *
-	 * @return all literals that comprise this term.
+	 * @return the symbol table of the Boolean expression this term belongs to.
 	 */
-	public List<Literal> getLiterals()
+	public SymbolTable getSymbolTable()
 	{
-		return literals;
+		return symbolTable;
 	}
 
 	/**
@@ -131,43 +166,20 @@ public abstract class Term
 	 */
 	public int getOneCount()
 	{
-		return getBitForm().replaceAll("0", Constants.EMPTY_STRING).replaceAll("-", Constants.EMPTY_STRING).length();
+		return cube.getOneCount();
 	}
 
 	/**
-	 * Retrieves the binary number representation of this term.
+	 * Compares the binary number representations (bits that have not been eliminated) of two terms.
 	 *
-	 * @return the binary number representation of this term.
+	 * @param term
+	 * 			the term to compare to.
+	 * @return a negative number, zero or a positive number if this term's binary number is less than, equal to or
+	 * 		   greater than the other term's binary number.
 	 */
-	public int getBinaryNumber()
+	public int compareBinaryNumber(Term term)
 	{
-		int binaryNum = 0;
-		int twoPower = 0;
-		String bits = getBitForm();
-
-		// Loop through all bits in the binary number
-		for(int i = bits.length(); i > 0; i--)
-		{
-			String parsedBit = bits.substring(i - 1, i);
-
-			// Check if parsed bit is not 1 or 0
-			if(parsedBit.equals("-"))
-			{
-				continue; // Skip since not binary digit
-			}
-
-			int curBit = Integer.parseInt(parsedBit);
-
-			// Check if 1 found
-			if(curBit == 1)
-			{
-				binaryNum += (int)Math.pow(2, twoPower);
-			}
-
-			twoPower++;
-		}
-
-		return binaryNum;
+		return cube.compareBinaryNumber(term.cube);
 	}
 
 	/**
@@ -177,7 +189,7 @@ public abstract class Term
 	 */
 	public int getLength()
 	{
-		return literals.size();
+		return cube.getWidth();
 	}
 
 	/**
@@ -189,28 +201,7 @@ public abstract class Term
 	 */
 	public boolean isCombinable(Term term)
 	{
-		if((this.getOneCount() + 1) != term.getOneCount())
-		{
-			return false;
-		}
-
-		boolean differentLiteralFound = false;
-		for(int i = 0; i < this.getBitForm().length(); i++)
-		{
-			String bit1 = this.getLiteral(i).getBit();
-			String bit2 = term.getLiteral(i).getBit();
-
-			// Different bit at same position in each term found
-			if(!bit1.equals(bit2))
-			{
-				if(differentLiteralFound == true) // The 2nd different bit
-				{
-					return false; // More than 1 bit is different so cannot combine terms
-				}
-				differentLiteralFound = true; // 1 bit is different
-			}
-		}
-		return true;
+		return cube.isCombinable(term.cube);
 	}
 
 	/**
@@ -235,9 +226,9 @@ public abstract class Term
 			return false;
 		}
 
-		// Check if bit forms and id's are equal
+		// Check if bits and id's are equal
 		Term t = (Term)obj; // Cast object to Term
-		if(this.getBitForm().equals(t.getBitForm()) && this.getId().equals(t.getId()))
+		if(this.cube.equals(t.cube) && Objects.equals(this.ids, t.ids))
 		{
 			return true;
 		}
@@ -245,6 +236,17 @@ public abstract class Term
 		return false;
 	}
 
+	/**
+	 * Retrieves the hash code for this term (based on its bits only).
+	 *
+	 * @return the hash code for this term.
+	 */
+	@Override
+	public int hashCode()
+	{
+		return cube.hashCode();
+	}
+
 	/**
 	 * Marks the term as used (not prime).
 	 */
@@ -273,36 +275,17 @@ public abstract class Term
 	 */
 	public boolean containsId(int targetId)
 	{
-		String completeId = getId();
-		String curId = Constants.EMPTY_STRING;
-
-		// Loop through all IDs in complete ID
-		// (since an entire ID is made up of ID's if combined with another term)
-		for(int i = 0; i < completeId.length(); i++)
-		{
-			// Check if ID separator reached
-			if(completeId.charAt(i) == ',')
-			{
-				if(Integer.valueOf(curId) == targetId)
-				{
-					return true;
-				}
-				curId = Constants.EMPTY_STRING;
-			}
-			else
-			{
-				curId += completeId.charAt(i);
-			}
-		}
-
-		// Check if beginning ID equals target ID if no commas or
-		// if last term equals target ID if there are commas
-		if(Integer.valueOf(curId) == targetId)
-		{
-			return true;
-		}
+		return ids.contains(targetId);
+	}
 
-		return false;
+	/**
+	 * Retrieves the row numbers (ID's) of all original terms this term covers.
+	 *
+	 * @return the row numbers (ID's) of all original terms this term covers (in ascending order).
+	 */
+	public int[] getCoveredIds()
+	{
+		return ids.toArray();
 	}
 
 	/**
@@ -326,29 +309,6 @@ public abstract class Term
 		return label;
 	}
 
-	/**
-	 * Determines whether the list contains a target literal.
-	 *
-	 * @param targetLiteral
-	 * 			the literal for which to search the list.
-	 * @param literals
-	 * 			all the literals for the term.
-	 * @return whether the literal is already in the list.
-	 */
-	public static boolean containsLiteral(Literal targetLiteral, List<Literal> literals)
-	{
-		Literal curLiteral;
-		for(int i = 0; i < literals.size(); i++)
-		{
-			curLiteral = literals.get(i);
-			if(curLiteral.getLetter().equals(targetLiteral.getLetter()))
-			{
-				return true;
-			}
-		}
-		return false;
-	}
-
 	/**
 	 * Combines two terms together.
 	 *
@@ -360,25 +320,8 @@ public abstract class Term
 	 */
 	public static Term combine(Term term1, Term term2)
 	{
-		Term newTerm = new CombinedTerm();
-
-		for(int i = 0; i < term1.getLength(); i++)
-		{
-			Literal curLiteral = new Literal(term1.getLiteral(i).getLetter(), term1.getLiteral(i).getBit());
-
-			String term1CurBit = term1.getLiteral(i).getBit();
-			String term2CurBit = term2.getLiteral(i).getBit();
-
-			// Different bit at same position in each term found
-			if(!term1CurBit.equals(term2CurBit))
-			{
-				curLiteral.eliminate();
-			}
-			newTerm.addLiteral(curLiteral);
-		}
-
-		String id = String.valueOf(term1.getId()) + "," + String.valueOf(term2.getId());
-		((CombinedTerm)newTerm).setId(id);
+		Term newTerm = new CombinedTerm(term1.cube.combine(term2.cube), term1.symbolTable);
+		newTerm.setIds(term1.ids.union(term2.ids));
 
 		return newTerm;
 	}
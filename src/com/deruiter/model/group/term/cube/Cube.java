@@ -0,0 +1,476 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for a cube.
+ * A cube is the bit-packed form of a term. Each variable occupies one bit of the value words and one bit of the
+ * care-mask words. A care bit of 0 means the variable has been eliminated (represented by a dash "-" in bit form).
+ * Cubes of more than 64 variables span several 64-bit words and are compared and combined a word at a time.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.group.term.cube;
+
+import java.util.Arrays;
+
+public final class Cube
+{
+	// Instance variables
+	private final long[] value;
+	private final long[] mask;
+	private final int width;
+
+	/**
+	 * Constructor for a cube of at most 64 variables.
+	 * The first (leftmost) variable is stored in the most significant bit, so a cube without any eliminated
+	 * variables has the same value as the minterm number it represents.
+	 *
+	 * @param value
+	 * 			the bit values of the variables (bits outside of the care mask are ignored).
+	 * @param mask
+	 * 			the care mask (1 = variable present, 0 = variable eliminated).
+	 * @param width
+	 * 			the total number of variables.
+	 */
+	public Cube(long value, long mask, int width)
+	{
+		this(new long[] {value}, new long[] {mask}, width);
+
+		if(width > Long.SIZE)
+		{
+			throw new IllegalArgumentException("Single word cube width must be at most " + Long.SIZE + ".");
+		}
+	}
+
+	/**
+	 * Constructor for a cube of any number of variables.
+	 * Bit i (counted from the least significant bit of word 0) holds the variable at position (width - 1 - i), so
+	 * the first (leftmost) variable is stored in the most significant used bit.
+	 *
+	 * @param value
+	 * 			the bit values of the variables (bits outside of the care mask are ignored).
+	 * @param mask
+	 * 			the care mask (1 = variable present, 0 = variable eliminated).
+	 * @param width
+	 * 			the total number of variables.
+	 */
+	public Cube(long[] value, long[] mask, int width)
+	{
+		if(width < 0)
+		{
+			throw new IllegalArgumentException("Cube width must not be negative.");
+		}
+
+		int wordCount = getWordCount(width);
+		this.mask = Arrays.copyOf(mask, wordCount);
+		this.value = Arrays.copyOf(value, wordCount);
+		this.width = width;
+
+		for(int i = 0; i < wordCount; i++)
+		{
+			this.value[i] &= this.mask[i];
+		}
+	}
+
+	/**
+	 * Constructor for a cube from words which are already normalized and owned by the cube.
+	 *
+	 * @param value
+	 * 			the bit values of the variables (0 outside of the care mask).
+	 * @param mask
+	 * 			the care mask.
+	 * @param width
+	 * 			the total number of variables.
+	 * @param isNormalized
+	 * 			marker distinguishing this constructor (always true).
+	 */
+	private Cube(long[] value, long[] mask, int width, boolean isNormalized)
+	{
+		this.value = value;
+		this.mask = mask;
+		this.width = width;
+	}
+
+	/**
+	 * Retrieves the number of 64-bit words needed for a number of variables.
+	 *
+	 * @param width
+	 * 			the number of variables.
+	 * @return the number of words (at least one).
+	 */
+	public static int getWordCount(int width)
+	{
+		return Math.max(1, (width + Long.SIZE - 1) / Long.SIZE);
+	}
+
+	/**
+	 * Retrieves the number of 64-bit words in this cube.
+	 *
+	 * @return the number of words.
+	 */
+	public int getWordCount()
+	{
+		return value.length;
+	}
+
+	/**
+	 * Retrieves a value word.
+	 *
+	 * @param index
+	 * 			the index of the word (0 = least significant).
+	 * @return the value word (eliminated variables are always 0).
+	 */
+	public long getValueWord(int index)
+	{
+		return value[index];
+	}
+
+	/**
+	 * Retrieves a care-mask word.
+	 *
+	 * @param index
+	 * 			the index of the word (0 = least significant).
+	 * @return the care-mask word.
+	 */
+	public long getMaskWord(int index)
+	{
+		return mask[index];
+	}
+
+	/**
+	 * Retrieves the total number of variables.
+	 *
+	 * @return the total number of variables.
+	 */
+	public int getWidth()
+	{
+		return width;
+	}
+
+	/**
+	 * Retrieves the number of 1's in this cube.
+	 *
+	 * @return the number of 1's in this cube.
+	 */
+	public int getOneCount()
+	{
+		int oneCount = 0;
+		for(long word : value)
+		{
+			oneCount += Long.bitCount(word);
+		}
+		return oneCount;
+	}
+
+	/**
+	 * Retrieves the number of literals (variables that have not been eliminated) in this cube.
+	 *
+	 * @return the number of literals in this cube.
+	 */
+	public int getLiteralCount()
+	{
+		int literalCount = 0;
+		for(long word : mask)
+		{
+			literalCount += Long.bitCount(word);
+		}
+		return literalCount;
+	}
+
+	/**
+	 * Determines whether the variable at the specified position has been eliminated.
+	 *
+	 * @param position
+	 * 			the position of the variable (0 = leftmost).
+	 * @return whether the variable at the specified position has been eliminated.
+	 */
+	public boolean isEliminated(int position)
+	{
+		int bitIndex = width - 1 - position;
+		return (mask[bitIndex >>> 6] & (1L << bitIndex)) == 0;
+	}
+
+	/**
+	 * Determines whether the variable at the specified position is a 1.
+	 *
+	 * @param position
+	 * 			the position of the variable (0 = leftmost).
+	 * @return whether the variable at the specified position is a 1.
+	 */
+	public boolean isSet(int position)
+	{
+		int bitIndex = width - 1 - position;
+		return (value[bitIndex >>> 6] & (1L << bitIndex)) != 0;
+	}
+
+	/**
+	 * Compares the binary numbers formed by the bits of two cubes that have not been eliminated.
+	 *
+	 * @param cube
+	 * 			the cube to compare to.
+	 * @return a negative number, zero or a positive number if this cube's binary number is less than, equal to or
+	 * 		   greater than the other cube's binary number.
+	 */
+	public int compareBinaryNumber(Cube cube)
+	{
+		// Local variables
+		int bitCount1 = getLiteralCount();
+		int bitCount2 = cube.getLiteralCount();
+		int word1 = mask.length;
+		int word2 = cube.mask.length;
+		long remaining1 = 0;
+		long remaining2 = 0;
+
+		// Walk both cubes' care bits from the most significant down (a cube with fewer care bits has leading 0's)
+		for(int twoPower = Math.max(bitCount1, bitCount2) - 1; twoPower >= 0; twoPower--)
+		{
+			boolean isSet1 = false;
+			boolean isSet2 = false;
+
+			if(twoPower < bitCount1)
+			{
+				while(remaining1 == 0)
+				{
+					remaining1 = mask[--word1];
+				}
+				long bit = Long.highestOneBit(remaining1);
+				isSet1 = (value[word1] & bit) != 0;
+				remaining1 ^= bit;
+			}
+			if(twoPower < bitCount2)
+			{
+				while(remaining2 == 0)
+				{
+					remaining2 = cube.mask[--word2];
+				}
+				long bit = Long.highestOneBit(remaining2);
+				isSet2 = (cube.value[word2] & bit) != 0;
+				remaining2 ^= bit;
+			}
+
+			if(isSet1 != isSet2)
+			{
+				return isSet1 ? 1 : -1;
+			}
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Determines whether this cube is combinable with another cube.
+	 * The other cube must have exactly one more 1 and the cubes must differ at exactly one position.
+	 *
+	 * @param cube
+	 * 			the cube to see if this cube is combinable with.
+	 * @return whether this cube is combinable with the specified cube.
+	 */
+	public boolean isCombinable(Cube cube)
+	{
+		if(getOneCount() + 1 != cube.getOneCount())
+		{
+			return false;
+		}
+
+		int differingCount = 0;
+		for(int i = 0; i < value.length && differingCount <= 1; i++)
+		{
+			differingCount += Long.bitCount(differingBits(cube, i));
+		}
+
+		return differingCount == 1;
+	}
+
+	/**
+	 * Combines this cube with another cube by eliminating every position at which the two cubes differ.
+	 *
+	 * @param cube
+	 * 			the cube to combine with this cube.
+	 * @return the combination of the two cubes.
+	 */
+	public Cube combine(Cube cube)
+	{
+		long[] newValue = new long[value.length];
+		long[] newMask = new long[mask.length];
+
+		for(int i = 0; i < value.length; i++)
+		{
+			newMask[i] = mask[i] & ~differingBits(cube, i);
+			newValue[i] = value[i] & newMask[i];
+		}
+
+		return new Cube(newValue, newMask, width, true);
+	}
+
+	/**
+	 * Determines whether this cube contains another cube (every minterm of the other cube is a minterm of this cube).
+	 * This is the case when every variable present in this cube is present in the other cube with the same value.
+	 *
+	 * @param cube
+	 * 			the cube to see if this cube contains.
+	 * @return whether this cube contains the specified cube.
+	 */
+	public boolean contains(Cube cube)
+	{
+		for(int i = 0; i < value.length; i++)
+		{
+			if((mask[i] & ~cube.mask[i]) != 0 || ((value[i] ^ cube.value[i]) & mask[i]) != 0)
+			{
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Intersects this cube with another cube (the AND of both terms).
+	 *
+	 * @param cube
+	 * 			the cube to intersect this cube with.
+	 * @return the intersection of the two cubes (null if a variable is a 1 in one cube and a 0 in the other).
+	 */
+	public Cube intersect(Cube cube)
+	{
+		long[] newValue = new long[value.length];
+		long[] newMask = new long[mask.length];
+
+		for(int i = 0; i < value.length; i++)
+		{
+			// Check if both cubes have the same variable with different values
+			if((mask[i] & cube.mask[i] & (value[i] ^ cube.value[i])) != 0)
+			{
+				return null;
+			}
+
+			newMask[i] = mask[i] | cube.mask[i];
+			newValue[i] = value[i] | cube.value[i];
+		}
+
+		return new Cube(newValue, newMask, width, true);
+	}
+
+	/**
+	 * Raises the variable at the specified position to a 1.
+	 * If the variable is a 0 or has been eliminated, the resulting cube has exactly one more 1 than this cube and
+	 * differs from it at exactly one position, i.e. it is the only cube at that position this cube can combine with.
+	 *
+	 * @param position
+	 * 			the position of the variable (0 = leftmost).
+	 * @return the cube with the variable at the specified position present and set to 1.
+	 */
+	public Cube raise(int position)
+	{
+		int bitIndex = width - 1 - position;
+		long[] newValue = value.clone();
+		long[] newMask = mask.clone();
+
+		newValue[bitIndex >>> 6] |= 1L << bitIndex;
+		newMask[bitIndex >>> 6] |= 1L << bitIndex;
+
+		return new Cube(newValue, newMask, width, true);
+	}
+
+	/**
+	 * Retrieves a cube with the same care mask as this cube and all of its bits set to 0.
+	 * (Cubes with the same care mask map to the same cube, which makes it useful as a bucket key.)
+	 *
+	 * @return a cube with the same care mask as this cube and all of its bits set to 0.
+	 */
+	public Cube getCareMask()
+	{
+		return new Cube(new long[value.length], mask, width, true);
+	}
+
+	/**
+	 * Retrieves the cube in bit form.
+	 *
+	 * @return the cube in bit form (i.e. 01-)
+	 */
+	public String toBitString()
+	{
+		char[] bits = new char[width];
+		for(int i = 0; i < width; i++)
+		{
+			bits[i] = isEliminated(i) ? '-' : (isSet(i) ? '1' : '0');
+		}
+		return new String(bits);
+	}
+
+	/**
+	 * Determines whether two cubes are equal (must have the same value, care mask and width).
+	 *
+	 * @param obj
+	 * 			the cube to see if this cube is equal to.
+	 * @return whether two cubes are equal.
+	 */
+	@Override
+	public boolean equals(Object obj)
+	{
+		if(this == obj)
+		{
+			return true;
+		}
+
+		if(!(obj instanceof Cube))
+		{
+			return false;
+		}
+
+		Cube c = (Cube)obj;
+		return width == c.width && Arrays.equals(value, c.value) && Arrays.equals(mask, c.mask);
+	}
+
+	/**
+	 * Retrieves the hash code for this cube.
+	 *
+	 * @return the hash code for this cube.
+	 */
+	@Override
+	public int hashCode()
+	{
+		long h = width;
+		for(int i = 0; i < value.length; i++)
+		{
+			h = (h * 31 + value[i]) * 0x9E3779B97F4A7C15L ^ mask[i];
+		}
+		return (int)(h ^ (h >>> 32));
+	}
+
+	/**
+	 * Retrieves a String representation of the cube.
+	 *
+	 * @return the cube in bit form.
+	 */
+	@Override
+	public String toString()
+	{
+		return toBitString();
+	}
+
+	/**
+	 * Retrieves the bits of a word at which this cube differs from another cube.
+	 * A position differs if it is eliminated in only one cube or if both bits are present but not equal.
+	 *
+	 * @param cube
+	 * 			the cube to compare to.
+	 * @param index
+	 * 			the index of the word.
+	 * @return the differing bits.
+	 */
+	private long differingBits(Cube cube, int index)
+	{
+		return (mask[index] ^ cube.mask[index]) | (value[index] ^ cube.value[index]);
+	}
+}
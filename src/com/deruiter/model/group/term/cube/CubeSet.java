@@ -0,0 +1,236 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for a cube set.
+ * A cube set is a sum of products held as cubes, on which the AND, OR, exclusive OR and complement of whole
+ * functions are computed with cube calculus. Every cube added to a set is absorbed if another cube of the set
+ * already contains it (and absorbs the cubes it contains itself), so a set never holds redundant single cubes.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.group.term.cube;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class CubeSet
+{
+	// Instance variables
+	private List<Cube> cubes;
+	private int width;
+
+	/**
+	 * Constructor for an empty cube set (the function that is always 0).
+	 *
+	 * @param width
+	 * 			the total number of variables.
+	 */
+	public CubeSet(int width)
+	{
+		this.width = width;
+		cubes = new ArrayList<Cube>();
+	}
+
+	/**
+	 * Constructor for a cube set holding a single cube.
+	 *
+	 * @param cube
+	 * 			the cube.
+	 */
+	public CubeSet(Cube cube)
+	{
+		this(cube.getWidth());
+		cubes.add(cube);
+	}
+
+	/**
+	 * Retrieves the cubes of the set.
+	 *
+	 * @return the cubes of the set.
+	 */
+	public List<Cube> getCubes()
+	{
+		return Collections.unmodifiableList(cubes);
+	}
+
+	/**
+	 * Retrieves the number of cubes in the set.
+	 *
+	 * @return the number of cubes in the set.
+	 */
+	public int size()
+	{
+		return cubes.size();
+	}
+
+	/**
+	 * Determines whether the set has no cubes (the function is always 0).
+	 *
+	 * @return whether the set has no cubes.
+	 */
+	public boolean isEmpty()
+	{
+		return cubes.isEmpty();
+	}
+
+	/**
+	 * Adds a cube to the set unless a cube of the set already contains it.
+	 * Cubes of the set which the new cube contains are removed.
+	 *
+	 * @param cube
+	 * 			the cube to add.
+	 * @return whether the cube was added.
+	 */
+	public boolean add(Cube cube)
+	{
+		for(int i = 0; i < cubes.size(); i++)
+		{
+			Cube curCube = cubes.get(i);
+
+			// Check if cube is absorbed by a cube of the set
+			if(curCube.contains(cube))
+			{
+				return false;
+			}
+
+			// Check if cube absorbs a cube of the set (replace it by the last cube and look at that one next)
+			if(cube.contains(curCube))
+			{
+				Cube lastCube = cubes.remove(cubes.size() - 1);
+				if(i < cubes.size())
+				{
+					cubes.set(i, lastCube);
+				}
+				i--;
+			}
+		}
+
+		cubes.add(cube);
+		return true;
+	}
+
+	/**
+	 * Computes the OR of this set and another set.
+	 *
+	 * @param cubeSet
+	 * 			the other set.
+	 * @return the OR of both sets.
+	 */
+	public CubeSet or(CubeSet cubeSet)
+	{
+		CubeSet result = new CubeSet(width);
+
+		result.cubes.addAll(cubes);
+		for(Cube cube : cubeSet.cubes)
+		{
+			result.add(cube);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Computes the AND of this set and another set by intersecting every pair of cubes.
+	 *
+	 * @param cubeSet
+	 * 			the other set.
+	 * @return the AND of both sets.
+	 */
+	public CubeSet and(CubeSet cubeSet)
+	{
+		CubeSet result = new CubeSet(width);
+
+		for(Cube cube1 : cubes)
+		{
+			for(Cube cube2 : cubeSet.cubes)
+			{
+				Cube intersection = cube1.intersect(cube2);
+				if(intersection != null)
+				{
+					result.add(intersection);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Computes the complement of this set.
+	 * By De Morgan's law, the complement of a sum of cubes is the product of the complements of the cubes, and the
+	 * complement of a cube is the sum of its complemented literals.
+	 *
+	 * @return the complement of this set.
+	 */
+	public CubeSet complement()
+	{
+		CubeSet result = new CubeSet(new Cube(new long[0], new long[0], width));
+
+		for(Cube cube : cubes)
+		{
+			result = result.and(complement(cube));
+
+			// Check if function is already always 0
+			if(result.isEmpty())
+			{
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Computes the exclusive OR of this set and another set (this * other' + this' * other).
+	 *
+	 * @param cubeSet
+	 * 			the other set.
+	 * @return the exclusive OR of both sets.
+	 */
+	public CubeSet xor(CubeSet cubeSet)
+	{
+		return and(cubeSet.complement()).or(complement().and(cubeSet));
+	}
+
+	/**
+	 * Computes the complement of a single cube (a set of one cube for each complemented literal).
+	 *
+	 * @param cube
+	 * 			the cube.
+	 * @return the complement of the cube.
+	 */
+	private CubeSet complement(Cube cube)
+	{
+		CubeSet result = new CubeSet(width);
+		int wordCount = Cube.getWordCount(width);
+
+		for(int i = 0; i < wordCount; i++)
+		{
+			for(long remaining = cube.getMaskWord(i); remaining != 0; remaining &= remaining - 1)
+			{
+				long bit = Long.lowestOneBit(remaining);
+				long[] value = new long[wordCount];
+				long[] mask = new long[wordCount];
+
+				mask[i] = bit;
+				value[i] = ~cube.getValueWord(i) & bit;
+				result.cubes.add(new Cube(value, mask, width));
+			}
+		}
+
+		return result;
+	}
+}
@@ -0,0 +1,237 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for a symbol table.
+ * A symbol table holds the (sorted) variables of a Boolean expression and maps each variable name to its position
+ * within a cube. Names are either single lowercase letters (i.e. ab'c) or identifiers (i.e. x17 * req_valid').
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.group.term.literal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+public class SymbolTable
+{
+	// Separator between the literals of a term written with identifiers
+	public static final String AND_OPERATOR = "*";
+
+	// Instance variables
+	private List<String> variables;
+	private Map<String, Integer> positions;
+	private boolean usesSingleLetters;
+
+	/**
+	 * Constructor for a symbol table.
+	 *
+	 * @param names
+	 * 			the variable names of the Boolean expression (duplicates are ignored).
+	 * @param usesSingleLetters
+	 * 			whether every name is a single lowercase letter written without separators.
+	 */
+	public SymbolTable(Collection<String> names, boolean usesSingleLetters)
+	{
+		// Local variable
+		List<String> sortedNames = new ArrayList<String>(new LinkedHashSet<String>(names));
+
+		Collections.sort(sortedNames, NATURAL_ORDER);
+
+		this.usesSingleLetters = usesSingleLetters;
+		variables = new ArrayList<String>(sortedNames.size());
+		positions = new HashMap<String, Integer>(sortedNames.size() * 2);
+
+		for(String name : sortedNames)
+		{
+			positions.put(name, variables.size());
+			variables.add(name);
+		}
+	}
+
+	/**
+	 * Constructor for a symbol table of default variable names.
+	 * Up to 26 variables are named by single letters (a, b, c, ...), more variables by identifiers (x1, x2, x3, ...).
+	 *
+	 * @param variableCount
+	 * 			the number of variables.
+	 */
+	public SymbolTable(int variableCount)
+	{
+		this(createDefaultNames(variableCount), variableCount <= 26);
+	}
+
+	/**
+	 * Creates the default variable names.
+	 *
+	 * @param variableCount
+	 * 			the number of variables.
+	 * @return the default variable names in order.
+	 */
+	private static List<String> createDefaultNames(int variableCount)
+	{
+		List<String> names = new ArrayList<String>(variableCount);
+		for(int i = 0; i < variableCount; i++)
+		{
+			names.add((variableCount <= 26) ? String.valueOf((char)('a' + i)) : "x" + (i + 1));
+		}
+		return names;
+	}
+
+	/**
+	 * Retrieves the number of variables.
+	 *
+	 * @return the number of variables.
+	 */
+	public int size()
+	{
+		return variables.size();
+	}
+
+	/**
+	 * Retrieves the name of the variable at a position.
+	 *
+	 * @param position
+	 * 			the position of the variable (0 = leftmost).
+	 * @return the name of the variable.
+	 */
+	public String getName(int position)
+	{
+		return variables.get(position);
+	}
+
+	/**
+	 * Retrieves the position of a variable.
+	 *
+	 * @param name
+	 * 			the name of the variable.
+	 * @return the position of the variable (-1 if the variable is not in the table).
+	 */
+	public int indexOf(String name)
+	{
+		Integer position = positions.get(name);
+		return (position == null) ? -1 : position;
+	}
+
+	/**
+	 * Retrieves the names of all the variables (sorted).
+	 *
+	 * @return the names of all the variables.
+	 */
+	public List<String> getVariables()
+	{
+		return Collections.unmodifiableList(variables);
+	}
+
+	/**
+	 * Determines whether every name is a single lowercase letter written without separators (i.e. ab'c).
+	 *
+	 * @return whether the names are single letters.
+	 */
+	public boolean usesSingleLetters()
+	{
+		return usesSingleLetters;
+	}
+
+	/**
+	 * Determines whether a character may start an identifier.
+	 *
+	 * @param curChar
+	 * 			the character to check.
+	 * @return whether the character is a letter or underscore.
+	 */
+	public static boolean isIdentifierStart(char curChar)
+	{
+		return (curChar >= 'a' && curChar <= 'z') || (curChar >= 'A' && curChar <= 'Z') || curChar == '_';
+	}
+
+	/**
+	 * Determines whether a character may appear in an identifier after its first character.
+	 *
+	 * @param curChar
+	 * 			the character to check.
+	 * @return whether the character is a letter, digit or underscore.
+	 */
+	public static boolean isIdentifierPart(char curChar)
+	{
+		return isIdentifierStart(curChar) || (curChar >= '0' && curChar <= '9');
+	}
+
+	/**
+	 * Orders names alphabetically, except that runs of digits are compared by their numeric value (x2 before x10).
+	 */
+	public static final Comparator<String> NATURAL_ORDER = new Comparator<String>()
+	{
+		@Override
+		public int compare(String name1, String name2)
+		{
+			int i = 0;
+			int j = 0;
+
+			while(i < name1.length() && j < name2.length())
+			{
+				char char1 = name1.charAt(i);
+				char char2 = name2.charAt(j);
+
+				if(Character.isDigit(char1) && Character.isDigit(char2))
+				{
+					// Find the end of both digit runs
+					int end1 = i;
+					int end2 = j;
+					while(end1 < name1.length() && Character.isDigit(name1.charAt(end1))) end1++;
+					while(end2 < name2.length() && Character.isDigit(name2.charAt(end2))) end2++;
+
+					// Compare numerically by ignoring leading zeros and comparing lengths, then digits
+					String digits1 = stripLeadingZeros(name1.substring(i, end1));
+					String digits2 = stripLeadingZeros(name2.substring(j, end2));
+					int result = (digits1.length() != digits2.length()) ?
+							Integer.compare(digits1.length(), digits2.length()) : digits1.compareTo(digits2);
+					if(result != 0)
+					{
+						return result;
+					}
+
+					i = end1;
+					j = end2;
+				}
+				else if(char1 != char2)
+				{
+					return Character.compare(char1, char2);
+				}
+				else
+				{
+					i++;
+					j++;
+				}
+			}
+
+			// Shorter name first, then plain comparison to separate names such as x1 and x01
+			int result = Integer.compare(name1.length() - i, name2.length() - j);
+			return (result != 0) ? result : name1.compareTo(name2);
+		}
+
+		private String stripLeadingZeros(String digits)
+		{
+			int start = 0;
+			while(start < digits.length() - 1 && digits.charAt(start) == '0') start++;
+			return digits.substring(start);
+		}
+	};
+}
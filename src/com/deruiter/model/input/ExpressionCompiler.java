@@ -0,0 +1,660 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for a Boolean expression compiler.
+ * A compiler parses a Boolean expression which is not a plain sum of products, i.e. one with parentheses, exclusive
+ * OR's or complemented sub-expressions (i.e. (a + b')(c ^ !(bd)) + 1), and compiles it straight to the cubes of an
+ * equivalent sum of products. Every sub-expression is compiled to a cube set as soon as it is parsed (with cube
+ * calculus and absorption), so the expression is never multiplied out as text.
+ *
+ * Operators from lowest to highest precedence:
+ *     +        OR
+ *     ^        exclusive OR
+ *     *        AND (also written by putting operands next to each other)
+ *     !        complement of the following operand
+ *     '        complement of the preceding operand
+ * Operands are variables, the constants 0 and 1 and parenthesized sub-expressions. Just like in a sum of products,
+ * a "d(" directly after a "+" outside of any parentheses opens the don't-care section (write d*(...) for the AND of
+ * a variable named d and a sub-expression).
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.input;
+
+import com.deruiter.model.exception.InvalidInputException;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.cube.CubeSet;
+import com.deruiter.model.group.term.literal.SymbolTable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class ExpressionCompiler
+{
+	// Kinds of tokens
+	private static final int VARIABLE = 0;
+	private static final int CONSTANT = 1;
+	private static final int NOT_OPERATOR = 2;
+	private static final int APOSTROPHE = 3;
+	private static final int AND_OPERATOR = 4;
+	private static final int XOR_OPERATOR = 5;
+	private static final int OR_OPERATOR = 6;
+	private static final int OPEN_PARENTHESIS = 7;
+	private static final int CLOSE_PARENTHESIS = 8;
+	private static final int COMMA = 9;
+	private static final int DONT_CARE_SECTION = 10;
+	private static final int END = 11;
+
+	// Binding powers of the binary operators
+	private static final int OR_POWER = 1;
+	private static final int XOR_POWER = 2;
+	private static final int AND_POWER = 3;
+
+	// Instance variables (input)
+	private CharSequence expression;
+	private int lastPosition = -1;
+
+	// Instance variables (tokens stored as kind, value (variable number or constant) and position)
+	private int[] tokenKinds = new int[64];
+	private int[] tokenValues = new int[64];
+	private int[] tokenPositions = new int[64];
+	private int tokenCount;
+	private int tokenIndex;
+	private boolean inDontCares;
+
+	// Instance variables (variables)
+	private Map<String, Integer> identifierNumbers = new HashMap<String, Integer>();
+	private List<String> identifiers = new ArrayList<String>();
+	private boolean usesSingleLetters = true;
+	private int spacedApostrophePosition = -1;
+	private int[] bitIndexes;
+	private int width;
+
+	// Instance variables (result)
+	private SymbolTable symbolTable;
+	private List<Cube> terms;
+	private List<Cube> dontCares;
+
+	/**
+	 * Constructor for a compiler of a Boolean expression.
+	 *
+	 * @param expression
+	 * 			the Boolean expression.
+	 */
+	public ExpressionCompiler(CharSequence expression)
+	{
+		this.expression = expression;
+	}
+
+	/**
+	 * Parses, validates and compiles the whole Boolean expression.
+	 *
+	 * @throws InvalidInputException
+	 */
+	public void compile() throws InvalidInputException
+	{
+		readTokens();
+		formSymbolTable();
+
+		CubeSet function = parseExpression(0);
+		CubeSet dontCareFunction = new CubeSet(width);
+
+		// Check if the don't-care section follows the expression
+		if(tokenKinds[tokenIndex] == DONT_CARE_SECTION)
+		{
+			int sectionPosition = tokenPositions[tokenIndex++];
+			inDontCares = true;
+
+			dontCareFunction = dontCareFunction.or(parseExpression(0));
+			while(tokenKinds[tokenIndex] == COMMA)
+			{
+				tokenIndex++;
+				dontCareFunction = dontCareFunction.or(parseExpression(0));
+			}
+
+			if(tokenKinds[tokenIndex] != CLOSE_PARENTHESIS)
+			{
+				throw new InvalidInputException("Illegal character: Parenthesis", sectionPosition);
+			}
+			tokenIndex++;
+			inDontCares = false;
+
+			// Check if anything follows the don't-care section
+			if(tokenKinds[tokenIndex] != END)
+			{
+				throw new InvalidInputException("Illegal last character in Boolean expression.",
+						tokenPositions[tokenIndex]);
+			}
+		}
+
+		// Check if the expression has unmatched parentheses or stray commas
+		if(tokenKinds[tokenIndex] == CLOSE_PARENTHESIS)
+		{
+			throw new InvalidInputException("Illegal character: Parenthesis", tokenPositions[tokenIndex]);
+		}
+		else if(tokenKinds[tokenIndex] != END)
+		{
+			throw new InvalidInputException("Illegal character in Boolean expression.", tokenPositions[tokenIndex]);
+		}
+
+		// Check if expression is made of constants only
+		if(width == 0)
+		{
+			throw new InvalidInputException("Illegal Boolean expression with no variables.");
+		}
+
+		// Check if the expression is never true (there would be nothing to minimize)
+		if(function.isEmpty())
+		{
+			throw new InvalidInputException("Illegal Boolean expression which is never true.");
+		}
+
+		terms = new ArrayList<Cube>(function.getCubes());
+		dontCares = new ArrayList<Cube>();
+
+		// Keep only the don't-care terms which are not already part of a term of the expression
+		for(Cube dontCare : dontCareFunction.getCubes())
+		{
+			boolean isAbsorbed = false;
+			for(Cube term : terms)
+			{
+				if(term.contains(dontCare))
+				{
+					isAbsorbed = true;
+					break;
+				}
+			}
+
+			if(!isAbsorbed)
+			{
+				dontCares.add(dontCare);
+			}
+		}
+	}
+
+	/**
+	 * Retrieves the symbol table of the Boolean expression (only set once compiled).
+	 *
+	 * @return the symbol table of the Boolean expression.
+	 */
+	public SymbolTable getSymbolTable()
+	{
+		return symbolTable;
+	}
+
+	/**
+	 * Retrieves the cubes of the compiled sum of products (only set once compiled).
+	 *
+	 * @return the cubes of the terms.
+	 */
+	public List<Cube> getTerms()
+	{
+		return terms;
+	}
+
+	/**
+	 * Retrieves the cubes of the compiled don't-care terms (only set once compiled).
+	 *
+	 * @return the cubes of the don't-care terms.
+	 */
+	public List<Cube> getDontCares()
+	{
+		return dontCares;
+	}
+
+	/**
+	 * Parses an expression whose binary operators all bind tighter than the specified binding power.
+	 *
+	 * @param minPower
+	 * 			the binding power of the operator in front of the expression (0 = none).
+	 * @return the cube set of the expression.
+	 * @throws InvalidInputException
+	 */
+	private CubeSet parseExpression(int minPower) throws InvalidInputException
+	{
+		CubeSet left = parseOperand();
+
+		while(true)
+		{
+			int kind = tokenKinds[tokenIndex];
+			int power;
+
+			if(kind == OR_OPERATOR)
+			{
+				power = OR_POWER;
+			}
+			else if(kind == XOR_OPERATOR)
+			{
+				power = XOR_POWER;
+			}
+			else if(kind == AND_OPERATOR || startsOperand(kind))
+			{
+				power = AND_POWER;
+			}
+			else
+			{
+				break;
+			}
+
+			// Check if the operator belongs to an enclosing expression
+			if(power <= minPower)
+			{
+				break;
+			}
+
+			// Operands next to each other are multiplied without an operator token
+			if(!startsOperand(kind))
+			{
+				tokenIndex++;
+			}
+
+			CubeSet right = parseExpression(power);
+
+			if(power == OR_POWER)
+			{
+				left = left.or(right);
+			}
+			else if(power == XOR_POWER)
+			{
+				left = left.xor(right);
+			}
+			else
+			{
+				left = left.and(right);
+			}
+		}
+
+		return left;
+	}
+
+	/**
+	 * Parses an operand together with the apostrophes following it.
+	 *
+	 * @return the cube set of the operand.
+	 * @throws InvalidInputException
+	 */
+	private CubeSet parseOperand() throws InvalidInputException
+	{
+		// Local variables
+		CubeSet operand;
+		int kind = tokenKinds[tokenIndex];
+		int position = tokenPositions[tokenIndex];
+
+		switch(kind)
+		{
+			case VARIABLE:
+				int bitIndex = bitIndexes[tokenValues[tokenIndex++]];
+				long[] value = new long[Cube.getWordCount(width)];
+				long[] mask = new long[value.length];
+
+				value[bitIndex >>> 6] = 1L << bitIndex;
+				mask[bitIndex >>> 6] = 1L << bitIndex;
+				operand = new CubeSet(new Cube(value, mask, width));
+				break;
+
+			case CONSTANT:
+				operand = (tokenValues[tokenIndex++] == 0) ?
+						new CubeSet(width) : new CubeSet(new Cube(new long[0], new long[0], width));
+				break;
+
+			case NOT_OPERATOR:
+				tokenIndex++;
+				return parseOperand().complement();
+
+			case OPEN_PARENTHESIS:
+				tokenIndex++;
+				operand = parseExpression(0);
+
+				if(tokenKinds[tokenIndex] == COMMA)
+				{
+					throw new InvalidInputException("Illegal character in Boolean expression.",
+							tokenPositions[tokenIndex]);
+				}
+				else if(tokenKinds[tokenIndex] != CLOSE_PARENTHESIS)
+				{
+					throw new InvalidInputException("Illegal character: Parenthesis", position);
+				}
+				tokenIndex++;
+				break;
+
+			default:
+				throw new InvalidInputException(getMissingOperandMessage(kind),
+						(kind == END) ? lastPosition : position);
+		}
+
+		// Complement the operand once for every apostrophe
+		while(tokenKinds[tokenIndex] == APOSTROPHE)
+		{
+			if(tokenKinds[tokenIndex - 1] == APOSTROPHE)
+			{
+				throw new InvalidInputException("Illegal double negation found in Boolean expression.",
+						tokenPositions[tokenIndex]);
+			}
+
+			operand = operand.complement();
+			tokenIndex++;
+		}
+
+		return operand;
+	}
+
+	/**
+	 * Determines whether a token can start an operand (and so multiplies the operand in front of it).
+	 *
+	 * @param kind
+	 * 			the kind of the token.
+	 * @return whether the token can start an operand.
+	 */
+	private boolean startsOperand(int kind)
+	{
+		return kind == VARIABLE || kind == CONSTANT || kind == NOT_OPERATOR || kind == OPEN_PARENTHESIS;
+	}
+
+	/**
+	 * Retrieves the error message for a token found where an operand should be.
+	 *
+	 * @param kind
+	 * 			the kind of the token.
+	 * @return the error message.
+	 */
+	private String getMissingOperandMessage(int kind)
+	{
+		if(tokenIndex == 0)
+		{
+			return "Illegal first character in Boolean expression.";
+		}
+
+		switch(kind)
+		{
+			case END:
+				return "Illegal last character in Boolean expression.";
+			case OR_OPERATOR:
+			case DONT_CARE_SECTION:
+				return "Illegal addition operators with no term in between.";
+			case AND_OPERATOR:
+				return "Illegal multiplication operator with no literal on one side.";
+			case XOR_OPERATOR:
+				return "Illegal exclusive-or operator with no operand on one side.";
+			case APOSTROPHE:
+				return "Illegal apostrophe with no literal in front of it.";
+			case CLOSE_PARENTHESIS:
+				return inDontCares ? "Illegal empty don't-care term in Boolean expression." :
+						"Illegal character: Parenthesis";
+			case COMMA:
+				return inDontCares ? "Illegal empty don't-care term in Boolean expression." :
+						"Illegal character in Boolean expression.";
+			default:
+				return "Illegal character in Boolean expression.";
+		}
+	}
+
+	/**
+	 * Reads all tokens of the expression and interns its identifiers.
+	 *
+	 * @throws InvalidInputException
+	 */
+	private void readTokens() throws InvalidInputException
+	{
+		// Local variables
+		boolean afterWhitespace = false;
+		boolean hasDontCareSection = false;
+		int depth = 0;
+		int i = 0;
+
+		while(i < expression.length())
+		{
+			char curChar = expression.charAt(i);
+			int curPosition = i;
+
+			if(Character.isWhitespace(curChar))
+			{
+				afterWhitespace = true;
+				i++;
+				continue;
+			}
+
+			lastPosition = curPosition;
+
+			if(SymbolTable.isIdentifierStart(curChar) || Character.isDigit(curChar))
+			{
+				// Read the whole identifier (or number)
+				boolean isLowerCase = true;
+				do
+				{
+					char c = expression.charAt(i);
+					isLowerCase &= (c >= 'a' && c <= 'z');
+					lastPosition = i++;
+				} while(i < expression.length() && SymbolTable.isIdentifierPart(expression.charAt(i)));
+				String name = expression.subSequence(curPosition, i).toString();
+
+				if(Character.isDigit(curChar))
+				{
+					// Check if number is not one of the constants
+					if(!name.equals("0") && !name.equals("1"))
+					{
+						throw new InvalidInputException((tokenCount == 0) ?
+								"Illegal first character in Boolean expression." :
+								"Illegal character: Digit at start of identifier", curPosition);
+					}
+					addToken(CONSTANT, curChar - '0', curPosition);
+				}
+				else if(name.equals("d") && depth == 0 && !hasDontCareSection && tokenCount > 0 &&
+						tokenKinds[tokenCount - 1] == OR_OPERATOR && isFollowedByParenthesis(i))
+				{
+					// Replace the "+" in front of the "d(" by the start of the don't-care section
+					while(expression.charAt(i) != '(')
+					{
+						i++;
+					}
+					lastPosition = i++;
+					tokenCount--;
+					addToken(DONT_CARE_SECTION, 0, lastPosition);
+					hasDontCareSection = true;
+					depth++;
+				}
+				else
+				{
+					if(!isLowerCase)
+					{
+						usesSingleLetters = false;
+					}
+
+					Integer number = identifierNumbers.get(name);
+					if(number == null)
+					{
+						number = identifiers.size();
+						identifierNumbers.put(name, number);
+						identifiers.add(name);
+					}
+					addToken(VARIABLE, number, curPosition);
+				}
+
+				afterWhitespace = false;
+				continue;
+			}
+
+			switch(curChar)
+			{
+				case '\'':
+					// Letters ignore spaces, but an identifier must be directly followed by its apostrophe
+					if(afterWhitespace && tokenCount > 0 && tokenKinds[tokenCount - 1] == VARIABLE &&
+						spacedApostrophePosition == -1)
+					{
+						spacedApostrophePosition = curPosition;
+					}
+					addToken(APOSTROPHE, 0, curPosition);
+					break;
+				case '!':
+					addToken(NOT_OPERATOR, 0, curPosition);
+					break;
+				case '*':
+					usesSingleLetters = false;
+					addToken(AND_OPERATOR, 0, curPosition);
+					break;
+				case '^':
+					addToken(XOR_OPERATOR, 0, curPosition);
+					break;
+				case '+':
+					addToken(OR_OPERATOR, 0, curPosition);
+					break;
+				case '(':
+					depth++;
+					addToken(OPEN_PARENTHESIS, 0, curPosition);
+					break;
+				case ')':
+					depth--;
+					addToken(CLOSE_PARENTHESIS, 0, curPosition);
+					break;
+				case ',':
+					addToken(COMMA, 0, curPosition);
+					break;
+				default:
+					throw new InvalidInputException((tokenCount == 0) ?
+							"Illegal first character in Boolean expression." :
+							"Illegal character in Boolean expression.", curPosition);
+			}
+
+			afterWhitespace = false;
+			i++;
+		}
+
+		// Check if expression is empty
+		if(tokenCount == 0)
+		{
+			throw new InvalidInputException("Illegal empty Boolean expression.");
+		}
+
+		// Check if an identifier is separated from its apostrophe
+		if(!usesSingleLetters && spacedApostrophePosition != -1)
+		{
+			throw new InvalidInputException("Illegal apostrophe with no literal in front of it.",
+					spacedApostrophePosition);
+		}
+
+		addToken(END, 0, expression.length());
+	}
+
+	/**
+	 * Determines whether the next character which is not white space is an opening parenthesis.
+	 *
+	 * @param index
+	 * 			the index to start looking at.
+	 * @return whether the next character which is not white space is an opening parenthesis.
+	 */
+	private boolean isFollowedByParenthesis(int index)
+	{
+		while(index < expression.length() && Character.isWhitespace(expression.charAt(index)))
+		{
+			index++;
+		}
+		return index < expression.length() && expression.charAt(index) == '(';
+	}
+
+	/**
+	 * Forms the symbol table and the bit of every variable number (splitting identifiers into letters if the whole
+	 * expression is written with single letters).
+	 */
+	private void formSymbolTable()
+	{
+		// Local variables
+		List<String> names = new ArrayList<String>();
+
+		if(usesSingleLetters)
+		{
+			splitIntoLetters();
+			for(int letter = 0; letter < 26; letter++)
+			{
+				names.add(String.valueOf((char)('a' + letter)));
+			}
+
+			List<String> foundLetters = new ArrayList<String>();
+			for(int token = 0; token < tokenCount; token++)
+			{
+				if(tokenKinds[token] == VARIABLE)
+				{
+					foundLetters.add(names.get(tokenValues[token]));
+				}
+			}
+			symbolTable = new SymbolTable(foundLetters, true);
+		}
+		else
+		{
+			names.addAll(identifiers);
+			symbolTable = new SymbolTable(names, false);
+		}
+
+		width = symbolTable.size();
+		bitIndexes = new int[names.size()];
+		for(int number = 0; number < names.size(); number++)
+		{
+			int position = symbolTable.indexOf(names.get(number));
+			bitIndexes[number] = (position == -1) ? -1 : width - 1 - position;
+		}
+	}
+
+	/**
+	 * Replaces every identifier token by one token for each of its letters (numbered a = 0).
+	 */
+	private void splitIntoLetters()
+	{
+		int[] kinds = tokenKinds;
+		int[] values = tokenValues;
+		int[] positions = tokenPositions;
+		int count = tokenCount;
+
+		tokenKinds = new int[count * 2];
+		tokenValues = new int[count * 2];
+		tokenPositions = new int[count * 2];
+		tokenCount = 0;
+
+		for(int token = 0; token < count; token++)
+		{
+			if(kinds[token] != VARIABLE)
+			{
+				addToken(kinds[token], values[token], positions[token]);
+				continue;
+			}
+
+			String identifier = identifiers.get(values[token]);
+			for(int i = 0; i < identifier.length(); i++)
+			{
+				addToken(VARIABLE, identifier.charAt(i) - 'a', positions[token] + i);
+			}
+		}
+	}
+
+	/**
+	 * Adds a token.
+	 *
+	 * @param kind
+	 * 			the kind of the token.
+	 * @param value
+	 * 			the variable number or the value of the constant (0 for any other token).
+	 * @param position
+	 * 			the position of the token.
+	 */
+	private void addToken(int kind, int value, int position)
+	{
+		tokenKinds = ExpressionTokenizer.ensureCapacity(tokenKinds, tokenCount);
+		tokenValues = ExpressionTokenizer.ensureCapacity(tokenValues, tokenCount);
+		tokenPositions = ExpressionTokenizer.ensureCapacity(tokenPositions, tokenCount);
+
+		tokenKinds[tokenCount] = kind;
+		tokenValues[tokenCount] = value;
+		tokenPositions[tokenCount++] = position;
+	}
+}
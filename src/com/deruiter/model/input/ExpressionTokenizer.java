@@ -0,0 +1,689 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for a Boolean expression tokenizer.
+ * A tokenizer reads a Boolean expression (optionally followed by a don't-care section) a single time, character by
+ * character, while validating it and interning its variables. Every literal is recorded as a variable number, so the
+ * cubes of the terms are formed from those numbers once all the variables are known (and sorted) without looking at
+ * the characters again. Duplicate terms are found by hashing the packed cubes.
+ *
+ * Expressions made of lowercase letters only treat every letter as a variable (i.e. ab'c), any other expression is
+ * made of identifiers (i.e. x17 * req_valid'). Since one character can switch an expression from letters to
+ * identifiers, literals are recorded both ways until the first character which is not allowed with letters.
+ *
+ * Parentheses (other than those of the don't-care section), exclusive OR's, "!" and the constants 0 and 1 are not
+ * part of a sum of products. At the first of them the tokenizer stops and leaves the expression to an
+ * {@link ExpressionCompiler} (the text read from a stream is kept so that it does not have to be read again).
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.input;
+
+import com.deruiter.model.exception.InvalidInputException;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.literal.SymbolTable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class ExpressionTokenizer
+{
+	// Class variables
+	private static final int BUFFER_SIZE = 8192;
+	private static final int END_OF_INPUT = -1;
+
+	// Kinds of the previous token
+	private static final int START = 0;
+	private static final int LITERAL = 1;
+	private static final int AND_OPERATOR = 2;
+	private static final int TERM_SEPARATOR = 3;
+	private static final int SECTION_END = 4;
+
+	// Instance variables (input)
+	private Reader reader;
+	private CharSequence sequence;
+	private char[] buffer = new char[BUFFER_SIZE];
+	private int bufferLength;
+	private int bufferIndex;
+	private int sequenceIndex;
+	private int position = -1;
+	private StringBuilder transcript;
+
+	// Instance variables (variables found so far)
+	private Map<String, Integer> identifierNumbers = new HashMap<String, Integer>();
+	private List<String> identifiers = new ArrayList<String>();
+	private boolean[] lettersFound = new boolean[26];
+	private boolean usesSingleLetters = true;
+
+	// Instance variables (literals stored as variable number << 1 | complement, with their positions)
+	private int[] literals = new int[64];
+	private int[] literalPositions = new int[64];
+	private int literalCount;
+	private int[] letterLiterals = new int[64];
+	private int[] letterPositions = new int[64];
+	private int letterCount;
+
+	// Instance variables (terms stored as the end of their literals, with their positions)
+	private int[] termEnds = new int[16];
+	private int[] termLetterEnds = new int[16];
+	private int[] termPositions = new int[16];
+	private int termCount;
+	private int dontCareStart = -1;
+	private int spacedApostrophePosition = -1;
+
+	// Instance variables (result)
+	private SymbolTable symbolTable;
+	private List<Cube> terms;
+	private List<Cube> dontCares;
+
+	/**
+	 * Constructor for a tokenizer of a Boolean expression held in memory.
+	 *
+	 * @param expression
+	 * 			the Boolean expression.
+	 */
+	public ExpressionTokenizer(CharSequence expression)
+	{
+		sequence = expression;
+	}
+
+	/**
+	 * Constructor for a tokenizer of a Boolean expression read from a stream.
+	 *
+	 * @param reader
+	 * 			the reader to read the Boolean expression from (not closed by the tokenizer).
+	 */
+	public ExpressionTokenizer(Reader reader)
+	{
+		this.reader = reader;
+		transcript = new StringBuilder();
+	}
+
+	/**
+	 * Reads, validates and tokenizes the whole Boolean expression.
+	 * If the expression turns out not to be a sum of products, the rest of it is read without being tokenized.
+	 *
+	 * @return whether the expression is a sum of products (otherwise it has to be compiled).
+	 * @throws InvalidInputException
+	 * @throws IOException
+	 */
+	public boolean tokenize() throws InvalidInputException, IOException
+	{
+		// Local variables
+		StringBuilder name = new StringBuilder();
+		int previous = START;
+		boolean afterWhitespace = false;
+		boolean isNewIdentifier = false;
+		boolean isNewLetter = false;
+		boolean termHasAndOperator = false;
+		int termLiteralStart = 0;
+		int lastPosition = -1;
+		int sectionStart = -1;
+
+		int c = read();
+		while(c != END_OF_INPUT)
+		{
+			char curChar = (char)c;
+			int curPosition = position;
+
+			if(Character.isWhitespace(curChar))
+			{
+				afterWhitespace = true;
+				c = read();
+				continue;
+			}
+
+			// Check if anything follows the don't-care section
+			if(previous == SECTION_END)
+			{
+				throw new InvalidInputException("Illegal last character in Boolean expression.", curPosition);
+			}
+
+			lastPosition = curPosition;
+
+			if(SymbolTable.isIdentifierStart(curChar))
+			{
+				// Read the whole identifier
+				boolean isLowerCase = true;
+				name.setLength(0);
+				do
+				{
+					isLowerCase &= (c >= 'a' && c <= 'z');
+					name.append((char)c);
+					lastPosition = position;
+					c = read();
+				} while(c != END_OF_INPUT && SymbolTable.isIdentifierPart((char)c));
+
+				if(literalCount == termLiteralStart)
+				{
+					termPositions = ensureCapacity(termPositions, termCount);
+					termPositions[termCount] = curPosition;
+				}
+
+				if(!isLowerCase)
+				{
+					usesSingleLetters = false;
+				}
+				isNewIdentifier = addIdentifier(name.toString(), curPosition);
+				isNewLetter = usesSingleLetters && addLetters(name, curPosition);
+
+				previous = LITERAL;
+				afterWhitespace = false;
+				continue;
+			}
+
+			switch(curChar)
+			{
+				case '\'':
+					if(previous != LITERAL)
+					{
+						throw new InvalidInputException((previous == START) ?
+								"Illegal first character in Boolean expression." :
+								"Illegal apostrophe with no literal in front of it.", curPosition);
+					}
+					else if((literals[literalCount - 1] & 1) != 0)
+					{
+						throw new InvalidInputException("Illegal double negation found in Boolean expression.",
+								curPosition);
+					}
+
+					// Letters ignore spaces, but an identifier must be directly followed by its apostrophe
+					if(afterWhitespace && spacedApostrophePosition == -1)
+					{
+						spacedApostrophePosition = curPosition;
+					}
+
+					literals[literalCount - 1] |= 1;
+					if(usesSingleLetters)
+					{
+						letterLiterals[letterCount - 1] |= 1;
+					}
+					break;
+
+				case '*':
+					usesSingleLetters = false;
+					if(previous != LITERAL)
+					{
+						throw new InvalidInputException((previous == START) ?
+								"Illegal first character in Boolean expression." :
+								"Illegal multiplication operator with no literal on one side.", curPosition);
+					}
+
+					termHasAndOperator = true;
+					previous = AND_OPERATOR;
+					break;
+
+				case '+':
+				case ',':
+					if(curChar == ',' && dontCareStart == -1)
+					{
+						throw new InvalidInputException("Illegal character in Boolean expression.", curPosition);
+					}
+					checkTermEnd(previous, curPosition, sectionStart == -1 || curChar == '+');
+
+					endTerm();
+					termLiteralStart = literalCount;
+					termHasAndOperator = false;
+					previous = TERM_SEPARATOR;
+					break;
+
+				case '!':
+				case '^':
+					return stopAtCompiledSyntax();
+
+				case '(':
+					// Check if the term is just "d" (opening the don't-care section)
+					if(dontCareStart == -1 && termCount > 0 && previous == LITERAL && !termHasAndOperator &&
+						literalCount - termLiteralStart == 1 && isDontCareMarker(literals[literalCount - 1]))
+					{
+						removeLastLiteral(isNewIdentifier, isNewLetter);
+						dontCareStart = termCount;
+						sectionStart = curPosition;
+						previous = TERM_SEPARATOR;
+						break;
+					}
+
+					return stopAtCompiledSyntax();
+
+				case ')':
+					if(dontCareStart == -1)
+					{
+						throw new InvalidInputException((previous == START) ?
+								"Illegal first character in Boolean expression." : "Illegal character: Parenthesis",
+								curPosition);
+					}
+					checkTermEnd(previous, curPosition, false);
+
+					endTerm();
+					termLiteralStart = literalCount;
+					previous = SECTION_END;
+					break;
+
+				default:
+					if(curChar == '0' || curChar == '1')
+					{
+						return stopAtCompiledSyntax();
+					}
+					else if(previous == START)
+					{
+						throw new InvalidInputException("Illegal first character in Boolean expression.", curPosition);
+					}
+					else if(Character.isDigit(curChar))
+					{
+						throw new InvalidInputException("Illegal character: Digit at start of identifier", curPosition);
+					}
+					throw new InvalidInputException("Illegal character in Boolean expression.", curPosition);
+			}
+
+			afterWhitespace = false;
+			c = read();
+		}
+
+		// Check if expression is empty, does not close the don't-care section or ends with an operator
+		if(previous == START)
+		{
+			throw new InvalidInputException("Illegal empty Boolean expression.");
+		}
+		else if(dontCareStart != -1 && previous != SECTION_END)
+		{
+			throw new InvalidInputException("Illegal character: Parenthesis", sectionStart);
+		}
+		else if(previous == AND_OPERATOR || previous == TERM_SEPARATOR)
+		{
+			throw new InvalidInputException("Illegal last character in Boolean expression.", lastPosition);
+		}
+		else if(previous == LITERAL)
+		{
+			endTerm(); // Flush out last term in expression
+		}
+
+		formCubes();
+		return true;
+	}
+
+	/**
+	 * Retrieves the whole Boolean expression as text (for an expression which has to be compiled).
+	 *
+	 * @return the Boolean expression.
+	 */
+	public CharSequence getExpression()
+	{
+		return (reader == null) ? sequence : transcript;
+	}
+
+	/**
+	 * Retrieves the symbol table of the Boolean expression (only set once tokenized).
+	 *
+	 * @return the symbol table of the Boolean expression.
+	 */
+	public SymbolTable getSymbolTable()
+	{
+		return symbolTable;
+	}
+
+	/**
+	 * Retrieves the cubes of the terms in the order they were written (only set once tokenized).
+	 *
+	 * @return the cubes of the terms.
+	 */
+	public List<Cube> getTerms()
+	{
+		return terms;
+	}
+
+	/**
+	 * Retrieves the cubes of the don't-care terms in the order they were written (only set once tokenized).
+	 *
+	 * @return the cubes of the don't-care terms.
+	 */
+	public List<Cube> getDontCares()
+	{
+		return dontCares;
+	}
+
+	/**
+	 * Stops tokenizing at a character which is not part of a sum of products and reads the rest of the expression.
+	 *
+	 * @return false (the expression is not a sum of products).
+	 * @throws IOException
+	 */
+	private boolean stopAtCompiledSyntax() throws IOException
+	{
+		while(reader != null && fillBuffer())
+		{
+			bufferIndex = bufferLength;
+		}
+		return false;
+	}
+
+	/**
+	 * Checks that a term can end at a term separator or the end of the don't-care section.
+	 *
+	 * @param previous
+	 * 			the kind of the previous token.
+	 * @param curPosition
+	 * 			the position of the term separator.
+	 * @param isAddition
+	 * 			whether the separator adds terms of the expression (otherwise it separates don't-care terms).
+	 * @throws InvalidInputException
+	 */
+	private void checkTermEnd(int previous, int curPosition, boolean isAddition) throws InvalidInputException
+	{
+		if(previous == START)
+		{
+			throw new InvalidInputException("Illegal first character in Boolean expression.", curPosition);
+		}
+		else if(previous == AND_OPERATOR)
+		{
+			throw new InvalidInputException("Illegal multiplication operator with no literal on one side.",
+					curPosition);
+		}
+		else if(previous == TERM_SEPARATOR && isAddition)
+		{
+			throw new InvalidInputException("Illegal addition operators with no term in between.", curPosition);
+		}
+		else if(previous == TERM_SEPARATOR)
+		{
+			throw new InvalidInputException("Illegal empty don't-care term in Boolean expression.", curPosition);
+		}
+	}
+
+	/**
+	 * Determines whether a literal is the uncomplemented identifier "d" (which opens the don't-care section when it is
+	 * followed by a parenthesis).
+	 *
+	 * @param literal
+	 * 			the literal (variable number << 1 | complement).
+	 * @return whether the literal is the identifier "d".
+	 */
+	private boolean isDontCareMarker(int literal)
+	{
+		Integer number = identifierNumbers.get("d");
+		return number != null && literal == (number << 1);
+	}
+
+	/**
+	 * Interns an identifier and records it as a literal of the current term.
+	 *
+	 * @param identifier
+	 * 			the identifier.
+	 * @param identifierPosition
+	 * 			the position of the identifier.
+	 * @return whether the identifier was found for the first time.
+	 */
+	private boolean addIdentifier(String identifier, int identifierPosition)
+	{
+		Integer number = identifierNumbers.get(identifier);
+		boolean isNew = (number == null);
+
+		if(isNew)
+		{
+			number = identifiers.size();
+			identifierNumbers.put(identifier, number);
+			identifiers.add(identifier);
+		}
+
+		literals = ensureCapacity(literals, literalCount);
+		literalPositions = ensureCapacity(literalPositions, literalCount);
+		literals[literalCount] = number << 1;
+		literalPositions[literalCount++] = identifierPosition;
+
+		return isNew;
+	}
+
+	/**
+	 * Records every letter of a lowercase identifier as a literal of the current term.
+	 *
+	 * @param letters
+	 * 			the lowercase letters.
+	 * @param lettersPosition
+	 * 			the position of the first letter.
+	 * @return whether the last letter was found for the first time.
+	 */
+	private boolean addLetters(CharSequence letters, int lettersPosition)
+	{
+		boolean isNew = false;
+
+		for(int i = 0; i < letters.length(); i++)
+		{
+			int letter = letters.charAt(i) - 'a';
+			isNew = !lettersFound[letter];
+			lettersFound[letter] = true;
+
+			letterLiterals = ensureCapacity(letterLiterals, letterCount);
+			letterPositions = ensureCapacity(letterPositions, letterCount);
+			letterLiterals[letterCount] = letter << 1;
+			letterPositions[letterCount++] = lettersPosition + i;
+		}
+
+		return isNew;
+	}
+
+	/**
+	 * Removes the last literal (the "d" opening the don't-care section) and forgets its variable if it was new.
+	 *
+	 * @param isNewIdentifier
+	 * 			whether the identifier of the literal was found for the first time.
+	 * @param isNewLetter
+	 * 			whether the letter of the literal was found for the first time.
+	 */
+	private void removeLastLiteral(boolean isNewIdentifier, boolean isNewLetter)
+	{
+		literalCount--;
+		if(isNewIdentifier)
+		{
+			identifierNumbers.remove(identifiers.remove(identifiers.size() - 1));
+		}
+
+		if(usesSingleLetters)
+		{
+			letterCount--;
+			if(isNewLetter)
+			{
+				lettersFound['d' - 'a'] = false;
+			}
+		}
+	}
+
+	/**
+	 * Ends the current term.
+	 */
+	private void endTerm()
+	{
+		termEnds = ensureCapacity(termEnds, termCount);
+		termLetterEnds = ensureCapacity(termLetterEnds, termCount);
+		termPositions = ensureCapacity(termPositions, termCount);
+		termEnds[termCount] = literalCount;
+		termLetterEnds[termCount] = letterCount;
+		termCount++;
+	}
+
+	/**
+	 * Forms the symbol table and the cubes of all terms from the recorded literals.
+	 *
+	 * @throws InvalidInputException
+	 */
+	private void formCubes() throws InvalidInputException
+	{
+		// Local variables
+		List<String> names = new ArrayList<String>();
+		int[] termLiteralEnds = usesSingleLetters ? termLetterEnds : termEnds;
+		int[] termLiterals = usesSingleLetters ? letterLiterals : literals;
+		int[] termLiteralPositions = usesSingleLetters ? letterPositions : literalPositions;
+		Set<Cube> termSet = new HashSet<Cube>();
+		Set<Cube> dontCareSet = new HashSet<Cube>();
+
+		// Check if an identifier is separated from its apostrophe
+		if(!usesSingleLetters && spacedApostrophePosition != -1)
+		{
+			throw new InvalidInputException("Illegal apostrophe with no literal in front of it.",
+					spacedApostrophePosition);
+		}
+
+		// Sort the variables and find the bit of every recorded variable number (letters are numbered a = 0)
+		if(usesSingleLetters)
+		{
+			for(int letter = 0; letter < lettersFound.length; letter++)
+			{
+				names.add(String.valueOf((char)('a' + letter)));
+			}
+			List<String> foundLetters = new ArrayList<String>();
+			for(int letter = 0; letter < lettersFound.length; letter++)
+			{
+				if(lettersFound[letter])
+				{
+					foundLetters.add(names.get(letter));
+				}
+			}
+			symbolTable = new SymbolTable(foundLetters, true);
+		}
+		else
+		{
+			names.addAll(identifiers);
+			symbolTable = new SymbolTable(names, false);
+		}
+
+		int width = symbolTable.size();
+		int[] bitIndexes = new int[names.size()];
+		for(int number = 0; number < names.size(); number++)
+		{
+			bitIndexes[number] = width - 1 - symbolTable.indexOf(names.get(number));
+		}
+
+		// Form every term's cube
+		long[] value = new long[Cube.getWordCount(width)];
+		long[] mask = new long[value.length];
+		terms = new ArrayList<Cube>(termCount);
+		dontCares = new ArrayList<Cube>();
+
+		int literal = 0;
+		for(int term = 0; term < termCount; term++)
+		{
+			Arrays.fill(value, 0);
+			Arrays.fill(mask, 0);
+
+			for(; literal < termLiteralEnds[term]; literal++)
+			{
+				int bitIndex = bitIndexes[termLiterals[literal] >>> 1];
+				long bit = 1L << bitIndex;
+
+				// Check if variable is already in the term
+				if((mask[bitIndex >>> 6] & bit) != 0)
+				{
+					throw new InvalidInputException("Illegal duplicate literal found in term in Boolean Expression.",
+							termLiteralPositions[literal]);
+				}
+
+				mask[bitIndex >>> 6] |= bit;
+				if((termLiterals[literal] & 1) == 0)
+				{
+					value[bitIndex >>> 6] |= bit;
+				}
+			}
+
+			Cube cube = new Cube(value, mask, width);
+			if(dontCareStart == -1 || term < dontCareStart)
+			{
+				if(!termSet.add(cube))
+				{
+					throw new InvalidInputException("Illegal duplicate term found in Boolean Expression.",
+							termPositions[term]);
+				}
+				terms.add(cube);
+			}
+			else
+			{
+				if(termSet.contains(cube))
+				{
+					throw new InvalidInputException("Illegal term found both in Boolean Expression and its don't-cares.",
+							termPositions[term]);
+				}
+				else if(!dontCareSet.add(cube))
+				{
+					throw new InvalidInputException("Illegal duplicate term found in Boolean Expression.",
+							termPositions[term]);
+				}
+				dontCares.add(cube);
+			}
+		}
+	}
+
+	/**
+	 * Reads the next character.
+	 *
+	 * @return the next character (END_OF_INPUT if there are no more characters).
+	 * @throws IOException
+	 */
+	private int read() throws IOException
+	{
+		if(bufferIndex == bufferLength && !fillBuffer())
+		{
+			return END_OF_INPUT;
+		}
+
+		position++;
+		return buffer[bufferIndex++];
+	}
+
+	/**
+	 * Fills the buffer with the next characters of the input.
+	 *
+	 * @return whether any characters were left.
+	 * @throws IOException
+	 */
+	private boolean fillBuffer() throws IOException
+	{
+		if(reader != null)
+		{
+			bufferLength = reader.read(buffer);
+			if(bufferLength > 0)
+			{
+				transcript.append(buffer, 0, bufferLength);
+			}
+		}
+		else
+		{
+			bufferLength = Math.min(buffer.length, sequence.length() - sequenceIndex);
+			for(int i = 0; i < bufferLength; i++)
+			{
+				buffer[i] = sequence.charAt(sequenceIndex++);
+			}
+		}
+
+		bufferIndex = 0;
+		return bufferLength > 0;
+	}
+
+	/**
+	 * Grows an array if it has no room for another element.
+	 *
+	 * @param array
+	 * 			the array.
+	 * @param size
+	 * 			the number of elements in use.
+	 * @return the array itself or a larger copy of it.
+	 */
+	static int[] ensureCapacity(int[] array, int size)
+	{
+		return (size < array.length) ? array : Arrays.copyOf(array, array.length * 2);
+	}
+}
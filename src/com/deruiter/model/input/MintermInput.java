@@ -0,0 +1,219 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for minterm input.
+ * Minterm input forms the data to use in the Quine McCluskey algorithm straight from minterm numbers (i.e. 4, 8, 10)
+ * instead of a Boolean expression. Each minterm number already is the value of its cube, so no text is rendered or
+ * parsed and no per-literal objects are created.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.input;
+
+import com.deruiter.model.exception.InvalidInputException;
+import com.deruiter.model.group.Group;
+import com.deruiter.model.group.term.OriginalTerm;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.literal.SymbolTable;
+
+import java.util.Arrays;
+
+public class MintermInput
+{
+	// Class variable
+	public static final int MAX_VARIABLE_COUNT = Long.SIZE - 1;
+
+	// Instance variables
+	private long[] minterms;
+	private long[] dontCares;
+	private int variableCount;
+
+	/**
+	 * Constructor for minterm input.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers of the function (the first variable is the most significant bit).
+	 * @param dontCares
+	 * 			the minterm numbers of the don't-care terms (may be null).
+	 * @param variableCount
+	 * 			the number of variables (at most 63).
+	 */
+	public MintermInput(long[] minterms, long[] dontCares, int variableCount)
+	{
+		this.minterms = sortedCopy(minterms);
+		this.dontCares = (dontCares == null) ? new long[0] : sortedCopy(dontCares);
+		this.variableCount = variableCount;
+	}
+
+	/**
+	 * Constructor for minterm input.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers of the function (the first variable is the most significant bit).
+	 * @param dontCares
+	 * 			the minterm numbers of the don't-care terms (may be null).
+	 * @param variableCount
+	 * 			the number of variables (at most 63).
+	 */
+	public MintermInput(int[] minterms, int[] dontCares, int variableCount)
+	{
+		this(toLongs(minterms), (dontCares == null) ? null : toLongs(dontCares), variableCount);
+	}
+
+	/**
+	 * Retrieves the number of minterms (not counting don't-care terms).
+	 * (Terms with an ID of at least this count are don't-care terms.)
+	 *
+	 * @return the number of minterms.
+	 */
+	public int getTermCount()
+	{
+		return minterms.length;
+	}
+
+	/**
+	 * Creates a group for the Quine McCluskey algorithm to minimize.
+	 * The minterms come first, followed by the don't-care terms (each in ascending order, the same order a parsed
+	 * Boolean expression is sorted in), so the don't-care terms get the highest ID's.
+	 *
+	 * @return a group for the Quine McCluskey algorithm to minimize.
+	 * @throws InvalidInputException
+	 */
+	public Group createGroup() throws InvalidInputException
+	{
+		// Local variables
+		Group group = new Group();
+
+		checkInputForErrors();
+
+		SymbolTable symbolTable = new SymbolTable(variableCount);
+		long mask = (1L << variableCount) - 1;
+
+		for(long minterm : minterms)
+		{
+			group.addTerm(new OriginalTerm(new Cube(minterm, mask, variableCount), symbolTable));
+		}
+		for(long dontCare : dontCares)
+		{
+			group.addTerm(new OriginalTerm(new Cube(dontCare, mask, variableCount), symbolTable));
+		}
+		group.assignTermIDs();
+
+		return group;
+	}
+
+	/**
+	 * Checks the minterms for general errors.
+	 *
+	 * @throws InvalidInputException
+	 */
+	private void checkInputForErrors() throws InvalidInputException
+	{
+		// Check if number of variables is out of range
+		if(variableCount < 1 || variableCount > MAX_VARIABLE_COUNT)
+		{
+			throw new InvalidInputException("Illegal number of variables (must be 1 to " + MAX_VARIABLE_COUNT + ").");
+		}
+
+		// Check if there are no minterms
+		if(minterms.length == 0)
+		{
+			throw new InvalidInputException("Illegal empty list of minterms.");
+		}
+
+		checkRange(minterms);
+		checkRange(dontCares);
+
+		// Walk both sorted lists together to find minterms which are also don't-care terms
+		int j = 0;
+		for(long minterm : minterms)
+		{
+			while(j < dontCares.length && dontCares[j] < minterm)
+			{
+				j++;
+			}
+
+			if(j < dontCares.length && dontCares[j] == minterm)
+			{
+				throw new InvalidInputException("Illegal minterm found both in minterms and don't-cares: " + minterm);
+			}
+		}
+	}
+
+	/**
+	 * Checks a sorted list of minterm numbers for numbers out of range and duplicates.
+	 *
+	 * @param sortedMinterms
+	 * 			the minterm numbers in ascending order.
+	 * @throws InvalidInputException
+	 */
+	private void checkRange(long[] sortedMinterms) throws InvalidInputException
+	{
+		for(int i = 0; i < sortedMinterms.length; i++)
+		{
+			// Check if minterm does not fit in the number of variables
+			if(sortedMinterms[i] < 0 || sortedMinterms[i] >= (1L << variableCount))
+			{
+				throw new InvalidInputException("Illegal minterm out of range: " + sortedMinterms[i]);
+			}
+
+			// Check if minterm equals the one before it
+			if(i > 0 && sortedMinterms[i] == sortedMinterms[i - 1])
+			{
+				throw new InvalidInputException("Illegal duplicate minterm: " + sortedMinterms[i]);
+			}
+		}
+	}
+
+	/**
+	 * Copies minterm numbers into ascending order (only sorting them if they are not in order already).
+	 *
+	 * @param minterms
+	 * 			the minterm numbers.
+	 * @return the minterm numbers in ascending order.
+	 */
+	private static long[] sortedCopy(long[] minterms)
+	{
+		long[] sortedMinterms = minterms.clone();
+
+		for(int i = 1; i < sortedMinterms.length; i++)
+		{
+			if(sortedMinterms[i] < sortedMinterms[i - 1])
+			{
+				Arrays.sort(sortedMinterms);
+				break;
+			}
+		}
+
+		return sortedMinterms;
+	}
+
+	/**
+	 * Widens minterm numbers to longs.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers.
+	 * @return the minterm numbers as longs.
+	 */
+	private static long[] toLongs(int[] minterms)
+	{
+		long[] longMinterms = new long[minterms.length];
+		for(int i = 0; i < minterms.length; i++)
+		{
+			longMinterms[i] = minterms[i];
+		}
+		return longMinterms;
+	}
+}
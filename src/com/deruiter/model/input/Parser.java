@@ -11,6 +11,12 @@
  * Model class for a Boolean expression parser.
  * A parser determines forms the data to use in the Quine McCluskey algorithm from the specified Boolean expression.
  * Also, a parser sanitizes a Boolean expression.
+ * The expression is read a single time by an {@link ExpressionTokenizer}, which validates it and forms its cubes.
+ * Expressions made of lowercase letters only (i.e. ab'c + a'b) treat every letter as a variable. Any other expression
+ * is made of identifiers (i.e. x17 * req_valid' + x2) whose literals are separated by "*" or white space.
+ * Don't-care terms may follow the expression in a d(...) section (i.e. ab'c + a'b + d(abc, a'b'c)).
+ * Expressions which are not a sum of products (i.e. with parentheses or exclusive OR's) are compiled to the cubes of an
+ * equivalent sum of products by an {@link ExpressionCompiler}.
  *
  * SOFTWARE HISTORY:
  * Date          Developer      Modification
@@ -25,91 +31,113 @@ import com.deruiter.model.exception.InvalidInputException;
 import com.deruiter.model.group.Group;
 import com.deruiter.model.group.term.OriginalTerm;
 import com.deruiter.model.group.term.Term;
-import com.deruiter.model.group.term.literal.Literal;
-import com.deruiter.utilities.Constants;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.literal.SymbolTable;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 public class Parser
 {
-	private String expression;
-	private List<Literal> allLiterals;
+	private ExpressionTokenizer tokenizer;
+	private ExpressionCompiler compiler;
+	private int termCount;
 
 	/**
 	 * Constructor for a parser.
 	 *
 	 * @param expression
-	 * 			a Boolean expression to parse.
+	 * 			a Boolean expression to parse (optionally followed by a don't-care section).
 	 */
 	public Parser(String expression)
 	{
-		this.expression = expression;
-		allLiterals = new ArrayList<>();
-
-		determineLetters();
+		tokenizer = new ExpressionTokenizer(expression);
 	}
 
 	/**
-	 * Determines all the unique letters in an expression.
+	 * Constructor for a parser of a Boolean expression read from a stream.
+	 *
+	 * @param reader
+	 * 			the reader to read the Boolean expression from (optionally followed by a don't-care section).
 	 */
-	private void determineLetters()
+	public Parser(Reader reader)
 	{
-		Literal curLiteral;
-		String modifiedExpression = expression;
+		tokenizer = new ExpressionTokenizer(reader);
+	}
 
-		modifiedExpression = modifiedExpression.replace("+", Constants.EMPTY_STRING);
-		modifiedExpression = modifiedExpression.replace("'", Constants.EMPTY_STRING);
-		modifiedExpression = modifiedExpression.replace(" ", Constants.EMPTY_STRING);
+	/**
+	 * Retrieves the symbol table holding all the variables (sorted) of the expression.
+	 * (Only set once the group has been created.)
+	 *
+	 * @return the symbol table of the expression.
+	 */
+	public SymbolTable getSymbolTable()
+	{
+		return (compiler == null) ? tokenizer.getSymbolTable() : compiler.getSymbolTable();
+	}
 
-		for(int i = 0; i < modifiedExpression.length(); i++)
-		{
-			curLiteral = new Literal(Character.toString(modifiedExpression.charAt(i)));
-			if(Term.containsLiteral(curLiteral, allLiterals))
-			{
-				continue;
-			}
-			else
-			{
-				allLiterals.add(curLiteral);
-			}
-		}
-		Collections.sort(allLiterals);
+	/**
+	 * Retrieves the number of terms in the expression (not counting don't-care terms).
+	 * (Only set once the group has been created. Terms with an ID of at least this count are don't-care terms.)
+	 *
+	 * @return the number of terms in the expression.
+	 */
+	public int getTermCount()
+	{
+		return termCount;
 	}
 
 	/**
 	 * Creates a group for the Quine McCluskey algorithm to minimize.
+	 * The terms of the expression come first, followed by the don't-care terms (each sorted according to bit strings),
+	 * so the don't-care terms get the highest ID's. The terms of an expression which is not a sum of products are the
+	 * cubes it was compiled to.
 	 *
 	 * @return a group for the Quine McCluskey algorithm to minimize.
+	 * @throws InvalidInputException
+	 * @throws IOException
 	 */
-	public Group createGroup()
+	public Group createGroup() throws InvalidInputException, IOException
 	{
         // Local variables
-		char curChar = '\u0000';
-		String curTerm = Constants.EMPTY_STRING;
 		Group group = new Group();
+		Group dontCareGroup = new Group();
+		List<Cube> terms;
+		List<Cube> dontCares;
 
-		for(int i = 0; i < expression.length(); i++)
+		if(tokenizer.tokenize())
 		{
-			curChar = expression.charAt(i);
-			if(curChar == ' ')
-			{
-				continue;
-			}
-			else if(curChar == '+')
-			{
-				group.addTerm(new OriginalTerm(curTerm, allLiterals));
-				curTerm = Constants.EMPTY_STRING;
-			}
-			else
-			{
-				curTerm += curChar;
-			}
+			terms = tokenizer.getTerms();
+			dontCares = tokenizer.getDontCares();
+		}
+		else
+		{
+			compiler = new ExpressionCompiler(tokenizer.getExpression());
+			compiler.compile();
+			terms = compiler.getTerms();
+			dontCares = compiler.getDontCares();
 		}
+		SymbolTable symbolTable = getSymbolTable();
 
-		group.addTerm(new OriginalTerm(curTerm, allLiterals)); // Flush out last term in expression
+		for(Cube cube : terms)
+		{
+			group.addTerm(new OriginalTerm(cube, symbolTable));
+		}
 		group.sort(); // Sort group according to bit strings
+		termCount = group.getSize();
+
+		for(Cube cube : dontCares)
+		{
+			dontCareGroup.addTerm(new OriginalTerm(cube, symbolTable));
+		}
+		dontCareGroup.sort();
+
+		for(Term dontCare : dontCareGroup.getTerms())
+		{
+			group.addTerm(dontCare);
+		}
 		group.assignTermIDs();
 
 		return group;
@@ -119,7 +147,7 @@ public class Parser
 	 * Checks the user's input Boolean expression for invalid tokens or general errors.
 	 *
 	 * @param inputBoolExpression
-	 * 			the Boolean expression input by the user.
+	 * 			the Boolean expression input by the user (optionally followed by a don't-care section).
 	 * @return a valid Boolean expression.
 	 * @throws InvalidInputException
 	 */
@@ -127,111 +155,19 @@ public class Parser
 	{
 		inputBoolExpression = inputBoolExpression.trim();
 
-		// Check if empty Boolean expression
-		if(inputBoolExpression.isEmpty())
-		{
-			throw new InvalidInputException("Illegal empty Boolean expression.");
-		}
-
-		// Loop through all characters in the Boolean expression
-		for(int i = 0; i < inputBoolExpression.length(); i++)
-		{
-			char curChar = inputBoolExpression.charAt(i);
-
-			// Check if current character is valid
-			if(Character.isLowerCase(curChar) || curChar == ' ' || curChar == '+' || curChar == '\'')
-			{
-				continue; // Valid character found so proceed to next
-			}
-			// Check if current character is an upper case letter
-			else if(Character.isUpperCase(curChar))
-			{
-				throw new InvalidInputException("Illegal character: Uppercase Letter");
-			}
-			// Check if current character is a digit
-			else if(Character.isDigit(curChar))
-			{
-				throw new InvalidInputException("Illegal character: Digit");
-			}
-			// Check if current character is a parenthesis
-			else if(curChar == '(' || curChar == ')')
-			{
-				throw new InvalidInputException("Illegal character: Parenthesis");
-			}
-			else // Character is invalid
-			{
-				throw new InvalidInputException("Illegal character in Boolean expression.");
-			}
-		}
-
-		// Check if 1st character is NOT a lower case letter
-		if(!Character.isLowerCase(inputBoolExpression.charAt(0)))
-		{
-			throw new InvalidInputException("Illegal first character in Boolean expression.");
-		}
-
-		// Check if last character is NOT a lower case letter or apostrophe
-		if(!Character.isLowerCase(inputBoolExpression.charAt(inputBoolExpression.length() - 1)) &&
-				inputBoolExpression.charAt(inputBoolExpression.length() - 1) != '\'')
+		try
 		{
-			throw new InvalidInputException("Illegal last character in Boolean expression.");
-		}
-
-		// Check if expression contains a double negation
-		if(inputBoolExpression.contains("''"))
-		{
-			throw new InvalidInputException("Illegal double negation found in Boolean expression.");
-		}
-
-		String temp = inputBoolExpression.replace(" ", Constants.EMPTY_STRING);
-		boolean plusFound = false;
-
-		// Loop through all characters in white space removed Boolean expression
-		for(int i = 0; i < temp.length(); i++)
-		{
-			char curChar = temp.charAt(i);
-
-			// Check if addition operators with no term in between exist
-			if(plusFound && curChar == '+')
+			ExpressionTokenizer tokenizer = new ExpressionTokenizer(inputBoolExpression);
+			if(!tokenizer.tokenize())
 			{
-				throw new InvalidInputException("Illegal addition operators with no term in between.");
-			}
-			else
-			{
-				// Reset
-				plusFound = false;
-			}
-
-			// Check if end of term reached
-			if(curChar == '+')
-			{
-				plusFound = true;
+				new ExpressionCompiler(inputBoolExpression).compile();
 			}
 		}
-
-		String[] terms = inputBoolExpression.replace(" ", Constants.EMPTY_STRING).split("\\+");
-
-		// Loop through all terms in the Boolean expression
-		for(int i = 0; i < terms.length; i++)
+		catch(IOException ex)
 		{
-			for(int j = i + 1; j < terms.length; j++)
-			{
-				for(int k = 0; k < terms[i].length(); k++)
-				{
-					String term = terms[i].substring(k + 1);
-					String literal = terms[i].substring(k, k + 1);
-					if(term.contains(literal) && !literal.equals("'"))
-					{
-						throw new InvalidInputException("Illegal duplicate literal found in term in Boolean Expression.");
-					}
-				}
-				if(terms[i].equals(terms[j]))
-				{
-					throw new InvalidInputException("Illegal duplicate term found in Boolean Expression.");
-				}
-			}
+			throw new UncheckedIOException(ex); // Never thrown when reading from a String
 		}
 
 		return inputBoolExpression;
 	}
-}
\ No newline at end of file
+}
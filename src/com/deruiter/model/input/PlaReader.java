@@ -0,0 +1,608 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for a PLA reader.
+ * A PLA reader forms the data to use in the Quine McCluskey algorithm from a truth table in Berkeley (Espresso) PLA
+ * format, i.e.
+ *     .i 3
+ *     .o 1
+ *     .ilb a b c
+ *     .type fd
+ *     01- 1
+ *     110 -
+ *     .e
+ * The file (or a memory-mapped region of it) is read a single time, character by character, and every cube line is
+ * packed straight into a cube without being split into strings.
+ *
+ * Only one output of the table is minimized. Output characters 1 and 4 put the cube in the on-set, - and 2 put it in
+ * the don't-care set (types with d) and 0 puts it in the off-set (types with r, whose complement is don't-care).
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.input;
+
+import com.deruiter.model.exception.InvalidInputException;
+import com.deruiter.model.group.Group;
+import com.deruiter.model.group.term.OriginalTerm;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.cube.CubeSet;
+import com.deruiter.model.group.term.literal.SymbolTable;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class PlaReader
+{
+	// Class variables
+	private static final int BUFFER_SIZE = 8192;
+	private static final int END_OF_INPUT = -1;
+
+	// Instance variables (input)
+	private Reader reader;
+	private ByteBuffer mappedBuffer;
+	private char[] buffer;
+	private int bufferLength;
+	private int bufferIndex;
+	private int curChar;
+	private int lineNumber = 1;
+
+	// Instance variables (header)
+	private int inputCount = -1;
+	private int outputCount = 1;
+	private int output;
+	private String type = "fd";
+	private List<String> inputNames;
+	private List<String> outputNames;
+	private int[] bitIndexes;
+
+	// Instance variables (result)
+	private SymbolTable symbolTable;
+	private int termCount;
+
+	/**
+	 * Constructor for a PLA reader of a stream.
+	 *
+	 * @param reader
+	 * 			the reader to read the PLA file from (not closed by the PLA reader).
+	 */
+	public PlaReader(Reader reader)
+	{
+		this.reader = reader;
+		buffer = new char[BUFFER_SIZE];
+	}
+
+	/**
+	 * Constructor for a PLA reader of a file, which is mapped into memory instead of being copied into a buffer.
+	 *
+	 * @param path
+	 * 			the path of the PLA file.
+	 * @throws IOException
+	 */
+	public PlaReader(Path path) throws IOException
+	{
+		try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ))
+		{
+			mappedBuffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		}
+	}
+
+	/**
+	 * Sets which output of the PLA file is minimized.
+	 *
+	 * @param output
+	 * 			the index of the output (0 = first output, the default).
+	 */
+	public void setOutput(int output)
+	{
+		this.output = output;
+	}
+
+	/**
+	 * Retrieves the symbol table holding the input variables (sorted).
+	 * (Only set once the group has been created.)
+	 *
+	 * @return the symbol table of the PLA file.
+	 */
+	public SymbolTable getSymbolTable()
+	{
+		return symbolTable;
+	}
+
+	/**
+	 * Retrieves the number of on-set cubes (not counting don't-care cubes).
+	 * (Only set once the group has been created. Terms with an ID of at least this count are don't-care terms.)
+	 *
+	 * @return the number of on-set cubes.
+	 */
+	public int getTermCount()
+	{
+		return termCount;
+	}
+
+	/**
+	 * Retrieves the name of the minimized output.
+	 * (Only set once the group has been created.)
+	 *
+	 * @return the name of the output given by .ob (null if the outputs are not named).
+	 */
+	public String getOutputName()
+	{
+		return (outputNames == null || output >= outputNames.size()) ? null : outputNames.get(output);
+	}
+
+	/**
+	 * Creates a group for the Quine McCluskey algorithm to minimize.
+	 * The on-set cubes come first, followed by the don't-care cubes (each sorted according to bit strings), so the
+	 * don't-care cubes get the highest ID's. Repeated cubes are only added once.
+	 *
+	 * @return a group for the Quine McCluskey algorithm to minimize.
+	 * @throws InvalidInputException
+	 * @throws IOException
+	 */
+	public Group createGroup() throws InvalidInputException, IOException
+	{
+		// Local variables
+		Group group = new Group();
+		Set<Cube> onSet = new LinkedHashSet<Cube>();
+		Set<Cube> dontCareSet = new LinkedHashSet<Cube>();
+		List<Cube> offSet = new ArrayList<Cube>();
+
+		readCubes(onSet, dontCareSet, offSet);
+
+		// Check if the output is never true (there would be nothing to minimize)
+		if(onSet.isEmpty())
+		{
+			throw new InvalidInputException("Illegal PLA file whose output is never true.");
+		}
+
+		// Everything outside of the off-set is don't-care for types with an off-set
+		if(type.contains("r"))
+		{
+			CubeSet offFunction = new CubeSet(inputCount);
+			for(Cube cube : offSet)
+			{
+				offFunction.add(cube);
+			}
+			dontCareSet.addAll(offFunction.complement().getCubes());
+		}
+		dontCareSet.removeAll(onSet);
+
+		addSortedTerms(group, onSet);
+		termCount = group.getSize();
+		addSortedTerms(group, dontCareSet);
+		group.assignTermIDs();
+
+		return group;
+	}
+
+	/**
+	 * Adds the terms of cubes to a group, sorted according to bit strings.
+	 *
+	 * @param group
+	 * 			the group to add the terms to.
+	 * @param cubes
+	 * 			the cubes of the terms.
+	 */
+	private void addSortedTerms(Group group, Collection<Cube> cubes)
+	{
+		List<Cube> sortedCubes = new ArrayList<Cube>(cubes);
+
+		Collections.sort(sortedCubes, new Comparator<Cube>()
+		{
+			@Override
+			public int compare(Cube cube1, Cube cube2)
+			{
+				return cube1.compareBinaryNumber(cube2);
+			}
+		});
+
+		for(Cube cube : sortedCubes)
+		{
+			group.addTerm(new OriginalTerm(cube, symbolTable));
+		}
+	}
+
+	/**
+	 * Reads the whole PLA file and sorts the cubes of the minimized output into sets.
+	 *
+	 * @param onSet
+	 * 			the set to add the on-set cubes to.
+	 * @param dontCareSet
+	 * 			the set to add the don't-care cubes to.
+	 * @param offSet
+	 * 			the list to add the off-set cubes to.
+	 * @throws InvalidInputException
+	 * @throws IOException
+	 */
+	private void readCubes(Set<Cube> onSet, Set<Cube> dontCareSet, List<Cube> offSet)
+			throws InvalidInputException, IOException
+	{
+		// Local variables
+		StringBuilder word = new StringBuilder();
+		long[] value = null;
+		long[] mask = null;
+
+		advance();
+		while(curChar != END_OF_INPUT)
+		{
+			if(Character.isWhitespace(curChar))
+			{
+				advance();
+				continue;
+			}
+
+			if(curChar == '#')
+			{
+				skipLine();
+				continue;
+			}
+
+			if(curChar == '.')
+			{
+				// Read the keyword of the directive
+				advance();
+				readWord(word);
+				String keyword = word.toString();
+
+				if(keyword.equals("e") || keyword.equals("end"))
+				{
+					break;
+				}
+				else if(symbolTable != null && !keyword.equals("p"))
+				{
+					throw new InvalidInputException("Illegal PLA directive ." + keyword + " after the first cube on line "
+							+ lineNumber + ".");
+				}
+
+				switch(keyword)
+				{
+					case "i":
+						inputCount = readInteger();
+						break;
+					case "o":
+						outputCount = readInteger();
+						break;
+					case "p":
+						readInteger(); // Number of cubes (not needed)
+						break;
+					case "ilb":
+						inputNames = readNames(word);
+						break;
+					case "ob":
+						outputNames = readNames(word);
+						break;
+					case "type":
+						skipSpaces();
+						readWord(word);
+						type = word.toString();
+						if(!type.equals("f") && !type.equals("fd") && !type.equals("fr") && !type.equals("fdr"))
+						{
+							throw new InvalidInputException("Illegal PLA type " + type + " on line " + lineNumber +
+									".");
+						}
+						break;
+					default:
+						break; // Ignore directives which do not change the function (i.e. .phase, .pair)
+				}
+
+				skipLine();
+				continue;
+			}
+
+			// First cube fixes the variables
+			if(symbolTable == null)
+			{
+				formSymbolTable();
+				value = new long[Cube.getWordCount(inputCount)];
+				mask = new long[value.length];
+			}
+
+			char outputChar = readCube(value, mask);
+			switch(outputChar)
+			{
+				case '1':
+				case '4':
+					onSet.add(new Cube(value, mask, inputCount));
+					break;
+				case '-':
+				case '2':
+					if(type.contains("d"))
+					{
+						dontCareSet.add(new Cube(value, mask, inputCount));
+					}
+					break;
+				case '0':
+					if(type.contains("r"))
+					{
+						offSet.add(new Cube(value, mask, inputCount));
+					}
+					break;
+				default:
+					break; // Cube does not belong to the output (~)
+			}
+		}
+
+		// Check if the file has no cubes
+		if(symbolTable == null)
+		{
+			throw new InvalidInputException("Illegal PLA file with no cubes.");
+		}
+	}
+
+	/**
+	 * Reads one cube line, packing its inputs into words.
+	 *
+	 * @param value
+	 * 			the words to pack the bit values into.
+	 * @param mask
+	 * 			the words to pack the care mask into.
+	 * @return the output character of the minimized output.
+	 * @throws InvalidInputException
+	 * @throws IOException
+	 */
+	private char readCube(long[] value, long[] mask) throws InvalidInputException, IOException
+	{
+		// Local variables
+		char outputChar = '~';
+		int column = 0;
+
+		Arrays.fill(value, 0);
+		Arrays.fill(mask, 0);
+
+		while(curChar != END_OF_INPUT && curChar != '\n' && curChar != '\r')
+		{
+			// Skip separators between (or within) the input and output parts
+			if(curChar == ' ' || curChar == '\t' || curChar == '|')
+			{
+				advance();
+				continue;
+			}
+
+			if(column < inputCount)
+			{
+				int bitIndex = bitIndexes[column];
+				long bit = 1L << bitIndex;
+
+				if(curChar == '0' || curChar == '1')
+				{
+					mask[bitIndex >>> 6] |= bit;
+					if(curChar == '1')
+					{
+						value[bitIndex >>> 6] |= bit;
+					}
+				}
+				else if(curChar != '-' && curChar != '2')
+				{
+					throw new InvalidInputException("Illegal character in PLA cube on line " + lineNumber + ".");
+				}
+			}
+			else if(column < inputCount + outputCount)
+			{
+				if("01-24~".indexOf(curChar) == -1)
+				{
+					throw new InvalidInputException("Illegal character in PLA cube on line " + lineNumber + ".");
+				}
+				else if(column - inputCount == output)
+				{
+					outputChar = (char)curChar;
+				}
+			}
+			else
+			{
+				throw new InvalidInputException("Illegal PLA cube with too many columns on line " + lineNumber + ".");
+			}
+
+			column++;
+			advance();
+		}
+
+		// Check if cube misses inputs or outputs
+		if(column < inputCount + outputCount)
+		{
+			throw new InvalidInputException("Illegal PLA cube with too few columns on line " + lineNumber + ".");
+		}
+
+		return outputChar;
+	}
+
+	/**
+	 * Forms the symbol table from the input names (or default names) and the bit of every input column.
+	 *
+	 * @throws InvalidInputException
+	 */
+	private void formSymbolTable() throws InvalidInputException
+	{
+		// Check if the header is incomplete
+		if(inputCount < 1)
+		{
+			throw new InvalidInputException("Illegal PLA file with no .i directive before its first cube.");
+		}
+		else if(output < 0 || output >= outputCount)
+		{
+			throw new InvalidInputException("Illegal PLA output number " + output + " (the file has " + outputCount +
+					" outputs).");
+		}
+
+		bitIndexes = new int[inputCount];
+
+		if(inputNames == null)
+		{
+			symbolTable = new SymbolTable(inputCount);
+			for(int column = 0; column < inputCount; column++)
+			{
+				bitIndexes[column] = inputCount - 1 - column;
+			}
+			return;
+		}
+
+		// Check if the names do not match the inputs
+		boolean usesSingleLetters = true;
+		for(String name : inputNames)
+		{
+			usesSingleLetters &= name.length() == 1 && name.charAt(0) >= 'a' && name.charAt(0) <= 'z';
+		}
+		symbolTable = new SymbolTable(inputNames, usesSingleLetters);
+		if(inputNames.size() != inputCount || symbolTable.size() != inputCount)
+		{
+			throw new InvalidInputException("Illegal PLA input names (.ilb must name each of the " + inputCount +
+					" inputs once).");
+		}
+
+		for(int column = 0; column < inputCount; column++)
+		{
+			bitIndexes[column] = inputCount - 1 - symbolTable.indexOf(inputNames.get(column));
+		}
+	}
+
+	/**
+	 * Reads a decimal number argument of a directive.
+	 *
+	 * @return the number.
+	 * @throws InvalidInputException
+	 * @throws IOException
+	 */
+	private int readInteger() throws InvalidInputException, IOException
+	{
+		int number = 0;
+		int digitCount = 0;
+
+		skipSpaces();
+		while(curChar >= '0' && curChar <= '9' && digitCount < 9)
+		{
+			number = number * 10 + (curChar - '0');
+			digitCount++;
+			advance();
+		}
+
+		// Check if argument is missing or not a number
+		if(digitCount == 0 || (curChar != END_OF_INPUT && !Character.isWhitespace(curChar)))
+		{
+			throw new InvalidInputException("Illegal PLA directive argument on line " + lineNumber + ".");
+		}
+
+		return number;
+	}
+
+	/**
+	 * Reads the name arguments of a directive up to the end of the line.
+	 *
+	 * @param word
+	 * 			the builder to reuse for reading each name.
+	 * @return the names.
+	 * @throws IOException
+	 */
+	private List<String> readNames(StringBuilder word) throws IOException
+	{
+		List<String> names = new ArrayList<String>();
+
+		skipSpaces();
+		while(curChar != END_OF_INPUT && curChar != '\n' && curChar != '\r')
+		{
+			readWord(word);
+			names.add(word.toString());
+			skipSpaces();
+		}
+
+		return names;
+	}
+
+	/**
+	 * Reads the characters up to the next white space.
+	 *
+	 * @param word
+	 * 			the builder to read the characters into (cleared first).
+	 * @throws IOException
+	 */
+	private void readWord(StringBuilder word) throws IOException
+	{
+		word.setLength(0);
+		while(curChar != END_OF_INPUT && !Character.isWhitespace(curChar))
+		{
+			word.append((char)curChar);
+			advance();
+		}
+	}
+
+	/**
+	 * Skips spaces and tabs (but not the end of the line).
+	 *
+	 * @throws IOException
+	 */
+	private void skipSpaces() throws IOException
+	{
+		while(curChar == ' ' || curChar == '\t')
+		{
+			advance();
+		}
+	}
+
+	/**
+	 * Skips the rest of the current line.
+	 *
+	 * @throws IOException
+	 */
+	private void skipLine() throws IOException
+	{
+		while(curChar != END_OF_INPUT && curChar != '\n')
+		{
+			advance();
+		}
+	}
+
+	/**
+	 * Moves on to the next character.
+	 *
+	 * @throws IOException
+	 */
+	private void advance() throws IOException
+	{
+		if(curChar == '\n')
+		{
+			lineNumber++;
+		}
+
+		if(mappedBuffer != null)
+		{
+			curChar = mappedBuffer.hasRemaining() ? (mappedBuffer.get() & 0xFF) : END_OF_INPUT;
+			return;
+		}
+
+		if(bufferIndex == bufferLength)
+		{
+			bufferLength = reader.read(buffer);
+			bufferIndex = 0;
+			if(bufferLength <= 0)
+			{
+				bufferLength = 0;
+				curChar = END_OF_INPUT;
+				return;
+			}
+		}
+
+		curChar = buffer[bufferIndex++];
+	}
+}
@@ -0,0 +1,251 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for truth table input.
+ * Truth table input forms the data to use in the Quine McCluskey algorithm from a truth table stored as a raw bitmap
+ * file of 2^n bits (bit m is set if minterm m is true). Bit m is bit (m % 8) of byte (m / 8), so the table can be
+ * read 64 minterms at a time as little-endian words. The files are mapped into memory rather than read onto the
+ * heap, and the set bits are found a word at a time.
+ *
+ * A file may hold the tables of several outputs one after another (each taking 2^n bits rounded up to whole bytes).
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.input;
+
+import com.deruiter.model.exception.InvalidInputException;
+import com.deruiter.model.group.Group;
+import com.deruiter.model.group.term.OriginalTerm;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.literal.SymbolTable;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class TruthTableInput
+{
+	// Class variables
+	public static final int MAX_VARIABLE_COUNT = 36;
+	private static final int REGION_SHIFT = 30; // Files are mapped in regions of 1 GiB
+
+	// Instance variables
+	private Path onSetFile;
+	private Path dontCareFile;
+	private int variableCount;
+	private int output;
+	private int termCount;
+
+	/**
+	 * Constructor for truth table input.
+	 *
+	 * @param onSetFile
+	 * 			the bitmap file of the function.
+	 * @param dontCareFile
+	 * 			the bitmap file of the don't-care terms (may be null).
+	 * @param variableCount
+	 * 			the number of variables (at most 36).
+	 */
+	public TruthTableInput(Path onSetFile, Path dontCareFile, int variableCount)
+	{
+		this.onSetFile = onSetFile;
+		this.dontCareFile = dontCareFile;
+		this.variableCount = variableCount;
+	}
+
+	/**
+	 * Sets which output is minimized (the table of the output is read from both files).
+	 *
+	 * @param output
+	 * 			the index of the output (0 = first table of each file, the default).
+	 */
+	public void setOutput(int output)
+	{
+		this.output = output;
+	}
+
+	/**
+	 * Retrieves the number of minterms (not counting don't-care terms).
+	 * (Only set once the group has been created. Terms with an ID of at least this count are don't-care terms.)
+	 *
+	 * @return the number of minterms.
+	 */
+	public int getTermCount()
+	{
+		return termCount;
+	}
+
+	/**
+	 * Creates a group for the Quine McCluskey algorithm to minimize.
+	 * The minterms come first, followed by the don't-care terms (each in ascending order, the same order a parsed
+	 * Boolean expression is sorted in), so the don't-care terms get the highest ID's.
+	 *
+	 * @return a group for the Quine McCluskey algorithm to minimize.
+	 * @throws InvalidInputException
+	 * @throws IOException
+	 */
+	public Group createGroup() throws InvalidInputException, IOException
+	{
+		// Local variables
+		Group group = new Group();
+
+		// Check if number of variables is out of range
+		if(variableCount < 1 || variableCount > MAX_VARIABLE_COUNT)
+		{
+			throw new InvalidInputException("Illegal number of variables (must be 1 to " + MAX_VARIABLE_COUNT + ").");
+		}
+
+		long tableBytes = Math.max(1, (1L << variableCount) >>> 3);
+		long wordCount = (tableBytes + 7) >>> 3;
+		ByteBuffer[] onSetRegions = map(onSetFile, tableBytes);
+		ByteBuffer[] dontCareRegions = (dontCareFile == null) ? null : map(dontCareFile, tableBytes);
+
+		SymbolTable symbolTable = new SymbolTable(variableCount);
+		long mask = (1L << variableCount) - 1;
+
+		// Check if a minterm is also a don't-care term
+		if(dontCareRegions != null)
+		{
+			for(long i = 0; i < wordCount; i++)
+			{
+				long overlap = readWord(onSetRegions, i, tableBytes) & readWord(dontCareRegions, i, tableBytes);
+				if(overlap != 0)
+				{
+					throw new InvalidInputException("Illegal minterm found both in minterms and don't-cares: " +
+							((i << 6) + Long.numberOfTrailingZeros(overlap)));
+				}
+			}
+		}
+
+		addMinterms(group, onSetRegions, tableBytes, mask, symbolTable);
+		termCount = group.getSize();
+
+		// Check if there are no minterms
+		if(termCount == 0)
+		{
+			throw new InvalidInputException("Illegal empty list of minterms.");
+		}
+
+		if(dontCareRegions != null)
+		{
+			addMinterms(group, dontCareRegions, tableBytes, mask, symbolTable);
+		}
+		group.assignTermIDs();
+
+		return group;
+	}
+
+	/**
+	 * Adds a term for every set bit of a table to a group (in ascending order).
+	 *
+	 * @param group
+	 * 			the group to add the terms to.
+	 * @param regions
+	 * 			the mapped regions of the table.
+	 * @param tableBytes
+	 * 			the size of the table in bytes.
+	 * @param mask
+	 * 			the care mask of a minterm.
+	 * @param symbolTable
+	 * 			the symbol table of the terms.
+	 */
+	private void addMinterms(Group group, ByteBuffer[] regions, long tableBytes, long mask, SymbolTable symbolTable)
+	{
+		long wordCount = (tableBytes + 7) >>> 3;
+
+		for(long i = 0; i < wordCount; i++)
+		{
+			for(long remaining = readWord(regions, i, tableBytes); remaining != 0; remaining &= remaining - 1)
+			{
+				long minterm = (i << 6) + Long.numberOfTrailingZeros(remaining);
+				group.addTerm(new OriginalTerm(new Cube(minterm, mask, variableCount), symbolTable));
+			}
+		}
+	}
+
+	/**
+	 * Reads a word of 64 minterms from a table (bits past the end of the table are 0).
+	 *
+	 * @param regions
+	 * 			the mapped regions of the table.
+	 * @param index
+	 * 			the index of the word.
+	 * @param tableBytes
+	 * 			the size of the table in bytes.
+	 * @return the word.
+	 */
+	private long readWord(ByteBuffer[] regions, long index, long tableBytes)
+	{
+		long offset = index << 3;
+		ByteBuffer region = regions[(int)(offset >>> REGION_SHIFT)];
+		int regionOffset = (int)(offset & ((1L << REGION_SHIFT) - 1));
+
+		// Check if word is whole (tables of fewer than 6 variables are smaller than a word)
+		if(tableBytes - offset >= 8)
+		{
+			return region.getLong(regionOffset);
+		}
+
+		long word = 0;
+		for(int i = 0; i < tableBytes - offset; i++)
+		{
+			word |= (region.get(regionOffset + i) & 0xFFL) << (i << 3);
+		}
+		if(variableCount < 6)
+		{
+			word &= (1L << (1 << variableCount)) - 1;
+		}
+		return word;
+	}
+
+	/**
+	 * Maps the table of the minimized output into memory (in regions of 1 GiB).
+	 *
+	 * @param file
+	 * 			the bitmap file.
+	 * @param tableBytes
+	 * 			the size of a table in bytes.
+	 * @return the mapped regions of the table (little-endian).
+	 * @throws InvalidInputException
+	 * @throws IOException
+	 */
+	private ByteBuffer[] map(Path file, long tableBytes) throws InvalidInputException, IOException
+	{
+		try(FileChannel channel = FileChannel.open(file, StandardOpenOption.READ))
+		{
+			long start = output * tableBytes;
+
+			// Check if file does not hold the whole table
+			if(output < 0 || channel.size() < start + tableBytes)
+			{
+				throw new InvalidInputException("Illegal truth table file " + file.getFileName() + " (too small for " +
+						"output " + output + " of " + variableCount + " variables).");
+			}
+
+			ByteBuffer[] regions = new ByteBuffer[(int)(((tableBytes - 1) >>> REGION_SHIFT) + 1)];
+			for(int i = 0; i < regions.length; i++)
+			{
+				long regionStart = (long)i << REGION_SHIFT;
+				long regionSize = Math.min(1L << REGION_SHIFT, tableBytes - regionStart);
+				regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, start + regionStart, regionSize)
+						.order(ByteOrder.LITTLE_ENDIAN);
+			}
+			return regions;
+		}
+	}
+}
@@ -0,0 +1,99 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Model class for a PLA writer.
+ * A PLA writer writes a minimized cover in Berkeley (Espresso) PLA format, one cube per line, so other tools can read
+ * the result of a minimization. Each line is written from the bits of the cube without forming a string for it.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.model.output;
+
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.literal.SymbolTable;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.List;
+
+public class PlaWriter
+{
+	// Instance variable
+	private Writer writer;
+
+	/**
+	 * Constructor for a PLA writer.
+	 *
+	 * @param writer
+	 * 			the writer to write the PLA file to (buffered unless it already is, not closed by the PLA writer).
+	 */
+	public PlaWriter(Writer writer)
+	{
+		this.writer = (writer instanceof BufferedWriter) ? writer : new BufferedWriter(writer);
+	}
+
+	/**
+	 * Writes a cover as a single-output PLA file (the header, one line for each term and the end marker).
+	 *
+	 * @param cover
+	 * 			the terms of the cover (i.e. the terms of a minimal solution).
+	 * @param symbolTable
+	 * 			the symbol table naming the inputs (in the order of the columns).
+	 * @param outputName
+	 * 			the name of the output (null to leave the output unnamed).
+	 * @throws IOException
+	 */
+	public void write(List<Term> cover, SymbolTable symbolTable, String outputName) throws IOException
+	{
+		// Local variables
+		int width = symbolTable.size();
+		char[] line = new char[width + 3];
+
+		// Write header
+		writer.write(".i " + width + "\n");
+		writer.write(".o 1\n");
+		writer.write(".ilb");
+		for(int position = 0; position < width; position++)
+		{
+			writer.write(' ');
+			writer.write(symbolTable.getName(position));
+		}
+		writer.write('\n');
+		if(outputName != null)
+		{
+			writer.write(".ob " + outputName + "\n");
+		}
+		writer.write(".p " + cover.size() + "\n");
+
+		// Write one line for each cube
+		line[width] = ' ';
+		line[width + 1] = '1';
+		line[width + 2] = '\n';
+		for(Term term : cover)
+		{
+			Cube cube = term.getCube();
+			for(int position = 0; position < width; position++)
+			{
+				line[position] = cube.isEliminated(position) ? '-' : (cube.isSet(position) ? '1' : '0');
+			}
+			writer.write(line);
+		}
+
+		writer.write(".e\n");
+		writer.flush();
+	}
+}
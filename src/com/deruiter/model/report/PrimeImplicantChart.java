@@ -21,7 +21,10 @@
 
 package com.deruiter.model.report;
 
+import com.deruiter.model.exception.MinimizationCancelledException;
 import com.deruiter.model.group.term.Term;
+import com.deruiter.utilities.Bits;
+import com.deruiter.utilities.CancellationToken;
 import com.deruiter.utilities.Constants;
 
 import java.util.ArrayList;
@@ -33,6 +36,8 @@ public class PrimeImplicantChart
 	private List<Integer> ids;
 	private List<Term> primes;
 	private List<Term> essentialPrimes;
+	private long[][] rows;
+	private long[][] columns;
 	private char[][] primeGrid;
 
     // Class Variables
@@ -42,19 +47,37 @@ public class PrimeImplicantChart
 	 * Constructor for a prime implicant chart.
 	 *
 	 * @param originalTerms
-	 * 			the original terms parsed from the original Boolean expression.
+	 * 			the original terms parsed from the original Boolean expression (not including don't-care terms).
 	 * @param primes
 	 * 			the primes found by the Quine McCluskey algorithm.
      *
 	 */
 	public PrimeImplicantChart(List<Term> originalTerms, List<Term> primes)
+	{
+		this(originalTerms, primes, CancellationToken.NONE);
+	}
+
+	/**
+	 * Constructor for a prime implicant chart which checks for cancellation while its grid is created.
+	 *
+	 * @param originalTerms
+	 * 			the original terms parsed from the original Boolean expression (not including don't-care terms).
+	 * @param primes
+	 * 			the primes found by the Quine McCluskey algorithm.
+	 * @param token
+	 * 			the cancellation token of the run.
+	 * @throws MinimizationCancelledException
+	 * 			if the token is cancelled before the grid is created.
+	 */
+	public PrimeImplicantChart(List<Term> originalTerms, List<Term> primes, CancellationToken token)
 	{
 		this.ids = new ArrayList<Integer>();
 		this.primes = primes;
 		this.essentialPrimes = new ArrayList<Term>(0);
 
-		primeGrid = new char[primes.size()][originalTerms.size()];
-		createGrid();
+		rows = new long[primes.size()][];
+		columns = new long[originalTerms.size()][];
+		createGrid(token);
 
         // Set initial id's
 		for(int i = 0; i < originalTerms.size(); i++)
@@ -70,69 +93,93 @@ public class PrimeImplicantChart
 	 * 			- the optional primes found by the Quine McCluskey algorithm.
 	 * @param essentialPrimes
 	 * 			- the essential primes found by the Quine McCluskey algorithm.
-	 * @param primeGrid
-	 * 			- the prime grid formed by the Quine McCluskey algorithm.
+	 * @param rows
+	 * 			- the columns covered by each optional prime (one bitset per row).
 	 * @param ids
 	 * 			- a set of all unique ID's for the terms which will be included in this
 	 * 			  prime implicant chart.
 	 */
-	public PrimeImplicantChart(List<Term> optionalPrimes, List<Term> essentialPrimes, char[][] primeGrid,
+	public PrimeImplicantChart(List<Term> optionalPrimes, List<Term> essentialPrimes, long[][] rows,
 			List<Integer> ids)
 	{
 		this.primes = optionalPrimes;
 		this.essentialPrimes = essentialPrimes;
-		this.primeGrid = primeGrid;
+		this.rows = rows;
 		this.ids = ids;
+
+		columns = new long[ids.size()][];
+		for(int col = 0; col < columns.length; col++)
+		{
+			columns[col] = Bits.create(rows.length);
+		}
+
+		// Transpose rows into columns
+		for(int row = 0; row < rows.length; row++)
+		{
+			for(int col = Bits.nextSetBit(rows[row], 0); col != -1; col = Bits.nextSetBit(rows[row], col + 1))
+			{
+				Bits.set(columns[col], row);
+			}
+		}
 	}
 
 	/**
-	 * Creates a prime implicant chart grid.
-	 * Grid is a 2D array and contains an special symbol in a cell if the term corresponding
-	 * to the current row covers the current column (which represents an original term)
+	 * Creates a prime implicant chart grid, checking for cancellation before each row is filled (only called once,
+	 * by the constructor, since the essential primes are appended as they are found).
+	 * Each row is a bitset of the columns (original terms) covered by the corresponding prime and each column is a
+	 * bitset of the rows (primes) covering it. Both are filled in a single pass over every prime's covered ID's.
+	 * A column covered by exactly one row identifies an essential prime.
+	 *
+	 * @param token
+	 * 			the cancellation token of the run.
+	 * @throws MinimizationCancelledException
+	 * 			if the token is cancelled before the grid is created.
 	 */
-	public void createGrid()
+	private void createGrid(CancellationToken token)
 	{
         // Local Variables
-		Term curPrime = null; // Initialize (just need to initialize to something)
-		int numTermsCoveringColumn = 0;
-		List<String> column = new ArrayList<String>(0);
+		boolean[] isEssential = new boolean[primes.size()];
 
-		// Iterate through columns
-		for(int col = 0; col < primeGrid[0].length; col++)
+		for(int col = 0; col < columns.length; col++)
 		{
-			// Iterate through rows
-			for(int row = 0; row < primeGrid.length; row++)
-			{
-				curPrime = primes.get(row);
-				if(curPrime.containsId(col))
-				{
-					primeGrid[row][col] = gridPosFilledSymbol;
+			columns[col] = Bits.create(primes.size());
+		}
 
-					// Found term covering current column so increment counter
-					numTermsCoveringColumn++;
-				}
-				else
+		// Iterate through rows
+		for(int row = 0; row < primes.size(); row++)
+		{
+			token.throwIfCancelled();
+			rows[row] = Bits.create(columns.length);
+
+			for(int id : primes.get(row).getCoveredIds())
+			{
+				// Don't-care terms (ID's past the original terms) are not columns
+				if(id >= columns.length)
 				{
-					primeGrid[row][col] = ' ';
+					continue;
 				}
-				column.add(String.valueOf(primeGrid[row][col]));
+
+				Bits.set(rows[row], id);
+				Bits.set(columns[id], row);
 			}
+		}
 
+		// Iterate through columns
+		for(int col = 0; col < columns.length; col++)
+		{
 			// Check if essential prime found
-			if(numTermsCoveringColumn == 1)
+			if(Bits.cardinality(columns[col]) == 1)
 			{
 				// Extract essential prime from current column
-				Term essentialPrime = primes.get(column.indexOf(Constants.EMPTY_STRING + gridPosFilledSymbol));
+				int row = Bits.nextSetBit(columns[col], 0);
 
 				// Verify essential prime not already stored
-				if(!essentialPrimes.contains(essentialPrime))
+				if(!isEssential[row])
 				{
-					essentialPrimes.add(essentialPrime);
+					isEssential[row] = true;
+					essentialPrimes.add(primes.get(row));
 				}
 			}
-
-			numTermsCoveringColumn = 0; // Reset for next column
-			column.clear();
 		}
 	}
 
@@ -166,13 +213,84 @@ public class PrimeImplicantChart
 		return essentialPrimes;
 	}
 
+	/**
+	 * Retrieves the number of rows (primes) in the chart.
+	 *
+	 * @return the number of rows in the chart.
+	 */
+	public int getRowCount()
+	{
+		return rows.length;
+	}
+
+	/**
+	 * Retrieves the number of columns (original terms) in the chart.
+	 *
+	 * @return the number of columns in the chart.
+	 */
+	public int getColumnCount()
+	{
+		return columns.length;
+	}
+
+	/**
+	 * Retrieves the columns covered by a row.
+	 *
+	 * @param row
+	 * 			the row (prime) index.
+	 * @return a bitset of the columns covered by the row (must not be modified).
+	 */
+	public long[] getRow(int row)
+	{
+		return rows[row];
+	}
+
+	/**
+	 * Retrieves the rows covering a column.
+	 *
+	 * @param col
+	 * 			the column (original term) index.
+	 * @return a bitset of the rows covering the column (must not be modified).
+	 */
+	public long[] getColumn(int col)
+	{
+		return columns[col];
+	}
+
+	/**
+	 * Determines whether a row covers a column.
+	 *
+	 * @param row
+	 * 			the row (prime) index.
+	 * @param col
+	 * 			the column (original term) index.
+	 * @return whether the row covers the column.
+	 */
+	public boolean covers(int row, int col)
+	{
+		return Bits.get(rows[row], col);
+	}
+
 	/**
 	 * Retrieves the prime grid.
+	 * (Only built when first requested, i.e. for display.)
 	 *
 	 * @return the prime grid.
 	 */
 	public char[][] getPrimeGrid()
 	{
+		if(primeGrid == null)
+		{
+			char[][] grid = new char[rows.length][columns.length];
+			for(int row = 0; row < rows.length; row++)
+			{
+				for(int col = 0; col < columns.length; col++)
+				{
+					grid[row][col] = covers(row, col) ? gridPosFilledSymbol : ' ';
+				}
+			}
+			primeGrid = grid;
+		}
 		return primeGrid;
 	}
 
@@ -202,6 +320,7 @@ public class PrimeImplicantChart
 		chart += "\n";
 
 		// Iterate through rows
+		char[][] primeGrid = getPrimeGrid();
 		for(int row = 0; row < primeGrid.length; row++)
 		{
 			chart += String.format("%-10s", primes.get(row).getRegularForm());
@@ -209,7 +328,7 @@ public class PrimeImplicantChart
 			chart += String.format("%5s", Constants.EMPTY_STRING);
 
 			// Iterate through columns
-			for(int col = 0; col < primeGrid[0].length; col++)
+			for(int col = 0; col < primeGrid[row].length; col++)
 			{
 				chart += String.format("%" + maxIdFieldSize + "s ", primeGrid[row][col]);
 			}
@@ -0,0 +1,156 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Test class for the branch-and-bound cover modes.
+ * On small random functions, the all minimum covers mode must list exactly the minimum covers found by multiplying
+ * out the whole unreduced chart, and the first minimum cover mode one of them.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.test;
+
+import com.deruiter.model.algorithm.CostModel;
+import com.deruiter.model.algorithm.CoverMode;
+import com.deruiter.model.algorithm.MinimizationResult;
+import com.deruiter.model.algorithm.MinimizerSession;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class BranchAndBoundCoverTest
+{
+	// Number of random functions checked
+	private static final int FUNCTION_COUNT = 300;
+
+	/**
+	 * Runs the test (throws an AssertionError on failure).
+	 *
+	 * @param args
+	 * 			not used.
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		// Local variables
+		Random random = new Random(8);
+		CostModel[] costModels = {CostModel.TERMS_THEN_LITERALS, CostModel.TERM_COUNT, CostModel.LITERAL_COUNT,
+				CostModel.GATE_INPUTS};
+
+		for(int i = 0; i < FUNCTION_COUNT; i++)
+		{
+			int variableCount = 3 + random.nextInt(2);
+			List<Long> minterms = new ArrayList<Long>();
+			List<Long> dontCares = new ArrayList<Long>();
+
+			// Roughly half of the minterms on and a few don't-cares
+			for(long minterm = 0; minterm < (1L << variableCount); minterm++)
+			{
+				int draw = random.nextInt(10);
+				if(draw < 5)
+				{
+					minterms.add(minterm);
+				}
+				else if(draw < 6)
+				{
+					dontCares.add(minterm);
+				}
+			}
+			if(minterms.isEmpty())
+			{
+				continue;
+			}
+
+			checkCovers(toArray(minterms), toArray(dontCares), variableCount, costModels[i % costModels.length]);
+		}
+
+		System.out.println("BranchAndBoundCoverTest passed");
+	}
+
+	/**
+	 * Checks the covers of a function against the minimum covers of its unreduced chart.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers of the function.
+	 * @param dontCares
+	 * 			the don't-care minterm numbers of the function.
+	 * @param variableCount
+	 * 			the number of variables.
+	 * @param costModel
+	 * 			the cost model to minimize with.
+	 * @throws Exception
+	 */
+	private static void checkCovers(long[] minterms, long[] dontCares, int variableCount, CostModel costModel)
+			throws Exception
+	{
+		// Local variables
+		MinimizerSession session = new MinimizerSession();
+
+		session.setCostModel(costModel);
+		session.setCoverMode(CoverMode.ALL_MINIMUM_COVERS);
+		MinimizationResult allResult = session.minimize(minterms, dontCares, variableCount);
+		session.setCoverMode(CoverMode.FIRST_MINIMUM_COVER);
+		MinimizationResult firstResult = session.minimize(minterms, dontCares, variableCount);
+
+		Set<BitSet> expected = PetrickExpansion.findMinimumCovers(allResult.getPrimeImplicantChart(), costModel);
+		Set<BitSet> allCovers = PetrickExpansion.getSolutionCovers(allResult);
+		Set<BitSet> firstCovers = PetrickExpansion.getSolutionCovers(firstResult);
+
+		check(allCovers.equals(expected), "ALL_MINIMUM_COVERS listed " + allCovers + " instead of " + expected
+				+ " for minterms " + Arrays.toString(minterms));
+		check(allResult.getSolutionCount() == expected.size(), "ALL_MINIMUM_COVERS listed duplicate solutions");
+		check(firstCovers.size() == 1 && expected.containsAll(firstCovers), "FIRST_MINIMUM_COVER cover "
+				+ firstCovers + " is not one of " + expected);
+	}
+
+	/**
+	 * Converts a list of minterm numbers to an array.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers.
+	 * @return the minterm numbers in an array.
+	 */
+	private static long[] toArray(List<Long> minterms)
+	{
+		// Local variable
+		long[] array = new long[minterms.size()];
+
+		for(int i = 0; i < array.length; i++)
+		{
+			array[i] = minterms.get(i);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Fails the test if a condition does not hold.
+	 *
+	 * @param condition
+	 * 			the condition to check.
+	 * @param message
+	 * 			the reason the test fails.
+	 */
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
@@ -0,0 +1,107 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Test class for the reduction of the prime implicant chart to its cyclic core.
+ * The reduction decides which minimum covers can be listed at all, so the modes finding every minimum cover must list
+ * exactly the minimum covers of the unreduced chart, and the other modes one of them.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.test;
+
+import com.deruiter.model.algorithm.CostModel;
+import com.deruiter.model.algorithm.CoverMode;
+import com.deruiter.model.algorithm.MinimizationResult;
+import com.deruiter.model.algorithm.MinimizerSession;
+
+import java.util.BitSet;
+import java.util.Set;
+
+public class ChartReducerTest
+{
+	// Has 8 minimum covers, several differing only by rows dominated by rows of the same cost
+	private static final String EQUAL_COST_EXPRESSION = "abcd' + a'bc'd' + ab'c'd + a'b'c'd + abc'd' + ab'c'd' "
+			+ "+ a'bcd' + a'b'cd' + a'bc'd + ab'cd + a'b'cd";
+
+	/**
+	 * Runs the test (throws an AssertionError on failure).
+	 *
+	 * @param args
+	 * 			not used.
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		for(CostModel costModel : new CostModel[] {CostModel.TERMS_THEN_LITERALS, CostModel.TERM_COUNT})
+		{
+			for(CoverMode coverMode : CoverMode.values())
+			{
+				checkCovers(coverMode, costModel);
+			}
+		}
+
+		System.out.println("ChartReducerTest passed");
+	}
+
+	/**
+	 * Checks the covers of the expression in a cover mode against the minimum covers of the unreduced chart.
+	 *
+	 * @param coverMode
+	 * 			the cover mode to minimize with.
+	 * @param costModel
+	 * 			the cost model to minimize with.
+	 * @throws Exception
+	 */
+	private static void checkCovers(CoverMode coverMode, CostModel costModel) throws Exception
+	{
+		// Local variables
+		MinimizerSession session = new MinimizerSession();
+
+		session.setCoverMode(coverMode);
+		session.setCostModel(costModel);
+		MinimizationResult result = session.minimize(EQUAL_COST_EXPRESSION);
+
+		Set<BitSet> expected = PetrickExpansion.findMinimumCovers(result.getPrimeImplicantChart(), costModel);
+		Set<BitSet> actual = PetrickExpansion.getSolutionCovers(result);
+
+		check(expected.size() == 8, "unreduced chart has " + expected.size() + " minimum covers, not 8");
+		if(coverMode.findsAllMinimumCovers())
+		{
+			check(actual.equals(expected), coverMode + " listed " + actual + " instead of " + expected);
+			check(result.getSolutionCount() == 8, coverMode + " listed " + result.getSolutionCount() + " solutions");
+		}
+		else if(result.isProvenMinimal())
+		{
+			check(actual.size() == 1 && expected.containsAll(actual), coverMode + " cover " + actual
+					+ " is not a minimum cover");
+		}
+	}
+
+	/**
+	 * Fails the test if a condition does not hold.
+	 *
+	 * @param condition
+	 * 			the condition to check.
+	 * @param message
+	 * 			the reason the test fails.
+	 */
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
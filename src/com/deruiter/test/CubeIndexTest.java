@@ -0,0 +1,292 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Test class for the cube index used to combine the terms of a group.
+ * Groups of at most 64 variables are combined through the packed index and must find the same partners as comparing
+ * every pair of terms. The same groups padded past 64 variables (with positions fixed to 1, which are never raised)
+ * go through the cube keyed index and must find the same partners too. The two indexes are then timed on the
+ * minterms of a dense 16 variable function.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.test;
+
+import com.deruiter.model.group.Group;
+import com.deruiter.model.group.term.OriginalTerm;
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.literal.SymbolTable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class CubeIndexTest
+{
+	// Number of random groups checked per width
+	private static final int GROUP_COUNT = 200;
+
+	// Number of timed runs of each index (the fastest run is reported)
+	private static final int TIMED_RUNS = 5;
+
+	/**
+	 * Runs the test (throws an AssertionError on failure) and prints the timings of both indexes.
+	 *
+	 * @param args
+	 * 			not used.
+	 */
+	public static void main(String[] args)
+	{
+		// Local variable
+		Random random = new Random(19);
+
+		for(int width : new int[] {1, 2, 4, 6, 8, 10, 33, 63, 64})
+		{
+			for(int i = 0; i < GROUP_COUNT; i++)
+			{
+				checkPartners(createCubes(random, width), width);
+			}
+		}
+
+		System.out.println("CubeIndexTest passed");
+
+		timeIndexes(random, 16);
+	}
+
+	/**
+	 * Creates the cubes of a random group.
+	 * The cubes only vary at a few positions (the rest are the same for every cube) so that they combine at any width.
+	 *
+	 * @param random
+	 * 			the random number generator.
+	 * @param width
+	 * 			the number of variables.
+	 * @return the cubes as {value, mask} word pairs.
+	 */
+	private static List<long[]> createCubes(Random random, int width)
+	{
+		// Local variables
+		long widthMask = -1L >>> (Long.SIZE - width);
+		long sharedValue = random.nextLong() & widthMask;
+		long sharedMask = random.nextLong() & widthMask;
+		long varyingBits = 0;
+		List<long[]> cubes = new ArrayList<long[]>();
+
+		for(int i = 0; i < Math.min(width, 7); i++)
+		{
+			varyingBits |= 1L << random.nextInt(width);
+		}
+
+		int cubeCount = 1 + random.nextInt(40);
+		for(int i = 0; i < cubeCount; i++)
+		{
+			long mask = (sharedMask & ~varyingBits) | (varyingBits & ~(random.nextLong() & random.nextLong()));
+			long value = ((sharedValue & ~varyingBits) | (random.nextLong() & varyingBits)) & mask;
+			cubes.add(new long[] {value, mask});
+		}
+
+		return cubes;
+	}
+
+	/**
+	 * Checks the combined terms and primes of a group against comparing every pair of terms, through both indexes.
+	 *
+	 * @param cubes
+	 * 			the cubes of the group as {value, mask} word pairs.
+	 * @param width
+	 * 			the number of variables (at most 64).
+	 */
+	private static void checkPartners(List<long[]> cubes, int width)
+	{
+		// Local variables
+		Set<String> expectedCombined = new HashSet<String>();
+		Set<Integer> expectedUnused = new HashSet<Integer>();
+		Group packedGroup = createGroup(cubes, width, false);
+		Group paddedGroup = createGroup(cubes, width, true);
+
+		// Compare every pair of terms (how groups were combined before they were indexed)
+		for(int i = 0; i < cubes.size(); i++)
+		{
+			boolean isUsed = false;
+			for(int j = 0; j < cubes.size(); j++)
+			{
+				Cube cube1 = packedGroup.getTerm(i).getCube();
+				Cube cube2 = packedGroup.getTerm(j).getCube();
+				if(cube1.isCombinable(cube2) || cube2.isCombinable(cube1))
+				{
+					isUsed = true;
+					if(cube1.isCombinable(cube2))
+					{
+						expectedCombined.add(toKey(cube1.combine(cube2), width));
+					}
+				}
+			}
+			if(!isUsed)
+			{
+				expectedUnused.add(i);
+			}
+		}
+
+		for(Group group : new Group[] {packedGroup, paddedGroup})
+		{
+			Set<String> combined = new HashSet<String>();
+			Set<Integer> unused = new HashSet<Integer>();
+
+			for(Term term : Group.minimize(group).getTerms())
+			{
+				combined.add(toKey(term.getCube(), width));
+			}
+			for(int i = 0; i < group.getSize(); i++)
+			{
+				if(!group.getTerm(i).wasUsed())
+				{
+					unused.add(i);
+				}
+			}
+
+			String path = (group == packedGroup) ? "packed" : "cube keyed";
+			check(combined.equals(expectedCombined), path + " index combined " + combined + " instead of "
+					+ expectedCombined + " at width " + width);
+			check(unused.equals(expectedUnused), path + " index left " + unused + " unused instead of "
+					+ expectedUnused + " at width " + width);
+		}
+	}
+
+	/**
+	 * Times the packed and cube keyed indexes on the first combining step of a dense function.
+	 *
+	 * @param random
+	 * 			the random number generator.
+	 * @param width
+	 * 			the number of variables of the function.
+	 */
+	private static void timeIndexes(Random random, int width)
+	{
+		// Local variables
+		List<long[]> cubes = new ArrayList<long[]>();
+		long widthMask = -1L >>> (Long.SIZE - width);
+
+		for(long minterm = 0; minterm < (1L << width); minterm++)
+		{
+			if(random.nextBoolean())
+			{
+				cubes.add(new long[] {minterm, widthMask});
+			}
+		}
+
+		long packedNanos = timeMinimize(cubes, width, false);
+		long paddedNanos = timeMinimize(cubes, width, true);
+
+		System.out.printf("Combining %d minterms of %d variables: packed index %.1f ms, cube keyed index %.1f ms%n",
+				cubes.size(), width, packedNanos / 1e6, paddedNanos / 1e6);
+	}
+
+	/**
+	 * Times the first combining step of a group.
+	 *
+	 * @param cubes
+	 * 			the cubes of the group as {value, mask} word pairs.
+	 * @param width
+	 * 			the number of variables (at most 64).
+	 * @param isPadded
+	 * 			whether the cubes are padded past 64 variables (so the cube keyed index is used).
+	 * @return the fastest time taken (in nanoseconds).
+	 */
+	private static long timeMinimize(List<long[]> cubes, int width, boolean isPadded)
+	{
+		// Local variable
+		long fastestNanos = Long.MAX_VALUE;
+
+		for(int run = 0; run < TIMED_RUNS; run++)
+		{
+			Group group = createGroup(cubes, width, isPadded);
+			long start = System.nanoTime();
+			Group.minimize(group);
+			fastestNanos = Math.min(fastestNanos, System.nanoTime() - start);
+		}
+
+		return fastestNanos;
+	}
+
+	/**
+	 * Creates a group of terms from cubes.
+	 *
+	 * @param cubes
+	 * 			the cubes as {value, mask} word pairs.
+	 * @param width
+	 * 			the number of variables (at most 64).
+	 * @param isPadded
+	 * 			whether to add 64 variables fixed to 1 at the left of every cube.
+	 * @return the group (with ID's assigned).
+	 */
+	private static Group createGroup(List<long[]> cubes, int width, boolean isPadded)
+	{
+		// Local variables
+		Group group = new Group();
+		int groupWidth = isPadded ? width + Long.SIZE : width;
+		SymbolTable symbolTable = new SymbolTable(groupWidth);
+
+		// Padding is bits width to width + 63 (both words when the width is under 64)
+		long lowPadding = (width == Long.SIZE) ? 0 : -1L << width;
+		long highPadding = -1L >>> (Long.SIZE - width);
+
+		for(long[] cube : cubes)
+		{
+			Cube termCube = isPadded
+					? new Cube(new long[] {cube[0] | lowPadding, highPadding},
+							   new long[] {cube[1] | lowPadding, highPadding}, groupWidth)
+					: new Cube(cube[0], cube[1], width);
+			group.addTerm(new OriginalTerm(termCube, symbolTable));
+		}
+		group.assignTermIDs();
+
+		return group;
+	}
+
+	/**
+	 * Forms a key of the low variables of a cube (dropping any padding).
+	 *
+	 * @param cube
+	 * 			the cube.
+	 * @param width
+	 * 			the number of variables before padding.
+	 * @return the key.
+	 */
+	private static String toKey(Cube cube, int width)
+	{
+		// Local variable
+		long widthMask = -1L >>> (Long.SIZE - width);
+
+		return (cube.getValueWord(0) & widthMask) + "/" + (cube.getMaskWord(0) & widthMask);
+	}
+
+	/**
+	 * Fails the test if a condition does not hold.
+	 *
+	 * @param condition
+	 * 			the condition to check.
+	 * @param message
+	 * 			the reason the test fails.
+	 */
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
@@ -0,0 +1,178 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Test class for the dense prime generator.
+ * On random functions of sparse, half and dense minterms (from tables within one word up to tables of several words),
+ * the dense bitmap prime mode must find the same primes (each once) as combining the terms step by step.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.test;
+
+import com.deruiter.model.algorithm.CoverMode;
+import com.deruiter.model.algorithm.MinimizationResult;
+import com.deruiter.model.algorithm.MinimizerSession;
+import com.deruiter.model.algorithm.PrimeMode;
+import com.deruiter.model.group.term.Term;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class DensePrimeGeneratorTest
+{
+	// Number of random functions checked per number of variables and density
+	private static final int FUNCTION_COUNT = 10;
+
+	// Chances (out of 10) of a minterm being on
+	private static final int[] DENSITIES = {1, 5, 9};
+
+	/**
+	 * Runs the test (throws an AssertionError on failure).
+	 *
+	 * @param args
+	 * 			not used.
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		// Local variable
+		Random random = new Random(18);
+
+		for(int variableCount = 1; variableCount <= 10; variableCount++)
+		{
+			for(int density : DENSITIES)
+			{
+				for(int i = 0; i < FUNCTION_COUNT; i++)
+				{
+					List<Long> minterms = new ArrayList<Long>();
+					List<Long> dontCares = new ArrayList<Long>();
+
+					// Some minterms on (depending on the density) and a few don't-cares
+					for(long minterm = 0; minterm < (1L << variableCount); minterm++)
+					{
+						int draw = random.nextInt(10);
+						if(draw < density)
+						{
+							minterms.add(minterm);
+						}
+						else if(draw == density)
+						{
+							dontCares.add(minterm);
+						}
+					}
+					if(minterms.isEmpty())
+					{
+						continue;
+					}
+
+					checkPrimes(toArray(minterms), toArray(dontCares), variableCount);
+				}
+			}
+		}
+
+		System.out.println("DensePrimeGeneratorTest passed");
+	}
+
+	/**
+	 * Checks the primes found by the dense prime generator against the primes found by combining step by step.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers of the function.
+	 * @param dontCares
+	 * 			the don't-care minterm numbers of the function.
+	 * @param variableCount
+	 * 			the number of variables.
+	 * @throws Exception
+	 */
+	private static void checkPrimes(long[] minterms, long[] dontCares, int variableCount) throws Exception
+	{
+		// Local variables
+		MinimizerSession session = new MinimizerSession();
+
+		// Only the primes are tested (the primes of a level may be in a different order, so the covers may differ)
+		session.setCoverMode(CoverMode.GREEDY);
+
+		session.setPrimeMode(PrimeMode.TABULATION);
+		MinimizationResult tabulationResult = session.minimize(minterms, dontCares, variableCount);
+		session.setPrimeMode(PrimeMode.DENSE_BITMAP);
+		MinimizationResult denseResult = session.minimize(minterms, dontCares, variableCount);
+
+		Set<String> expected = getPrimes(tabulationResult);
+		Set<String> actual = getPrimes(denseResult);
+
+		check(actual.equals(expected), "dense bitmap found primes " + actual + " instead of " + expected + " for "
+				+ variableCount + " variables");
+		check(denseResult.getPrimes().size() == actual.size(), "dense bitmap found a prime more than once");
+	}
+
+	/**
+	 * Retrieves the primes of a result in bit form.
+	 *
+	 * @param result
+	 * 			the result of a minimization.
+	 * @return the bit forms of the primes.
+	 */
+	private static Set<String> getPrimes(MinimizationResult result)
+	{
+		// Local variable
+		Set<String> primes = new HashSet<String>();
+
+		for(Term prime : result.getPrimes())
+		{
+			primes.add(prime.getCube().toBitString());
+		}
+
+		return primes;
+	}
+
+	/**
+	 * Converts a list of minterm numbers to an array.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers.
+	 * @return the minterm numbers in an array.
+	 */
+	private static long[] toArray(List<Long> minterms)
+	{
+		// Local variable
+		long[] array = new long[minterms.size()];
+
+		for(int i = 0; i < array.length; i++)
+		{
+			array[i] = minterms.get(i);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Fails the test if a condition does not hold.
+	 *
+	 * @param condition
+	 * 			the condition to check.
+	 * @param message
+	 * 			the reason the test fails.
+	 */
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
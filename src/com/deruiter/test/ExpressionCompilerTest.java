@@ -0,0 +1,345 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Test class for the Boolean expression compiler.
+ * Random expressions with parentheses, exclusive OR's, complements (both ! and ') and don't-care sections are
+ * compiled and their cubes must be true for exactly the assignments the expression is true for. Minimizing the
+ * expression must then give the same primes and solutions as minimizing the sum of products of its cubes through the
+ * string path.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.test;
+
+import com.deruiter.model.algorithm.MinimizationResult;
+import com.deruiter.model.algorithm.MinimizerSession;
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.group.term.cube.Cube;
+import com.deruiter.model.group.term.literal.SymbolTable;
+import com.deruiter.model.input.ExpressionCompiler;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class ExpressionCompilerTest
+{
+	// Number of random expressions checked
+	private static final int EXPRESSION_COUNT = 500;
+
+	// Variables of the expressions (d is left out as "+ d(" opens the don't-care section)
+	private static final String VARIABLES = "abcef";
+
+	// Truth table of every assignment (bit m is the value for assignment m)
+	private static final long ALL_ASSIGNMENTS = (1L << (1 << VARIABLES.length())) - 1;
+
+	// Maximum nesting depth of the expressions
+	private static final int MAX_DEPTH = 4;
+
+	/**
+	 * Runs the test (throws an AssertionError on failure).
+	 *
+	 * @param args
+	 * 			not used.
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		// Local variables
+		Random random = new Random(15);
+		int checkedCount = 0;
+
+		for(int i = 0; i < EXPRESSION_COUNT; i++)
+		{
+			StringBuilder expression = new StringBuilder();
+			StringBuilder dontCareExpression = new StringBuilder();
+			long function = appendExpression(random, expression, MAX_DEPTH);
+			long dontCareFunction = 0;
+
+			if(random.nextInt(3) == 0)
+			{
+				dontCareFunction = appendExpression(random, dontCareExpression, 2);
+			}
+
+			// Skip expressions which are never true or always true (the sum of products could not be written)
+			if(function == 0 || (function | dontCareFunction) == ALL_ASSIGNMENTS)
+			{
+				continue;
+			}
+
+			if(dontCareExpression.length() > 0)
+			{
+				expression.append(" + d(").append(dontCareExpression).append(')');
+			}
+			checkExpression(expression.toString(), function, dontCareFunction);
+			checkedCount++;
+		}
+
+		check(checkedCount > EXPRESSION_COUNT / 2, "only " + checkedCount + " expressions were checked");
+
+		System.out.println("ExpressionCompilerTest passed");
+	}
+
+	/**
+	 * Appends a random expression and finds its truth table.
+	 *
+	 * @param random
+	 * 			the random number generator.
+	 * @param expression
+	 * 			the expression to append to.
+	 * @param depth
+	 * 			the maximum nesting depth left.
+	 * @return the truth table of the appended expression.
+	 */
+	private static long appendExpression(Random random, StringBuilder expression, int depth)
+	{
+		// Local variable
+		int draw = (depth == 0) ? 0 : random.nextInt(8);
+
+		switch(draw)
+		{
+			case 0:
+			case 1:
+				// Literal
+				int variable = random.nextInt(VARIABLES.length());
+				expression.append(VARIABLES.charAt(variable));
+				if(random.nextBoolean())
+				{
+					expression.append('\'');
+					return ~getTruthTable(variable) & ALL_ASSIGNMENTS;
+				}
+				return getTruthTable(variable);
+
+			case 2:
+				// Complement with ! or '
+				boolean isPrefix = random.nextBoolean();
+				expression.append(isPrefix ? "!(" : "(");
+				long operand = appendExpression(random, expression, depth - 1);
+				expression.append(isPrefix ? ")" : ")'");
+				return ~operand & ALL_ASSIGNMENTS;
+
+			case 3:
+				// AND of operands next to each other
+				expression.append('(');
+				long factor1 = appendExpression(random, expression, depth - 1);
+				expression.append(")(");
+				long factor2 = appendExpression(random, expression, depth - 1);
+				expression.append(')');
+				return factor1 & factor2;
+
+			case 4:
+				// AND with *
+				expression.append('(');
+				long operand1 = appendExpression(random, expression, depth - 1);
+				expression.append(" * ");
+				long operand2 = appendExpression(random, expression, depth - 1);
+				expression.append(')');
+				return operand1 & operand2;
+
+			case 5:
+				// Exclusive OR
+				expression.append('(');
+				long left = appendExpression(random, expression, depth - 1);
+				expression.append(" ^ ");
+				long right = appendExpression(random, expression, depth - 1);
+				expression.append(')');
+				return left ^ right;
+
+			default:
+				// OR
+				expression.append('(');
+				long term1 = appendExpression(random, expression, depth - 1);
+				expression.append(" + ");
+				long term2 = appendExpression(random, expression, depth - 1);
+				expression.append(')');
+				return term1 | term2;
+		}
+	}
+
+	/**
+	 * Checks the compiled cubes of an expression against its truth tables, and its primes and solutions against the
+	 * sum of products of its cubes.
+	 *
+	 * @param expression
+	 * 			the expression.
+	 * @param function
+	 * 			the truth table of the expression.
+	 * @param dontCareFunction
+	 * 			the truth table of the don't-care section.
+	 * @throws Exception
+	 */
+	private static void checkExpression(String expression, long function, long dontCareFunction) throws Exception
+	{
+		// Local variables
+		ExpressionCompiler compiler = new ExpressionCompiler(expression);
+		MinimizerSession session = new MinimizerSession();
+
+		compiler.compile();
+		SymbolTable symbolTable = compiler.getSymbolTable();
+		long terms = getTruthTable(compiler.getTerms(), symbolTable);
+		long dontCares = getTruthTable(compiler.getDontCares(), symbolTable);
+
+		check(terms == function, "compiled cubes of " + expression + " are true for " + Long.toHexString(terms)
+				+ " instead of " + Long.toHexString(function));
+		check((terms | dontCares) == (function | dontCareFunction), "compiled don't-care cubes of " + expression
+				+ " are true for " + Long.toHexString(dontCares) + " instead of " + Long.toHexString(dontCareFunction));
+
+		// Minimize the sum of products of the cubes through the string path
+		String sumOfProducts = toSumOfProducts(compiler.getTerms(), symbolTable);
+		if(!compiler.getDontCares().isEmpty())
+		{
+			sumOfProducts += " + d(" + toSumOfProducts(compiler.getDontCares(), symbolTable).replace(" + ", ", ") + ")";
+		}
+
+		MinimizationResult expected = session.minimize(sumOfProducts);
+		MinimizationResult actual = session.minimize(expression);
+
+		check(getPrimes(actual).equals(getPrimes(expected)), "primes of " + expression + " are " + getPrimes(actual)
+				+ " instead of " + getPrimes(expected) + " of " + sumOfProducts);
+		check(new HashSet<String>(actual.getSolutions()).equals(new HashSet<String>(expected.getSolutions())),
+				"solutions of " + expression + " are " + actual.getSolutions() + " instead of "
+				+ expected.getSolutions() + " of " + sumOfProducts);
+	}
+
+	/**
+	 * Retrieves the truth table of a variable.
+	 *
+	 * @param variable
+	 * 			the index of the variable (in VARIABLES).
+	 * @return the truth table of the variable (bit m is set if bit variable of m is set).
+	 */
+	private static long getTruthTable(int variable)
+	{
+		// Local variable
+		long table = 0;
+
+		for(int assignment = 0; assignment < (1 << VARIABLES.length()); assignment++)
+		{
+			if(((assignment >>> variable) & 1) == 1)
+			{
+				table |= 1L << assignment;
+			}
+		}
+
+		return table;
+	}
+
+	/**
+	 * Retrieves the truth table of a sum of cubes.
+	 *
+	 * @param cubes
+	 * 			the cubes.
+	 * @param symbolTable
+	 * 			the symbol table naming the positions of the cubes.
+	 * @return the truth table of the sum of the cubes.
+	 */
+	private static long getTruthTable(List<Cube> cubes, SymbolTable symbolTable)
+	{
+		// Local variable
+		long table = 0;
+
+		for(Cube cube : cubes)
+		{
+			long cubeTable = ALL_ASSIGNMENTS;
+			for(int position = 0; position < cube.getWidth(); position++)
+			{
+				if(!cube.isEliminated(position))
+				{
+					long variableTable = getTruthTable(VARIABLES.indexOf(symbolTable.getName(position)));
+					cubeTable &= cube.isSet(position) ? variableTable : ~variableTable;
+				}
+			}
+			table |= cubeTable;
+		}
+
+		return table;
+	}
+
+	/**
+	 * Forms the sum of products of cubes (written with identifiers if the symbol table does not use single letters).
+	 *
+	 * @param cubes
+	 * 			the cubes.
+	 * @param symbolTable
+	 * 			the symbol table naming the positions of the cubes.
+	 * @return the sum of products (i.e. ab'c + a'b, or a*b'*c + a'*b).
+	 */
+	private static String toSumOfProducts(List<Cube> cubes, SymbolTable symbolTable)
+	{
+		// Local variable
+		StringBuilder sumOfProducts = new StringBuilder();
+
+		for(Cube cube : cubes)
+		{
+			if(sumOfProducts.length() > 0)
+			{
+				sumOfProducts.append(" + ");
+			}
+			boolean isFirstLiteral = true;
+			for(int position = 0; position < cube.getWidth(); position++)
+			{
+				if(!cube.isEliminated(position))
+				{
+					if(!symbolTable.usesSingleLetters() && !isFirstLiteral)
+					{
+						sumOfProducts.append(SymbolTable.AND_OPERATOR);
+					}
+					sumOfProducts.append(symbolTable.getName(position)).append(cube.isSet(position) ? "" : "'");
+					isFirstLiteral = false;
+				}
+			}
+		}
+
+		return sumOfProducts.toString();
+	}
+
+	/**
+	 * Retrieves the primes of a result in regular form (without eliminated variables, so the number of variables of
+	 * the result does not matter).
+	 *
+	 * @param result
+	 * 			the result of a minimization.
+	 * @return the regular forms of the primes.
+	 */
+	private static Set<String> getPrimes(MinimizationResult result)
+	{
+		// Local variable
+		Set<String> primes = new HashSet<String>();
+
+		for(Term prime : result.getPrimes())
+		{
+			primes.add(prime.getRegularForm().replace("-", ""));
+		}
+
+		return primes;
+	}
+
+	/**
+	 * Fails the test if a condition does not hold.
+	 *
+	 * @param condition
+	 * 			the condition to check.
+	 * @param message
+	 * 			the reason the test fails.
+	 */
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
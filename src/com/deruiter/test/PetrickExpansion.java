@@ -0,0 +1,166 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Test class for finding every minimum cost cover of an unreduced prime implicant chart.
+ * The product of sums of the whole chart is multiplied out (with absorption) without any chart reduction, so the
+ * covers found by the minimizer can be checked against every minimum cover there is.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.test;
+
+import com.deruiter.model.algorithm.CostModel;
+import com.deruiter.model.algorithm.MinimizationResult;
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.report.PrimeImplicantChart;
+import com.deruiter.utilities.Bits;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class PetrickExpansion
+{
+	/**
+	 * Finds every minimum cost cover of a chart by multiplying out its whole product of sums.
+	 *
+	 * @param chart
+	 * 			the unreduced prime implicant chart.
+	 * @param costModel
+	 * 			the cost model the covers are ranked by.
+	 * @return every minimum cost cover (each a set of chart rows).
+	 */
+	public static Set<BitSet> findMinimumCovers(PrimeImplicantChart chart, CostModel costModel)
+	{
+		// Local variables
+		long[] rowCosts = costModel.getRowCosts(chart);
+		List<BitSet> products = new ArrayList<BitSet>();
+		Set<BitSet> minimumCovers = new HashSet<BitSet>();
+		long minCost = Long.MAX_VALUE;
+
+		products.add(new BitSet());
+
+		// Multiply the product by the sum of each column's rows
+		for(int col = 0; col < chart.getColumnCount(); col++)
+		{
+			List<BitSet> nextProducts = new ArrayList<BitSet>();
+			long[] columnRows = chart.getColumn(col);
+
+			for(BitSet product : products)
+			{
+				for(int row = Bits.nextSetBit(columnRows, 0); row != -1; row = Bits.nextSetBit(columnRows, row + 1))
+				{
+					BitSet nextProduct = (BitSet) product.clone();
+					nextProduct.set(row);
+					nextProducts.add(nextProduct);
+				}
+			}
+
+			products = absorb(nextProducts);
+		}
+
+		for(BitSet product : products)
+		{
+			long cost = 0;
+			for(int row = product.nextSetBit(0); row != -1; row = product.nextSetBit(row + 1))
+			{
+				cost += rowCosts[row];
+			}
+
+			if(cost < minCost)
+			{
+				minCost = cost;
+				minimumCovers.clear();
+			}
+			if(cost == minCost)
+			{
+				minimumCovers.add(product);
+			}
+		}
+
+		return minimumCovers;
+	}
+
+	/**
+	 * Retrieves every solution of a result as a set of rows of its prime implicant chart.
+	 *
+	 * @param result
+	 * 			the result of a minimization.
+	 * @return the chart rows of each solution.
+	 */
+	public static Set<BitSet> getSolutionCovers(MinimizationResult result)
+	{
+		// Local variables
+		List<Term> primes = result.getPrimeImplicantChart().getPrimes();
+		Set<BitSet> covers = new HashSet<BitSet>();
+
+		for(int i = 0; i < result.getSolutionCount(); i++)
+		{
+			BitSet cover = new BitSet();
+			for(Term term : result.getCover(i))
+			{
+				// Match by identity (the same cube may be found more than once from expression input)
+				for(int row = 0; row < primes.size(); row++)
+				{
+					if(primes.get(row) == term)
+					{
+						cover.set(row);
+					}
+				}
+			}
+			covers.add(cover);
+		}
+
+		return covers;
+	}
+
+	/**
+	 * Removes duplicate products and every product containing another product.
+	 *
+	 * @param products
+	 * 			the products to absorb.
+	 * @return the products left.
+	 */
+	private static List<BitSet> absorb(List<BitSet> products)
+	{
+		// Local variables
+		List<BitSet> uniqueProducts = new ArrayList<BitSet>(new HashSet<BitSet>(products));
+		List<BitSet> absorbedProducts = new ArrayList<BitSet>();
+
+		for(BitSet product : uniqueProducts)
+		{
+			boolean isAbsorbed = false;
+			for(int i = 0; i < uniqueProducts.size() && !isAbsorbed; i++)
+			{
+				BitSet other = uniqueProducts.get(i);
+				if(other != product && other.cardinality() < product.cardinality())
+				{
+					BitSet remaining = (BitSet) other.clone();
+					remaining.andNot(product);
+					isAbsorbed = remaining.isEmpty();
+				}
+			}
+
+			if(!isAbsorbed)
+			{
+				absorbedProducts.add(product);
+			}
+		}
+
+		return absorbedProducts;
+	}
+}
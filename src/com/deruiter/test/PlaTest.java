@@ -0,0 +1,243 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Test class for reading and writing PLA files.
+ * On small random functions, a PLA file of the minterms and don't-care terms (read from a stream and from a mapped
+ * file) must give the same primes as the minterm input. A minimal cover written by the PLA writer and read back must
+ * give the same primes as the sum of products of the cover (both start from the cubes of the cover rather than from
+ * minterms).
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.test;
+
+import com.deruiter.model.algorithm.MinimizationResult;
+import com.deruiter.model.algorithm.MinimizerSession;
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.group.term.literal.SymbolTable;
+import com.deruiter.model.input.PlaReader;
+import com.deruiter.model.output.PlaWriter;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class PlaTest
+{
+	// Number of random functions checked
+	private static final int FUNCTION_COUNT = 200;
+
+	/**
+	 * Runs the test (throws an AssertionError on failure).
+	 *
+	 * @param args
+	 * 			not used.
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		// Local variables
+		Random random = new Random(16);
+		Path plaFile = Files.createTempFile("qmbes", ".pla");
+
+		try
+		{
+			for(int i = 0; i < FUNCTION_COUNT; i++)
+			{
+				int variableCount = 2 + random.nextInt(5);
+				List<Long> minterms = new ArrayList<Long>();
+				List<Long> dontCares = new ArrayList<Long>();
+
+				// Roughly half of the minterms on and a few don't-cares
+				for(long minterm = 0; minterm < (1L << variableCount); minterm++)
+				{
+					int draw = random.nextInt(10);
+					if(draw < 5)
+					{
+						minterms.add(minterm);
+					}
+					else if(draw < 6)
+					{
+						dontCares.add(minterm);
+					}
+				}
+				if(minterms.isEmpty())
+				{
+					continue;
+				}
+
+				checkReader(toArray(minterms), toArray(dontCares), variableCount, plaFile);
+				checkRoundTrip(toArray(minterms), variableCount);
+			}
+		}
+		finally
+		{
+			Files.delete(plaFile);
+		}
+
+		System.out.println("PlaTest passed");
+	}
+
+	/**
+	 * Checks the primes of a PLA file of minterms and don't-care terms against the primes of the minterm input.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers of the function.
+	 * @param dontCares
+	 * 			the don't-care minterm numbers of the function.
+	 * @param variableCount
+	 * 			the number of variables.
+	 * @param plaFile
+	 * 			the file to write the PLA file to for the mapped reader.
+	 * @throws Exception
+	 */
+	private static void checkReader(long[] minterms, long[] dontCares, int variableCount, Path plaFile)
+			throws Exception
+	{
+		// Local variables
+		MinimizerSession session = new MinimizerSession();
+		StringBuilder pla = new StringBuilder();
+
+		pla.append(".i ").append(variableCount).append("\n.o 1\n.type fd\n");
+		appendLines(pla, minterms, variableCount, '1');
+		appendLines(pla, dontCares, variableCount, '-');
+		pla.append(".e\n");
+		Files.write(plaFile, pla.toString().getBytes(StandardCharsets.US_ASCII));
+
+		Set<String> expected = getPrimes(session.minimize(minterms, dontCares, variableCount));
+		Set<String> streamed = getPrimes(session.minimize(new PlaReader(new StringReader(pla.toString()))));
+		Set<String> mapped = getPrimes(session.minimize(new PlaReader(plaFile)));
+
+		check(streamed.equals(expected), "PLA stream gave primes " + streamed + " instead of " + expected + " for\n"
+				+ pla);
+		check(mapped.equals(expected), "mapped PLA file gave primes " + mapped + " instead of " + expected + " for\n"
+				+ pla);
+	}
+
+	/**
+	 * Checks the primes of a minimal cover written to a PLA file and read back against the primes of its sum of
+	 * products.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers of the function.
+	 * @param variableCount
+	 * 			the number of variables.
+	 * @throws Exception
+	 */
+	private static void checkRoundTrip(long[] minterms, int variableCount) throws Exception
+	{
+		// Local variables
+		MinimizerSession session = new MinimizerSession();
+		StringWriter pla = new StringWriter();
+
+		MinimizationResult result = session.minimize(minterms, null, variableCount);
+		String cover = result.getSolutions().get(0);
+		new PlaWriter(pla).write(result.getCover(0), new SymbolTable(variableCount), "f");
+
+		Set<String> expected = getPrimes(session.minimize(cover));
+		Set<String> roundTripped = getPrimes(session.minimize(new PlaReader(new StringReader(pla.toString()))));
+
+		check(roundTripped.equals(expected), "round-tripped PLA file gave primes " + roundTripped + " instead of "
+				+ expected + " for " + cover);
+	}
+
+	/**
+	 * Appends a cube line for each minterm to a PLA file.
+	 *
+	 * @param pla
+	 * 			the PLA file.
+	 * @param minterms
+	 * 			the minterm numbers.
+	 * @param variableCount
+	 * 			the number of variables.
+	 * @param outputChar
+	 * 			the output character of the lines.
+	 */
+	private static void appendLines(StringBuilder pla, long[] minterms, int variableCount, char outputChar)
+	{
+		for(long minterm : minterms)
+		{
+			for(int position = 0; position < variableCount; position++)
+			{
+				pla.append(((minterm >>> (variableCount - 1 - position)) & 1) == 1 ? '1' : '0');
+			}
+			pla.append(' ').append(outputChar).append('\n');
+		}
+	}
+
+	/**
+	 * Retrieves the primes of a result in regular form (without eliminated variables, so the number of variables of
+	 * the result does not matter).
+	 *
+	 * @param result
+	 * 			the result of a minimization.
+	 * @return the regular forms of the primes.
+	 */
+	private static Set<String> getPrimes(MinimizationResult result)
+	{
+		// Local variable
+		Set<String> primes = new HashSet<String>();
+
+		for(Term prime : result.getPrimes())
+		{
+			primes.add(prime.getRegularForm().replace("-", ""));
+		}
+
+		return primes;
+	}
+
+	/**
+	 * Converts a list of minterm numbers to an array.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers.
+	 * @return the minterm numbers in an array.
+	 */
+	private static long[] toArray(List<Long> minterms)
+	{
+		// Local variable
+		long[] array = new long[minterms.size()];
+
+		for(int i = 0; i < array.length; i++)
+		{
+			array[i] = minterms.get(i);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Fails the test if a condition does not hold.
+	 *
+	 * @param condition
+	 * 			the condition to check.
+	 * @param message
+	 * 			the reason the test fails.
+	 */
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
@@ -0,0 +1,231 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Test class for bitmap truth table input.
+ * On random functions (from a single byte table up to tables of several words), every output of a pair of mapped
+ * table files holding two outputs must give the same primes and solution as the minterm input of that output.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.test;
+
+import com.deruiter.model.algorithm.CoverMode;
+import com.deruiter.model.algorithm.MinimizationResult;
+import com.deruiter.model.algorithm.MinimizerSession;
+import com.deruiter.model.group.term.Term;
+import com.deruiter.model.input.TruthTableInput;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+public class TruthTableInputTest
+{
+	// Number of random functions checked per number of variables
+	private static final int FUNCTION_COUNT = 20;
+
+	// Number of outputs in each table file
+	private static final int OUTPUT_COUNT = 2;
+
+	/**
+	 * Runs the test (throws an AssertionError on failure).
+	 *
+	 * @param args
+	 * 			not used.
+	 * @throws Exception
+	 */
+	public static void main(String[] args) throws Exception
+	{
+		// Local variables
+		Random random = new Random(17);
+		Path onSetFile = Files.createTempFile("qmbes", ".on");
+		Path dontCareFile = Files.createTempFile("qmbes", ".dc");
+
+		try
+		{
+			for(int variableCount = 1; variableCount <= 9; variableCount++)
+			{
+				for(int i = 0; i < FUNCTION_COUNT; i++)
+				{
+					checkOutputs(random, variableCount, onSetFile, dontCareFile);
+				}
+			}
+		}
+		finally
+		{
+			Files.delete(onSetFile);
+			Files.delete(dontCareFile);
+		}
+
+		System.out.println("TruthTableInputTest passed");
+	}
+
+	/**
+	 * Checks every output of a pair of random table files against the minterm input of the output.
+	 *
+	 * @param random
+	 * 			the random number generator.
+	 * @param variableCount
+	 * 			the number of variables.
+	 * @param onSetFile
+	 * 			the file to write the tables of the functions to.
+	 * @param dontCareFile
+	 * 			the file to write the tables of the don't-care terms to.
+	 * @throws Exception
+	 */
+	private static void checkOutputs(Random random, int variableCount, Path onSetFile, Path dontCareFile)
+			throws Exception
+	{
+		// Local variables
+		int tableBytes = Math.max(1, (1 << variableCount) >>> 3);
+		byte[] onSetTables = new byte[tableBytes * OUTPUT_COUNT];
+		byte[] dontCareTables = new byte[tableBytes * OUTPUT_COUNT];
+		List<long[]> minterms = new ArrayList<long[]>();
+		List<long[]> dontCares = new ArrayList<long[]>();
+
+		// Roughly half of the minterms on and a few don't-cares (drawn again until the output has a minterm)
+		for(int output = 0; output < OUTPUT_COUNT; output++)
+		{
+			List<Long> outputMinterms = new ArrayList<Long>();
+			List<Long> outputDontCares = new ArrayList<Long>();
+
+			while(outputMinterms.isEmpty())
+			{
+				outputDontCares.clear();
+				for(long minterm = 0; minterm < (1L << variableCount); minterm++)
+				{
+					int draw = random.nextInt(10);
+					if(draw < 5)
+					{
+						outputMinterms.add(minterm);
+					}
+					else if(draw < 6)
+					{
+						outputDontCares.add(minterm);
+					}
+				}
+			}
+
+			minterms.add(toArray(outputMinterms));
+			dontCares.add(toArray(outputDontCares));
+			setBits(onSetTables, output * tableBytes, minterms.get(output));
+			setBits(dontCareTables, output * tableBytes, dontCares.get(output));
+		}
+
+		Files.write(onSetFile, onSetTables);
+		Files.write(dontCareFile, dontCareTables);
+
+		for(int output = 0; output < OUTPUT_COUNT; output++)
+		{
+			MinimizerSession session = new MinimizerSession();
+			TruthTableInput input = new TruthTableInput(onSetFile, dontCareFile, variableCount);
+
+			// Only the input is tested, so the cover is found greedily (an exact cover takes too long for large tables)
+			session.setCoverMode(CoverMode.GREEDY);
+			input.setOutput(output);
+			MinimizationResult tableResult = session.minimize(input);
+			Set<String> tablePrimes = getPrimes(tableResult);
+			Set<String> tableSolutions = new HashSet<String>(tableResult.getSolutions());
+
+			MinimizationResult mintermResult = session.minimize(minterms.get(output), dontCares.get(output),
+					variableCount);
+			Set<String> mintermPrimes = getPrimes(mintermResult);
+			Set<String> mintermSolutions = new HashSet<String>(mintermResult.getSolutions());
+
+			check(tablePrimes.equals(mintermPrimes), "output " + output + " of the table gave primes " + tablePrimes
+					+ " instead of " + mintermPrimes + " for " + variableCount + " variables");
+			check(tableSolutions.equals(mintermSolutions), "output " + output + " of the table gave solutions "
+					+ tableSolutions + " instead of " + mintermSolutions + " for " + variableCount + " variables");
+		}
+	}
+
+	/**
+	 * Sets the bits of minterms in a table (bit m is bit (m % 8) of byte (m / 8)).
+	 *
+	 * @param tables
+	 * 			the bytes of the tables.
+	 * @param offset
+	 * 			the byte the table starts at.
+	 * @param minterms
+	 * 			the minterm numbers.
+	 */
+	private static void setBits(byte[] tables, int offset, long[] minterms)
+	{
+		for(long minterm : minterms)
+		{
+			tables[offset + (int) (minterm >>> 3)] |= (byte) (1 << (minterm & 7));
+		}
+	}
+
+	/**
+	 * Retrieves the primes of a result in bit form.
+	 *
+	 * @param result
+	 * 			the result of a minimization.
+	 * @return the bit forms of the primes.
+	 */
+	private static Set<String> getPrimes(MinimizationResult result)
+	{
+		// Local variable
+		Set<String> primes = new HashSet<String>();
+
+		for(Term prime : result.getPrimes())
+		{
+			primes.add(prime.getCube().toBitString());
+		}
+
+		return primes;
+	}
+
+	/**
+	 * Converts a list of minterm numbers to an array.
+	 *
+	 * @param minterms
+	 * 			the minterm numbers.
+	 * @return the minterm numbers in an array.
+	 */
+	private static long[] toArray(List<Long> minterms)
+	{
+		// Local variable
+		long[] array = new long[minterms.size()];
+
+		for(int i = 0; i < array.length; i++)
+		{
+			array[i] = minterms.get(i);
+		}
+
+		return array;
+	}
+
+	/**
+	 * Fails the test if a condition does not hold.
+	 *
+	 * @param condition
+	 * 			the condition to check.
+	 * @param message
+	 * 			the reason the test fails.
+	 */
+	private static void check(boolean condition, String message)
+	{
+		if(!condition)
+		{
+			throw new AssertionError(message);
+		}
+	}
+}
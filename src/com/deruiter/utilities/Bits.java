@@ -0,0 +1,234 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Utility class for bitsets stored as arrays of long words.
+ * Bit i is stored in word i / 64 at position i % 64.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.utilities;
+
+public class Bits
+{
+	/**
+	 * Creates an empty bitset.
+	 *
+	 * @param size
+	 * 			the number of bits the bitset must be able to hold.
+	 * @return an empty bitset.
+	 */
+	public static long[] create(int size)
+	{
+		return new long[(size + Long.SIZE - 1) / Long.SIZE];
+	}
+
+	/**
+	 * Sets a bit.
+	 *
+	 * @param words
+	 * 			the bitset.
+	 * @param index
+	 * 			the index of the bit to set.
+	 */
+	public static void set(long[] words, int index)
+	{
+		words[index >>> 6] |= 1L << index;
+	}
+
+	/**
+	 * Clears a bit.
+	 *
+	 * @param words
+	 * 			the bitset.
+	 * @param index
+	 * 			the index of the bit to clear.
+	 */
+	public static void clear(long[] words, int index)
+	{
+		words[index >>> 6] &= ~(1L << index);
+	}
+
+	/**
+	 * Determines whether a bit is set.
+	 *
+	 * @param words
+	 * 			the bitset.
+	 * @param index
+	 * 			the index of the bit.
+	 * @return whether the bit is set.
+	 */
+	public static boolean get(long[] words, int index)
+	{
+		return (words[index >>> 6] & (1L << index)) != 0;
+	}
+
+	/**
+	 * Counts the bits that are set.
+	 *
+	 * @param words
+	 * 			the bitset.
+	 * @return the number of bits that are set.
+	 */
+	public static int cardinality(long[] words)
+	{
+		int count = 0;
+		for(long word : words)
+		{
+			count += Long.bitCount(word);
+		}
+		return count;
+	}
+
+	/**
+	 * Finds the next bit that is set.
+	 *
+	 * @param words
+	 * 			the bitset.
+	 * @param fromIndex
+	 * 			the index to start looking from (inclusive).
+	 * @return the index of the next bit that is set, or -1 if there is none.
+	 */
+	public static int nextSetBit(long[] words, int fromIndex)
+	{
+		int wordIndex = fromIndex >>> 6;
+		if(wordIndex >= words.length)
+		{
+			return -1;
+		}
+
+		long word = words[wordIndex] & (-1L << fromIndex);
+		while(true)
+		{
+			if(word != 0)
+			{
+				return wordIndex * Long.SIZE + Long.numberOfTrailingZeros(word);
+			}
+			if(++wordIndex == words.length)
+			{
+				return -1;
+			}
+			word = words[wordIndex];
+		}
+	}
+
+	/**
+	 * Determines whether no bits are set.
+	 *
+	 * @param words
+	 * 			the bitset.
+	 * @return whether no bits are set.
+	 */
+	public static boolean isEmpty(long[] words)
+	{
+		for(long word : words)
+		{
+			if(word != 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Sets every bit of a bitset that is set in another bitset.
+	 *
+	 * @param target
+	 * 			the bitset to modify.
+	 * @param source
+	 * 			the bitset whose bits to set (same length as the target).
+	 */
+	public static void or(long[] target, long[] source)
+	{
+		for(int i = 0; i < target.length; i++)
+		{
+			target[i] |= source[i];
+		}
+	}
+
+	/**
+	 * Determines whether every bit set in one bitset is also set in another bitset.
+	 *
+	 * @param subset
+	 * 			the possible subset.
+	 * @param superset
+	 * 			the possible superset (same length as the subset).
+	 * @return whether the first bitset is a subset of the second bitset.
+	 */
+	public static boolean isSubset(long[] subset, long[] superset)
+	{
+		for(int i = 0; i < subset.length; i++)
+		{
+			if((subset[i] & ~superset[i]) != 0)
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Determines whether two bitsets have at least one bit set in common.
+	 *
+	 * @param words1
+	 * 			the first bitset.
+	 * @param words2
+	 * 			the second bitset (same length as the first).
+	 * @return whether the bitsets intersect.
+	 */
+	public static boolean intersects(long[] words1, long[] words2)
+	{
+		for(int i = 0; i < words1.length; i++)
+		{
+			if((words1[i] & words2[i]) != 0)
+			{
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Intersects a bitset with another bitset.
+	 *
+	 * @param target
+	 * 			the bitset to modify.
+	 * @param source
+	 * 			the bitset to intersect with (same length as the target).
+	 */
+	public static void and(long[] target, long[] source)
+	{
+		for(int i = 0; i < target.length; i++)
+		{
+			target[i] &= source[i];
+		}
+	}
+
+	/**
+	 * Removes the bits of another bitset from a bitset.
+	 *
+	 * @param target
+	 * 			the bitset to modify.
+	 * @param source
+	 * 			the bitset of bits to remove (same length as the target).
+	 */
+	public static void andNot(long[] target, long[] source)
+	{
+		for(int i = 0; i < target.length; i++)
+		{
+			target[i] &= ~source[i];
+		}
+	}
+}
@@ -0,0 +1,111 @@
+/**********************************************************************************************************************
+ *
+ * WARNING:
+ * Copyright Ⓒ 2016 by D.DeRuiter
+ * Do not use, modify, or distribute in any way without express written consent.
+ *
+ * PROJECT:
+ * QMBES (Quine McCluskey Boolean Expression Simplifier)
+ *
+ * DESCRIPTION:
+ * Utility class for cooperative cancellation.
+ * A cancellation token is shared between the thread running a minimization and any thread that may want to stop it.
+ * The run checks the token between units of work and stops by throwing a MinimizationCancelledException once the
+ * token has been cancelled or its deadline has passed.
+ *
+ * SOFTWARE HISTORY:
+ * Date          Developer      Modification
+ * ----------    -----------    ------------
+ * 10/17/2026    D. DeRuiter    Initial coding.
+ *
+ **********************************************************************************************************************/
+
+package com.deruiter.utilities;
+
+import com.deruiter.model.exception.MinimizationCancelledException;
+
+import java.util.concurrent.TimeUnit;
+
+public class CancellationToken
+{
+	// Class variable
+	public static final CancellationToken NONE = new CancellationToken(); // Never checked as cancelled
+
+	// Instance variables
+	private volatile boolean isCancelled;
+	private final boolean hasDeadline;
+	private final long deadline;
+
+	/**
+	 * Constructor for a cancellation token without a deadline.
+	 */
+	public CancellationToken()
+	{
+		this.hasDeadline = false;
+		this.deadline = 0;
+	}
+
+	/**
+	 * Constructor for a cancellation token with a deadline.
+	 *
+	 * @param timeout
+	 * 			the time from now after which the token counts as cancelled.
+	 * @param unit
+	 * 			the unit of the timeout.
+	 */
+	public CancellationToken(long timeout, TimeUnit unit)
+	{
+		this.hasDeadline = true;
+		this.deadline = System.nanoTime() + unit.toNanos(timeout);
+	}
+
+	/**
+	 * Cancels the token (the run checking it stops at its next check).
+	 */
+	public void cancel()
+	{
+		if(this == NONE)
+		{
+			throw new UnsupportedOperationException("The shared token without cancellation can not be cancelled.");
+		}
+		isCancelled = true;
+	}
+
+	/**
+	 * Determines whether the token has been cancelled or its deadline has passed.
+	 *
+	 * @return whether the run checking the token should stop.
+	 */
+	public boolean isCancelled()
+	{
+		return isCancelled || hasTimedOut();
+	}
+
+	/**
+	 * Stops the run checking the token if the token has been cancelled or its deadline has passed.
+	 *
+	 * @throws MinimizationCancelledException
+	 * 			if the run should stop.
+	 */
+	public void throwIfCancelled()
+	{
+		if(isCancelled)
+		{
+			throw new MinimizationCancelledException(false);
+		}
+		if(hasTimedOut())
+		{
+			throw new MinimizationCancelledException(true);
+		}
+	}
+
+	/**
+	 * Determines whether the deadline (if any) has passed.
+	 *
+	 * @return whether the deadline has passed.
+	 */
+	private boolean hasTimedOut()
+	{
+		return hasDeadline && System.nanoTime() - deadline >= 0;
+	}
+}